@@ -0,0 +1,22 @@
+package br.com.gama.cupon.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+public class ArchiveCouponsCommand {
+    // Cupons deletados antes deste instante são arquivados
+    private LocalDateTime deletedBefore;
+    // Cupons ainda ativos que expiraram antes desta data também são arquivados; nulo desliga
+    private LocalDate expiredBefore;
+    private int batchSize;
+    private int maxBatches;
+    private Duration pauseBetweenBatches;
+}
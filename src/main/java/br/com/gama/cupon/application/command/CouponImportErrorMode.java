@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.command;
+
+public enum CouponImportErrorMode {
+    // Interrompe a importação na primeira falha; lotes já confirmados permanecem gravados
+    STOP_ON_ERROR,
+    // Ignora as linhas com falha, segue até o fim do arquivo e reporta cada erro
+    SKIP_AND_REPORT
+}
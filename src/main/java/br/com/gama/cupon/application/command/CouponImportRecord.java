@@ -0,0 +1,15 @@
+package br.com.gama.cupon.application.command;
+
+/**
+ * Uma linha lida do arquivo de importação: o comando já convertido ou o erro de leitura/parse daquela linha.
+ */
+public record CouponImportRecord(long lineNumber, CreateCouponCommand command, String error) {
+
+    public static CouponImportRecord parsed(long lineNumber, CreateCouponCommand command) {
+        return new CouponImportRecord(lineNumber, command, null);
+    }
+
+    public static CouponImportRecord unparseable(long lineNumber, String error) {
+        return new CouponImportRecord(lineNumber, null, error);
+    }
+}
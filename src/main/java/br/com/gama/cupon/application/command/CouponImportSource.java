@@ -0,0 +1,18 @@
+package br.com.gama.cupon.application.command;
+
+import java.io.IOException;
+
+/**
+ * Fonte de registros lida sob demanda (uma linha por chamada), para que a importação nunca precise
+ * manter o arquivo inteiro em memória. Implementada pelos parsers de formato na camada web.
+ */
+public interface CouponImportSource extends AutoCloseable {
+
+    /**
+     * @return o próximo registro, ou {@code null} quando o arquivo terminar
+     */
+    CouponImportRecord next() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
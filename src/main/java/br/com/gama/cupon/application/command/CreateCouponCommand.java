@@ -16,4 +16,5 @@ public class CreateCouponCommand {
     private BigDecimal discountValue;
     private LocalDate expirationDate;
     private boolean published;
+    private Integer maxUses;
 }
@@ -0,0 +1,22 @@
+package br.com.gama.cupon.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+public class ExpireCouponsCommand {
+    // Cupons com expiração anterior a esta data são considerados expirados
+    private LocalDate referenceDate;
+    // Cupons por transação
+    private int batchSize;
+    // Limite de lotes por execução; o restante fica para a próxima
+    private int maxBatches;
+    // Pausa entre lotes, para limitar a taxa de escrita
+    private Duration pauseBetweenBatches;
+}
@@ -0,0 +1,24 @@
+package br.com.gama.cupon.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+public class GenerateCouponCodesCommand {
+    // Quantidade de cupons a criar, cada um com um código gerado
+    private long count;
+    private String description;
+    private BigDecimal discountValue;
+    private LocalDate expirationDate;
+    private boolean published;
+    // Limite de resgates de cada cupom gerado; null para ilimitado
+    private Integer maxUses;
+    // Códigos por transação de escrita
+    private int chunkSize;
+}
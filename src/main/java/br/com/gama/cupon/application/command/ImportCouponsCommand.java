@@ -0,0 +1,23 @@
+package br.com.gama.cupon.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class ImportCouponsCommand {
+    private String importId;
+    private CouponImportSource source;
+    private CouponImportErrorMode errorMode;
+    // Cupons por transação de escrita
+    private int batchSize;
+    // Capacidade de cada fila entre os estágios (parse -> validação -> escrita)
+    private int queueCapacity;
+    private int validatorThreads;
+    // Limite de erros detalhados no relatório; os demais só entram na contagem
+    private int maxReportedErrors;
+    // Executa os estágios em virtual threads em vez de threads de plataforma
+    private boolean virtualThreads;
+}
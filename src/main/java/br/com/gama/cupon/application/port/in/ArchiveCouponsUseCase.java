@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.ArchiveCouponsCommand;
+import br.com.gama.cupon.application.query.CouponArchiveReport;
+
+public interface ArchiveCouponsUseCase {
+    CouponArchiveReport archiveCoupons(ArchiveCouponsCommand command);
+}
@@ -0,0 +1,10 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.query.BatchCreateCouponsResponse;
+
+import java.util.List;
+
+public interface CreateCouponsInBatchUseCase {
+    BatchCreateCouponsResponse createCoupons(List<CreateCouponCommand> commands);
+}
@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.ExpireCouponsCommand;
+import br.com.gama.cupon.application.query.CouponExpirationReport;
+
+public interface ExpireCouponsUseCase {
+    CouponExpirationReport expireCoupons(ExpireCouponsCommand command);
+}
@@ -0,0 +1,10 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+
+import java.util.function.Consumer;
+
+public interface ExportCouponsUseCase {
+    // Entrega os cupons ativos ao consumidor um a um, na mesma transação de leitura
+    void exportCoupons(Consumer<CouponResponse> sink);
+}
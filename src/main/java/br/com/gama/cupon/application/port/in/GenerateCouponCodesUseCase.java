@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.GenerateCouponCodesCommand;
+import br.com.gama.cupon.application.query.CouponCodeGenerationReport;
+
+public interface GenerateCouponCodesUseCase {
+    CouponCodeGenerationReport generateCoupons(GenerateCouponCodesCommand command);
+}
@@ -0,0 +1,9 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+
+import java.util.UUID;
+
+public interface GetArchivedCouponUseCase {
+    CouponResponse getArchivedCoupon(UUID id);
+}
@@ -0,0 +1,12 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.query.CouponImportReport;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GetCouponImportProgressUseCase {
+    Optional<CouponImportReport> getProgress(String importId);
+
+    List<CouponImportReport> listImports();
+}
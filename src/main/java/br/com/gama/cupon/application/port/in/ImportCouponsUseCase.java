@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.ImportCouponsCommand;
+import br.com.gama.cupon.application.query.CouponImportReport;
+
+public interface ImportCouponsUseCase {
+    CouponImportReport importCoupons(ImportCouponsCommand command);
+}
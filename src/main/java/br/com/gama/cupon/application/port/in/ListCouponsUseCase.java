@@ -0,0 +1,8 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.query.CouponPageResponse;
+import br.com.gama.cupon.application.query.ListCouponsQuery;
+
+public interface ListCouponsUseCase {
+    CouponPageResponse listCoupons(ListCouponsQuery query);
+}
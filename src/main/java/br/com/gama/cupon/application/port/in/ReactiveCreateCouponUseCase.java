@@ -0,0 +1,9 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.query.CouponResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreateCouponUseCase {
+    Mono<CouponResponse> createCoupon(CreateCouponCommand command);
+}
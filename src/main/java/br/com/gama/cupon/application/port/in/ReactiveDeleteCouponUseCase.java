@@ -0,0 +1,9 @@
+package br.com.gama.cupon.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveDeleteCouponUseCase {
+    Mono<Void> deleteCoupon(UUID id);
+}
@@ -0,0 +1,7 @@
+package br.com.gama.cupon.application.port.in;
+
+import br.com.gama.cupon.application.query.CouponValidationResponse;
+
+public interface ValidateCouponUseCase {
+    CouponValidationResponse validateCoupon(String code);
+}
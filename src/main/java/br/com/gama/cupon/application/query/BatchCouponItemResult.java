@@ -0,0 +1,42 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class BatchCouponItemResult {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private int index;
+    private String code;
+    private Status status;
+    private UUID id;
+    private String error;
+
+    public static BatchCouponItemResult created(int index, String code, UUID id) {
+        return BatchCouponItemResult.builder()
+                .index(index)
+                .code(code)
+                .status(Status.CREATED)
+                .id(id)
+                .build();
+    }
+
+    public static BatchCouponItemResult rejected(int index, String code, String error) {
+        return BatchCouponItemResult.builder()
+                .index(index)
+                .code(code)
+                .status(Status.REJECTED)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class BatchCreateCouponsResponse {
+    private int total;
+    private int created;
+    private int rejected;
+    private List<BatchCouponItemResult> items;
+
+    public static BatchCreateCouponsResponse of(List<BatchCouponItemResult> items) {
+        int created = (int) items.stream().filter(item -> item.getStatus() == BatchCouponItemResult.Status.CREATED).count();
+        return BatchCreateCouponsResponse.builder()
+                .total(items.size())
+                .created(created)
+                .rejected(items.size() - created)
+                .items(items)
+                .build();
+    }
+}
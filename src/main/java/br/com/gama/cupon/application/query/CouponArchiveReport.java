@@ -0,0 +1,15 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class CouponArchiveReport {
+    private long archived;
+    private int batches;
+    // true quando a execução parou no limite de lotes e ainda pode haver cupons a arquivar
+    private boolean truncated;
+}
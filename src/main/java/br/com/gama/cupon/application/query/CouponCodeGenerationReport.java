@@ -0,0 +1,20 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class CouponCodeGenerationReport {
+    private long requested;
+    private long created;
+    // Códigos da sequência pulados por já pertencerem a cupons ativos
+    private long skippedActive;
+    // Faixa de índices da sequência consumida por esta geração: [firstIndex, nextIndex)
+    private long firstIndex;
+    private long nextIndex;
+    // A faixa de índices do nó acabou antes de atingir a quantidade pedida
+    private boolean exhausted;
+}
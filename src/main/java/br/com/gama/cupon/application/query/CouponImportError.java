@@ -0,0 +1,4 @@
+package br.com.gama.cupon.application.query;
+
+public record CouponImportError(long lineNumber, String code, String message) {
+}
@@ -0,0 +1,33 @@
+package br.com.gama.cupon.application.query;
+
+import br.com.gama.cupon.application.command.CouponImportErrorMode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class CouponImportReport {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        STOPPED,
+        FAILED
+    }
+
+    private String importId;
+    private Status status;
+    private CouponImportErrorMode errorMode;
+    private long read;
+    private long created;
+    private long rejected;
+    private List<CouponImportError> errors;
+    private boolean errorsTruncated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,17 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class CouponPageResponse {
+    private List<CouponResponse> items;
+    private int limit;
+    // Nulo quando não há próxima página
+    private String nextCursor;
+}
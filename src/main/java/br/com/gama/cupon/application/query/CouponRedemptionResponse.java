@@ -0,0 +1,32 @@
+package br.com.gama.cupon.application.query;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class CouponRedemptionResponse {
+    private UUID couponId;
+    private String code;
+    private BigDecimal discountValue;
+    private LocalDateTime redeemedAt;
+    // Usos que restam depois deste resgate; null para cupom ilimitado
+    private Long remainingUses;
+
+    public static CouponRedemptionResponse fromDomain(Coupon coupon, LocalDateTime redeemedAt, Long remainingUses) {
+        return CouponRedemptionResponse.builder()
+                .couponId(coupon.getId())
+                .code(coupon.getCode().getValue())
+                .discountValue(coupon.getDiscountValue().getValue())
+                .redeemedAt(redeemedAt)
+                .remainingUses(remainingUses)
+                .build();
+    }
+}
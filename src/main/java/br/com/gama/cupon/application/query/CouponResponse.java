@@ -21,6 +21,7 @@ public class CouponResponse {
     private LocalDate expirationDate;
     private boolean published;
     private boolean deleted;
+    private Integer maxUses;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -33,6 +34,7 @@ public class CouponResponse {
                 .expirationDate(coupon.getExpirationDate().getValue())
                 .published(coupon.isPublished())
                 .deleted(coupon.isDeleted())
+                .maxUses(coupon.getMaxUses())
                 .createdAt(coupon.getCreatedAt())
                 .updatedAt(coupon.getUpdatedAt())
                 .build();
@@ -0,0 +1,38 @@
+package br.com.gama.cupon.application.query;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+public class CouponValidationResponse {
+    private String code;
+    private boolean valid;
+    private UUID couponId;
+    private BigDecimal discountValue;
+    private LocalDate expirationDate;
+
+    public static CouponValidationResponse valid(ActiveCoupon coupon) {
+        return CouponValidationResponse.builder()
+                .code(coupon.code())
+                .valid(true)
+                .couponId(coupon.id())
+                .discountValue(coupon.discountValue())
+                .expirationDate(coupon.expirationDate())
+                .build();
+    }
+
+    public static CouponValidationResponse invalid(String code) {
+        return CouponValidationResponse.builder()
+                .code(code)
+                .valid(false)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.gama.cupon.application.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+public class ListCouponsQuery {
+    private Boolean published;
+    private LocalDate expiresFrom;
+    private LocalDate expiresTo;
+    private BigDecimal minDiscount;
+    private BigDecimal maxDiscount;
+    // Token devolvido em nextCursor pela página anterior; nulo na primeira página
+    private String cursor;
+    private Integer limit;
+}
@@ -0,0 +1,66 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.ArchiveCouponsCommand;
+import br.com.gama.cupon.application.port.in.ArchiveCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponArchiveReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Move para coupons_archive os cupons deletados há mais tempo que a retenção (e, se configurado, os expirados
+ * há muito tempo), mantendo a tabela principal e seus índices do tamanho dos cupons vivos.
+ */
+// Sem @Transactional: cada lote é confirmado pelo CouponArchiveBatchWriter
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveCouponsService implements ArchiveCouponsUseCase {
+
+    private final CouponArchiveBatchWriter batchWriter;
+
+    @Override
+    public CouponArchiveReport archiveCoupons(ArchiveCouponsCommand command) {
+        if (command.getBatchSize() < 1 || command.getMaxBatches() < 1) {
+            throw new IllegalArgumentException("Batch size and max batches must be at least 1.");
+        }
+        long archived = 0;
+        int batches = 0;
+        boolean truncated = false;
+
+        while (true) {
+            int batchArchived = batchWriter.archiveBatch(command.getDeletedBefore(), command.getExpiredBefore(), command.getBatchSize());
+            if (batchArchived > 0) {
+                batches++;
+                archived += batchArchived;
+            }
+            if (batchArchived < command.getBatchSize()) {
+                break;
+            }
+            if (batches == command.getMaxBatches() || !pause(command)) {
+                truncated = true;
+                break;
+            }
+        }
+
+        log.info("Archived {} coupons in {} batches{}", archived, batches, truncated ? "; more may remain for the next run" : "");
+        return CouponArchiveReport.builder()
+                .archived(archived)
+                .batches(batches)
+                .truncated(truncated)
+                .build();
+    }
+
+    private static boolean pause(ArchiveCouponsCommand command) {
+        if (command.getPauseBetweenBatches() == null || command.getPauseBetweenBatches().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(command.getPauseBetweenBatches());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
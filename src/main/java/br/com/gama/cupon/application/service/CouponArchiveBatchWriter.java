@@ -0,0 +1,36 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Arquiva um lote na sua própria transação: a cópia para coupons_archive e o DELETE confirmam juntos
+@Component
+@RequiredArgsConstructor
+public class CouponArchiveBatchWriter {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+
+    /**
+     * @return quantos cupons foram arquivados; menos que {@code limit} indica que não há mais a arquivar
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit) {
+        List<UUID> ids = couponRepositoryPort.findArchivableIds(deletedBefore, expiredBefore, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int archived = couponRepositoryPort.archiveAll(ids, LocalDateTime.now());
+        // Cupons expirados ainda ativos podem estar no índice; os deletados já saíram dele
+        activeCouponIndexPort.evictAll(ids);
+        return archived;
+    }
+}
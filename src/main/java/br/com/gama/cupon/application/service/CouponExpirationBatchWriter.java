@@ -0,0 +1,38 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Expira um lote na sua própria transação: locks de linha e a transação ficam limitados ao tamanho do lote,
+ * não à quantidade de cupons expirados.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponExpirationBatchWriter {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+
+    /**
+     * @return quantos cupons foram expirados; menos que {@code limit} indica que não há mais expirados
+     */
+    @Transactional
+    public int expireBatch(LocalDate referenceDate, int limit) {
+        List<UUID> ids = couponRepositoryPort.findExpiredActiveIds(referenceDate, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int expired = couponRepositoryPort.expireAllById(ids, LocalDateTime.now());
+        activeCouponIndexPort.evictAll(ids);
+        return expired;
+    }
+}
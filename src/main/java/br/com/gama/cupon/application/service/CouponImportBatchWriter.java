@@ -0,0 +1,74 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Grava um lote da importação na sua própria transação, para que o arquivo seja confirmado em partes
+ * e nenhuma transação cresça com o tamanho do arquivo.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponImportBatchWriter {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final CouponCodeSequencePort couponCodeSequencePort;
+
+    /**
+     * @param allOrNothing quando {@code true}, um único código em uso impede a gravação do lote inteiro,
+     *                     inclusive quando ele só aparece no INSERT (a transação é marcada para rollback)
+     * @return os códigos rejeitados por já pertencerem a cupons ativos
+     */
+    @Transactional
+    public Set<String> write(List<Coupon> coupons, boolean allOrNothing) {
+        Set<String> activeCodes = couponRepositoryPort.findActiveCodes(coupons.stream().map(coupon -> coupon.getCode().getValue()).toList());
+        if (allOrNothing && !activeCodes.isEmpty()) {
+            return activeCodes;
+        }
+
+        List<Coupon> newCoupons = new ArrayList<>(coupons.size());
+        for (Coupon coupon : coupons) {
+            if (!activeCodes.contains(coupon.getCode().getValue())) {
+                newCoupons.add(coupon);
+            }
+        }
+        // Códigos criados por outro processo depois da consulta: o adapter regrava o lote um a um e pula só esses
+        Set<String> takenCodes = couponRepositoryPort.insertAll(newCoupons);
+        if (takenCodes.isEmpty()) {
+            activeCouponIndexPort.indexAll(newCoupons);
+            return activeCodes;
+        }
+        if (allOrNothing) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return takenCodes;
+        }
+        newCoupons.removeIf(coupon -> takenCodes.contains(coupon.getCode().getValue()));
+        activeCouponIndexPort.indexAll(newCoupons);
+        Set<String> rejectedCodes = new HashSet<>(activeCodes);
+        rejectedCodes.addAll(takenCodes);
+        return rejectedCodes;
+    }
+
+    /**
+     * Bloco da geração de códigos: grava como um lote da importação e, na mesma transação, avança a posição
+     * persistida da sequência até {@code nextIndex}, para que um restart não volte a percorrer esses índices.
+     */
+    @Transactional
+    public Set<String> writeGenerated(List<Coupon> coupons, String sequence, long nextIndex) {
+        Set<String> activeCodes = write(coupons, false);
+        couponCodeSequencePort.advance(sequence, nextIndex);
+        return activeCodes;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CouponImportErrorMode;
+import br.com.gama.cupon.application.query.CouponImportError;
+import br.com.gama.cupon.application.query.CouponImportReport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado mutável de uma importação em andamento. Os contadores são escritos pelos estágios do pipeline e lidos
+ * a qualquer momento pelo registro de progresso; a lista de erros é limitada para manter a memória constante.
+ */
+class CouponImportJob {
+
+    private final String importId;
+    private final CouponImportErrorMode errorMode;
+    private final int maxReportedErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<CouponImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    private volatile boolean aborted;
+    private volatile CouponImportReport.Status status = CouponImportReport.Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    CouponImportJob(String importId, CouponImportErrorMode errorMode, int maxReportedErrors) {
+        this.importId = importId;
+        this.errorMode = errorMode;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String getImportId() {
+        return importId;
+    }
+
+    boolean isRunning() {
+        return status == CouponImportReport.Status.RUNNING;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    boolean stopsOnError() {
+        return errorMode == CouponImportErrorMode.STOP_ON_ERROR;
+    }
+
+    void recordRead() {
+        read.incrementAndGet();
+    }
+
+    void recordCreated(int count) {
+        created.addAndGet(count);
+    }
+
+    void recordRejected(long lineNumber, String code, String message) {
+        rejected.incrementAndGet();
+        addError(new CouponImportError(lineNumber, code, message));
+        if (stopsOnError()) {
+            aborted = true;
+        }
+    }
+
+    void fail(String message) {
+        addError(new CouponImportError(0, null, message));
+        aborted = true;
+        status = CouponImportReport.Status.FAILED;
+    }
+
+    void finish() {
+        if (status == CouponImportReport.Status.RUNNING) {
+            status = aborted ? CouponImportReport.Status.STOPPED : CouponImportReport.Status.COMPLETED;
+        }
+        finishedAt = LocalDateTime.now();
+    }
+
+    private synchronized void addError(CouponImportError error) {
+        if (errors.size() < maxReportedErrors) {
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    synchronized CouponImportReport snapshot() {
+        return CouponImportReport.builder()
+                .importId(importId)
+                .status(status)
+                .errorMode(errorMode)
+                .read(read.get())
+                .created(created.get())
+                .rejected(rejected.get())
+                .errors(List.copyOf(errors))
+                .errorsTruncated(errorsTruncated)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
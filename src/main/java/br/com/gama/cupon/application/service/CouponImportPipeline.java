@@ -0,0 +1,266 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CouponImportRecord;
+import br.com.gama.cupon.application.command.CouponImportSource;
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.command.ImportCouponsCommand;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipeline de uma única importação: parse (thread chamadora) -> validação (N workers) -> escrita (1 writer).
+ * Os estágios se comunicam por filas limitadas, então um estágio lento bloqueia os anteriores (back-pressure)
+ * e a memória usada depende apenas das capacidades configuradas, nunca do tamanho do arquivo.
+ * Como a validação é paralela, a ordem das linhas não é preservada entre os estágios; cada erro carrega o número da linha.
+ */
+@Slf4j
+class CouponImportPipeline {
+
+    // Sinal de fim de fluxo em ambas as filas (comparado por identidade)
+    private static final CouponImportRecord END_OF_RECORDS = CouponImportRecord.unparseable(-1, null);
+    private static final ValidatedRecord END_OF_VALIDATED = new ValidatedRecord(-1, null, null, null);
+
+    private final CouponImportJob job;
+    private final CouponImportSource source;
+    private final CouponImportBatchWriter batchWriter;
+    private final IdGeneratorPort idGenerator;
+    private final int batchSize;
+    private final int validatorThreads;
+    private final boolean virtualThreads;
+    private final BlockingQueue<CouponImportRecord> parsedQueue;
+    private final BlockingQueue<ValidatedRecord> validatedQueue;
+
+    CouponImportPipeline(CouponImportJob job, ImportCouponsCommand command, CouponImportBatchWriter batchWriter,
+                         IdGeneratorPort idGenerator) {
+        this.job = job;
+        this.source = command.getSource();
+        this.batchWriter = batchWriter;
+        this.idGenerator = idGenerator;
+        this.batchSize = Math.max(1, command.getBatchSize());
+        this.validatorThreads = Math.max(1, command.getValidatorThreads());
+        this.virtualThreads = command.isVirtualThreads();
+        this.parsedQueue = new ArrayBlockingQueue<>(Math.max(1, command.getQueueCapacity()));
+        this.validatedQueue = new ArrayBlockingQueue<>(Math.max(1, command.getQueueCapacity()));
+    }
+
+    void run() {
+        try (ExecutorService stages = Executors.newFixedThreadPool(validatorThreads + 1, stageThreadFactory(job.getImportId(), virtualThreads))) {
+            for (int i = 0; i < validatorThreads; i++) {
+                stages.execute(this::validateStage);
+            }
+            stages.execute(this::writeStage);
+            parseStage();
+        } // close() aguarda o término de todos os estágios
+        job.finish();
+    }
+
+    private void parseStage() {
+        try (source) {
+            CouponImportRecord record;
+            while (!job.isAborted() && (record = source.next()) != null) {
+                job.recordRead();
+                parsedQueue.put(record);
+            }
+        } catch (IOException e) {
+            log.error("Import {} failed while reading the input: {}", job.getImportId(), e.getMessage());
+            job.fail("Failed to read import input: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Import interrupted.");
+        } finally {
+            for (int i = 0; i < validatorThreads; i++) {
+                putUninterruptibly(parsedQueue, END_OF_RECORDS);
+            }
+        }
+    }
+
+    private void validateStage() {
+        try {
+            CouponImportRecord record;
+            while ((record = parsedQueue.take()) != END_OF_RECORDS) {
+                if (!job.isAborted()) {
+                    validatedQueue.put(validate(record));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Import interrupted.");
+        } finally {
+            putUninterruptibly(validatedQueue, END_OF_VALIDATED);
+        }
+    }
+
+    private ValidatedRecord validate(CouponImportRecord record) {
+        if (record.error() != null) {
+            return ValidatedRecord.rejected(record.lineNumber(), null, record.error());
+        }
+        CreateCouponCommand command = record.command();
+        try {
+            requireMandatoryFields(command);
+            // Os value objects (CouponCode, DiscountValue, ExpirationDate) validam na construção
+            Coupon coupon = Coupon.builder()
+                    .id(idGenerator.nextId())
+                    .code(command.getCode())
+                    .description(command.getDescription())
+                    .discountValue(command.getDiscountValue())
+                    .expirationDate(command.getExpirationDate())
+                    .published(command.isPublished())
+                    .deleted(false)
+                    .maxUses(command.getMaxUses())
+                    .build();
+            return new ValidatedRecord(record.lineNumber(), coupon.getCode().getValue(), coupon, null);
+        } catch (InvalidCouponException e) {
+            return ValidatedRecord.rejected(record.lineNumber(), command.getCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            // Um erro inesperado em uma linha não pode derrubar o worker e travar o parser
+            return ValidatedRecord.rejected(record.lineNumber(), command.getCode(), "Unexpected error: " + e.getMessage());
+        }
+    }
+
+    // Os value objects recusam null com NullPointerException; numa linha do arquivo, campo ausente é erro de validação
+    private static void requireMandatoryFields(CreateCouponCommand command) {
+        if (command.getCode() == null) {
+            throw new InvalidCouponException("Coupon code cannot be null.");
+        }
+        if (command.getDiscountValue() == null) {
+            throw new InvalidCouponException("Coupon discount value cannot be null.");
+        }
+        if (command.getExpirationDate() == null) {
+            throw new InvalidCouponException("Coupon expiration date cannot be null.");
+        }
+    }
+
+    private void writeStage() {
+        List<ValidatedRecord> batch = new ArrayList<>(batchSize);
+        int pendingValidators = validatorThreads;
+        long batches = 0;
+        try {
+            while (pendingValidators > 0) {
+                ValidatedRecord record = validatedQueue.take();
+                if (record == END_OF_VALIDATED) {
+                    pendingValidators--;
+                } else if (record.error() != null) {
+                    job.recordRejected(record.lineNumber(), record.code(), record.error());
+                } else {
+                    batch.add(record);
+                    if (batch.size() >= batchSize) {
+                        flush(batch);
+                        if (++batches % 100 == 0) {
+                            CouponImportReport progress = job.snapshot();
+                            log.info("Import {} progress: read={}, created={}, rejected={}",
+                                    job.getImportId(), progress.getRead(), progress.getCreated(), progress.getRejected());
+                        }
+                    }
+                }
+            }
+            flush(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Import interrupted.");
+        } catch (RuntimeException e) {
+            log.error("Import {} failed while writing a batch: {}", job.getImportId(), e.getMessage(), e);
+            job.fail("Failed to write import batch: " + e.getMessage());
+            // Continua drenando a fila para não deixar os validadores bloqueados
+            drainValidated(pendingValidators);
+        }
+    }
+
+    private void flush(List<ValidatedRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (job.isAborted()) {
+            batch.clear();
+            return;
+        }
+
+        // Colisões dentro do próprio lote: o primeiro registro que chegou ao writer vence
+        Map<String, ValidatedRecord> byCode = new HashMap<>(batch.size() * 2);
+        List<Coupon> coupons = new ArrayList<>(batch.size());
+        for (ValidatedRecord record : batch) {
+            ValidatedRecord first = byCode.putIfAbsent(record.code(), record);
+            if (first != null) {
+                job.recordRejected(record.lineNumber(), record.code(), "Coupon code '" + record.code() + "' is duplicated in this import (line " + first.lineNumber() + ").");
+            } else {
+                coupons.add(record.coupon());
+            }
+        }
+        batch.clear();
+        if (job.isAborted()) {
+            return;
+        }
+
+        // Entre lotes, os códigos já confirmados aparecem como ativos na consulta do writer
+        Set<String> activeCodes = batchWriter.write(coupons, job.stopsOnError());
+        for (String code : activeCodes) {
+            job.recordRejected(byCode.get(code).lineNumber(), code, "Coupon code '" + code + "' is already in use by another active coupon.");
+        }
+        if (!job.stopsOnError() || activeCodes.isEmpty()) {
+            job.recordCreated(coupons.size() - activeCodes.size());
+        }
+    }
+
+    private void drainValidated(int pendingValidators) {
+        while (pendingValidators > 0) {
+            try {
+                if (validatedQueue.take() == END_OF_VALIDATED) {
+                    pendingValidators--;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static <T> void putUninterruptibly(BlockingQueue<T> queue, T element) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(element);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory stageThreadFactory(String importId, boolean virtualThreads) {
+        if (virtualThreads) {
+            // O writer bloqueia em JDBC e todos os estágios bloqueiam nas filas: liberam o carrier enquanto esperam
+            return Thread.ofVirtual().name("coupon-import-" + importId + "-", 1).factory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "coupon-import-" + importId + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record ValidatedRecord(long lineNumber, String code, Coupon coupon, String error) {
+
+        static ValidatedRecord rejected(long lineNumber, String code, String error) {
+            return new ValidatedRecord(lineNumber, code, null, error);
+        }
+    }
+}
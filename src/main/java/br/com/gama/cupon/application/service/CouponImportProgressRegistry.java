@@ -0,0 +1,54 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.GetCouponImportProgressUseCase;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registro em memória das importações deste nó. Importações em andamento nunca são descartadas;
+ * das finalizadas, só as mais recentes são mantidas para consulta.
+ */
+@Component
+public class CouponImportProgressRegistry implements GetCouponImportProgressUseCase {
+
+    static final int MAX_FINISHED_IMPORTS = 100;
+
+    private final Map<String, CouponImportJob> jobs = new LinkedHashMap<>();
+
+    synchronized void register(CouponImportJob job) {
+        CouponImportJob current = jobs.get(job.getImportId());
+        if (current != null && current.isRunning()) {
+            throw new IllegalArgumentException("Import '" + job.getImportId() + "' is already running.");
+        }
+        jobs.remove(job.getImportId());
+        jobs.put(job.getImportId(), job);
+        evictFinished();
+    }
+
+    @Override
+    public synchronized Optional<CouponImportReport> getProgress(String importId) {
+        return Optional.ofNullable(jobs.get(importId)).map(CouponImportJob::snapshot);
+    }
+
+    @Override
+    public synchronized List<CouponImportReport> listImports() {
+        return jobs.values().stream().map(CouponImportJob::snapshot).toList();
+    }
+
+    private void evictFinished() {
+        long finished = jobs.values().stream().filter(job -> !job.isRunning()).count();
+        Iterator<CouponImportJob> it = jobs.values().iterator();
+        while (finished > MAX_FINISHED_IMPORTS && it.hasNext()) {
+            if (!it.next().isRunning()) {
+                it.remove();
+                finished--;
+            }
+        }
+    }
+}
@@ -3,9 +3,10 @@ package br.com.gama.cupon.application.service;
 import br.com.gama.cupon.application.command.CreateCouponCommand;
 import br.com.gama.cupon.application.port.in.CreateCouponUseCase;
 import br.com.gama.cupon.application.query.CouponResponse;
-import br.com.gama.cupon.domain.exception.InvalidCouponException;
 import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
 import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,24 +17,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateCouponService implements CreateCouponUseCase {
 
     private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final IdGeneratorPort idGenerator;
 
+    // Sem consulta prévia por código: a restrição única de código ativo decide, e o adapter
+    // traduz a violação em InvalidCouponException. Isso também fecha a corrida entre criações simultâneas.
     @Override
     public CouponResponse createCoupon(CreateCouponCommand command) {
-        couponRepositoryPort.findByCode(command.getCode()) // findByCode agora retorna APENAS cupons ATIVOS
-                .ifPresent(existingCoupon -> {
-                    throw new InvalidCouponException("Coupon code '" + command.getCode() + "' is already in use by another active coupon.");
-                });
-
         Coupon newCoupon = Coupon.builder()
+                .id(idGenerator.nextId())
                 .code(command.getCode())
                 .description(command.getDescription())
                 .discountValue(command.getDiscountValue())
                 .expirationDate(command.getExpirationDate())
                 .published(command.isPublished())
                 .deleted(false)
+                .maxUses(command.getMaxUses())
                 .build();
 
-        Coupon savedCoupon = couponRepositoryPort.save(newCoupon);
+        Coupon savedCoupon = couponRepositoryPort.create(newCoupon);
+        activeCouponIndexPort.index(savedCoupon);
         return CouponResponse.fromDomain(savedCoupon);
     }
 }
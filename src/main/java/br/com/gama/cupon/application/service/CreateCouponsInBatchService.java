@@ -0,0 +1,113 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.port.in.CreateCouponsInBatchUseCase;
+import br.com.gama.cupon.application.query.BatchCouponItemResult;
+import br.com.gama.cupon.application.query.BatchCreateCouponsResponse;
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CreateCouponsInBatchService implements CreateCouponsInBatchUseCase {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final IdGeneratorPort idGenerator;
+
+    @Override
+    public BatchCreateCouponsResponse createCoupons(List<CreateCouponCommand> commands) {
+        BatchCouponItemResult[] results = new BatchCouponItemResult[commands.size()];
+        Map<String, Integer> indexByCode = new HashMap<>(commands.size() * 2);
+        List<Coupon> candidates = new ArrayList<>(commands.size());
+
+        // 1) Validação de domínio item a item e colisões dentro do próprio lote
+        for (int i = 0; i < commands.size(); i++) {
+            CreateCouponCommand command = commands.get(i);
+            Coupon coupon;
+            try {
+                coupon = toCoupon(command);
+            } catch (InvalidCouponException e) {
+                results[i] = BatchCouponItemResult.rejected(i, command.getCode(), e.getMessage());
+                continue;
+            }
+            String code = coupon.getCode().getValue();
+            Integer firstIndex = indexByCode.putIfAbsent(code, i);
+            if (firstIndex != null) {
+                results[i] = BatchCouponItemResult.rejected(i, code, "Coupon code '" + code + "' is duplicated in this batch (item " + firstIndex + ").");
+                continue;
+            }
+            candidates.add(coupon);
+        }
+
+        // 2) Uma única consulta em conjunto contra os cupons ativos
+        Set<String> activeCodes = couponRepositoryPort.findActiveCodes(indexByCode.keySet());
+
+        List<Coupon> newCoupons = new ArrayList<>(candidates.size());
+        for (Coupon coupon : candidates) {
+            String code = coupon.getCode().getValue();
+            int index = indexByCode.get(code);
+            if (activeCodes.contains(code)) {
+                results[index] = BatchCouponItemResult.rejected(index, code, "Coupon code '" + code + "' is already in use by another active coupon.");
+            } else {
+                results[index] = BatchCouponItemResult.created(index, code, coupon.getId());
+                newCoupons.add(coupon);
+            }
+        }
+
+        // 3) Inserção em JDBC batch, em chunks; um código criado por outra requisição depois da checagem
+        // rejeita só o próprio item
+        Set<String> takenCodes = couponRepositoryPort.insertAll(newCoupons);
+        if (!takenCodes.isEmpty()) {
+            newCoupons.removeIf(coupon -> takenCodes.contains(coupon.getCode().getValue()));
+            for (String code : takenCodes) {
+                int index = indexByCode.get(code);
+                results[index] = BatchCouponItemResult.rejected(index, code, "Coupon code '" + code + "' is already in use by another active coupon.");
+            }
+        }
+        activeCouponIndexPort.indexAll(newCoupons);
+
+        return BatchCreateCouponsResponse.of(Arrays.asList(results));
+    }
+
+    private Coupon toCoupon(CreateCouponCommand command) {
+        requireMandatoryFields(command);
+        return Coupon.builder()
+                .id(idGenerator.nextId())
+                .code(command.getCode())
+                .description(command.getDescription())
+                .discountValue(command.getDiscountValue())
+                .expirationDate(command.getExpirationDate())
+                .published(command.isPublished())
+                .deleted(false)
+                .maxUses(command.getMaxUses())
+                .build();
+    }
+
+    // Os value objects recusam null com NullPointerException; no lote, campo ausente é só mais um item inválido
+    private static void requireMandatoryFields(CreateCouponCommand command) {
+        if (command.getCode() == null) {
+            throw new InvalidCouponException("Coupon code cannot be null.");
+        }
+        if (command.getDiscountValue() == null) {
+            throw new InvalidCouponException("Coupon discount value cannot be null.");
+        }
+        if (command.getExpirationDate() == null) {
+            throw new InvalidCouponException("Coupon expiration date cannot be null.");
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package br.com.gama.cupon.application.service;
 
 import br.com.gama.cupon.application.port.in.DeleteCouponUseCase;
+import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.gama.cupon.domain.exception.CouponNotFoundException;
-import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
 import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
-import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepositoryAdapter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -18,15 +18,18 @@ import java.util.UUID;
 public class DeleteCouponService implements DeleteCouponUseCase {
 
     private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
 
     @Override
     public void deleteCoupon(UUID id) {
-        Coupon foundCoupon = couponRepositoryPort.findByIdIgnoringDeleted(id)
-                .orElseThrow(() -> new CouponNotFoundException("Coupon with ID " + id + " not found."));
-
-        // A lógica de markAsDeleted() na entidade Coupon já verifica se o cupom já está deletado
-        // e lança CouponAlreadyDeletedException, atendendo à regra de negócio.
-        foundCoupon.markAsDeleted();
-        couponRepositoryPort.save(foundCoupon);
+        // Caminho feliz em um único UPDATE; só quando nada foi alterado é que se descobre o motivo
+        if (couponRepositoryPort.softDeleteById(id, LocalDateTime.now())) {
+            activeCouponIndexPort.evict(id);
+            return;
+        }
+        if (couponRepositoryPort.existsByIdIncludingDeleted(id)) {
+            throw new CouponAlreadyDeletedException("Coupon with ID " + id + " is already deleted.");
+        }
+        throw new CouponNotFoundException("Coupon with ID " + id + " not found.");
     }
 }
@@ -0,0 +1,72 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.ExpireCouponsCommand;
+import br.com.gama.cupon.application.port.in.ExpireCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponExpirationReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Marca como expirados os cupons ativos já vencidos, em lotes curtos, liberando seus códigos para novos cupons
+ * e tirando-os da restrição única de cupons ativos e do índice em memória. Eles não são deletados: continuam
+ * na listagem e na exportação, e o DELETE deles segue funcionando.
+ */
+// Sem @Transactional: cada lote é confirmado pelo CouponExpirationBatchWriter na sua própria transação
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpireCouponsService implements ExpireCouponsUseCase {
+
+    private final CouponExpirationBatchWriter batchWriter;
+
+    @Override
+    public CouponExpirationReport expireCoupons(ExpireCouponsCommand command) {
+        if (command.getBatchSize() < 1 || command.getMaxBatches() < 1) {
+            throw new IllegalArgumentException("Batch size and max batches must be at least 1.");
+        }
+        long expired = 0;
+        int batches = 0;
+        boolean truncated = false;
+
+        while (true) {
+            int batchExpired = batchWriter.expireBatch(command.getReferenceDate(), command.getBatchSize());
+            if (batchExpired > 0) {
+                batches++;
+                expired += batchExpired;
+            }
+            if (batchExpired < command.getBatchSize()) {
+                break;
+            }
+            if (batches == command.getMaxBatches()) {
+                truncated = true;
+                break;
+            }
+            if (!pause(command)) {
+                truncated = true;
+                break;
+            }
+        }
+
+        log.info("Expired {} coupons in {} batches{}", expired, batches, truncated ? "; more may remain for the next run" : "");
+        return CouponExpirationReport.builder()
+                .expired(expired)
+                .batches(batches)
+                .truncated(truncated)
+                .build();
+    }
+
+    // false quando a thread foi interrompida (ex.: desligamento da aplicação)
+    private static boolean pause(ExpireCouponsCommand command) {
+        if (command.getPauseBetweenBatches() == null || command.getPauseBetweenBatches().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(command.getPauseBetweenBatches());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
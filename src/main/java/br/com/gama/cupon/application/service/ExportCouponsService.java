@@ -0,0 +1,23 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.ExportCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportCouponsService implements ExportCouponsUseCase {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+
+    @Override
+    public void exportCoupons(Consumer<CouponResponse> sink) {
+        couponRepositoryPort.forEachActive(coupon -> sink.accept(CouponResponse.fromDomain(coupon)));
+    }
+}
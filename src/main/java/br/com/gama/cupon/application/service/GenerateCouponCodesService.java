@@ -0,0 +1,105 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.GenerateCouponCodesCommand;
+import br.com.gama.cupon.application.port.in.GenerateCouponCodesUseCase;
+import br.com.gama.cupon.application.query.CouponCodeGenerationReport;
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCodeSequence;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Gera cupons com códigos únicos percorrendo a {@link CouponCodeSequence} do nó em blocos: cada bloco vira
+ * uma única consulta de códigos ativos e um INSERT em lote na sua própria transação (o mesmo caminho da importação),
+ * então a memória depende só do tamanho do bloco, nunca da quantidade pedida.
+ */
+// Sem @Transactional: cada bloco é confirmado pelo CouponImportBatchWriter na sua própria transação
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerateCouponCodesService implements GenerateCouponCodesUseCase {
+
+    // Um código pode ser criado por outra requisição entre a consulta e o INSERT; o bloco é então refeito
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final CouponCodeSequence codeSequence;
+    private final CouponImportBatchWriter batchWriter;
+    private final IdGeneratorPort idGenerator;
+
+    @Override
+    public CouponCodeGenerationReport generateCoupons(GenerateCouponCodesCommand command) {
+        if (command.getCount() < 1) {
+            throw new IllegalArgumentException("Count must be at least 1.");
+        }
+        int chunkSize = Math.max(1, command.getChunkSize());
+        long created = 0;
+        long skippedActive = 0;
+        long firstIndex = -1;
+        long nextIndex = -1;
+        boolean exhausted = false;
+
+        while (created < command.getCount()) {
+            CouponCodeSequence.Reservation reservation = codeSequence.reserve((int) Math.min(chunkSize, command.getCount() - created));
+            if (reservation.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+            if (firstIndex < 0) {
+                firstIndex = reservation.from();
+            }
+            nextIndex = reservation.to();
+
+            List<Coupon> coupons = new ArrayList<>(reservation.size());
+            for (long index = reservation.from(); index < reservation.to(); index++) {
+                coupons.add(newCoupon(command, codeSequence.codeAt(index)));
+            }
+            int skipped = writeChunk(coupons, reservation.to()).size();
+            created += coupons.size() - skipped;
+            skippedActive += skipped;
+        }
+
+        log.info("Generated {} coupons ({} codes skipped as active) from sequence indexes [{}, {}){}",
+                created, skippedActive, firstIndex, nextIndex, exhausted ? "; node range exhausted" : "");
+        return CouponCodeGenerationReport.builder()
+                .requested(command.getCount())
+                .created(created)
+                .skippedActive(skippedActive)
+                .firstIndex(firstIndex)
+                .nextIndex(nextIndex)
+                .exhausted(exhausted)
+                .build();
+    }
+
+    private Set<String> writeChunk(List<Coupon> coupons, long nextIndex) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return batchWriter.writeGenerated(coupons, codeSequence.getName(), nextIndex);
+            } catch (InvalidCouponException e) {
+                if (attempt == MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying generated chunk after a concurrent code collision: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Coupon newCoupon(GenerateCouponCodesCommand command, String code) {
+        return Coupon.builder()
+                .id(idGenerator.nextId())
+                .code(code)
+                .description(command.getDescription())
+                .discountValue(command.getDiscountValue())
+                .expirationDate(command.getExpirationDate())
+                .published(command.isPublished())
+                .deleted(false)
+                .maxUses(command.getMaxUses())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.GetArchivedCouponUseCase;
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetArchivedCouponService implements GetArchivedCouponUseCase {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+
+    @Override
+    public CouponResponse getArchivedCoupon(UUID id) {
+        return couponRepositoryPort.findArchivedById(id)
+                .map(CouponResponse::fromDomain)
+                .orElseThrow(() -> new CouponNotFoundException("Archived coupon with ID " + id + " not found."));
+    }
+}
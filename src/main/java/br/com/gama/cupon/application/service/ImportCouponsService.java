@@ -0,0 +1,37 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.ImportCouponsCommand;
+import br.com.gama.cupon.application.port.in.ImportCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// Sem @Transactional: cada lote é confirmado pelo CouponImportBatchWriter na sua própria transação
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportCouponsService implements ImportCouponsUseCase {
+
+    private final CouponImportBatchWriter batchWriter;
+    private final CouponImportProgressRegistry progressRegistry;
+    private final IdGeneratorPort idGenerator;
+
+    @Override
+    public CouponImportReport importCoupons(ImportCouponsCommand command) {
+        String importId = command.getImportId() != null && !command.getImportId().isBlank()
+                ? command.getImportId()
+                : idGenerator.nextId().toString();
+        CouponImportJob job = new CouponImportJob(importId, command.getErrorMode(), command.getMaxReportedErrors());
+        progressRegistry.register(job);
+
+        log.info("Starting coupon import {} ({})", importId, command.getErrorMode());
+        new CouponImportPipeline(job, command, batchWriter, idGenerator).run();
+
+        CouponImportReport report = job.snapshot();
+        log.info("Coupon import {} finished with status {}: read={}, created={}, rejected={}",
+                importId, report.getStatus(), report.getRead(), report.getCreated(), report.getRejected());
+        return report;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.ListCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponPageResponse;
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.application.query.ListCouponsQuery;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ListCouponsService implements ListCouponsUseCase {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private final CouponRepositoryPort couponRepositoryPort;
+
+    @Override
+    public CouponPageResponse listCoupons(ListCouponsQuery query) {
+        int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        CouponSearchCriteria criteria = toCriteria(query);
+        CouponPageCursor after = query.getCursor() != null && !query.getCursor().isBlank()
+                ? CouponPageCursor.decode(query.getCursor())
+                : null;
+
+        // Busca uma linha a mais só para saber se existe próxima página, sem COUNT(*)
+        List<Coupon> coupons = couponRepositoryPort.findPage(criteria, after, limit + 1);
+        boolean hasNext = coupons.size() > limit;
+        List<Coupon> page = hasNext ? coupons.subList(0, limit) : coupons;
+
+        return CouponPageResponse.builder()
+                .items(page.stream().map(CouponResponse::fromDomain).toList())
+                .limit(limit)
+                .nextCursor(hasNext ? CouponPageCursor.after(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private CouponSearchCriteria toCriteria(ListCouponsQuery query) {
+        if (query.getExpiresFrom() != null && query.getExpiresTo() != null && query.getExpiresFrom().isAfter(query.getExpiresTo())) {
+            throw new IllegalArgumentException("expiresFrom must not be after expiresTo.");
+        }
+        if (query.getMinDiscount() != null && query.getMaxDiscount() != null && query.getMinDiscount().compareTo(query.getMaxDiscount()) > 0) {
+            throw new IllegalArgumentException("minDiscount must not be greater than maxDiscount.");
+        }
+        return new CouponSearchCriteria(query.getPublished(), query.getExpiresFrom(), query.getExpiresTo(),
+                query.getMinDiscount(), query.getMaxDiscount());
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.port.in.ReactiveCreateCouponUseCase;
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import br.com.gama.cupon.domain.port.out.ReactiveCouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// Sem transação: a criação é um único INSERT e a restrição única de código ativo decide as colisões
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCreateCouponService implements ReactiveCreateCouponUseCase {
+
+    private final ReactiveCouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final IdGeneratorPort idGenerator;
+
+    @Override
+    public Mono<CouponResponse> createCoupon(CreateCouponCommand command) {
+        // Mono.fromCallable: erros de validação do domínio viram sinal de erro em vez de exceção na montagem
+        return Mono.fromCallable(() -> Coupon.builder()
+                        .id(idGenerator.nextId())
+                        .code(command.getCode())
+                        .description(command.getDescription())
+                        .discountValue(command.getDiscountValue())
+                        .expirationDate(command.getExpirationDate())
+                        .published(command.isPublished())
+                        .deleted(false)
+                        .maxUses(command.getMaxUses())
+                        .build())
+                .flatMap(couponRepositoryPort::create)
+                .doOnNext(activeCouponIndexPort::index)
+                .map(CouponResponse::fromDomain);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.ReactiveDeleteCouponUseCase;
+import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.ReactiveCouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDeleteCouponService implements ReactiveDeleteCouponUseCase {
+
+    private final ReactiveCouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+
+    @Override
+    public Mono<Void> deleteCoupon(UUID id) {
+        // Mesmo fluxo do DeleteCouponService: um único UPDATE e, só se nada mudou, a consulta do motivo
+        return couponRepositoryPort.softDeleteById(id, LocalDateTime.now())
+                .flatMap(deleted -> {
+                    if (deleted) {
+                        activeCouponIndexPort.evict(id);
+                        return Mono.<Void>empty();
+                    }
+                    return couponRepositoryPort.existsByIdIncludingDeleted(id)
+                            .flatMap(exists -> Mono.<Void>error(exists
+                                    ? new CouponAlreadyDeletedException("Coupon with ID " + id + " is already deleted.")
+                                    : new CouponNotFoundException("Coupon with ID " + id + " not found.")));
+                });
+    }
+}
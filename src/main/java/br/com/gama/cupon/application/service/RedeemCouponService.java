@@ -0,0 +1,51 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.RedeemCouponUseCase;
+import br.com.gama.cupon.application.query.CouponRedemptionResponse;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.exception.CouponNotRedeemableException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.port.out.CouponQuotaPort;
+import br.com.gama.cupon.domain.port.out.CouponRedemptionCounterPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+@Service
+@RequiredArgsConstructor
+public class RedeemCouponService implements RedeemCouponUseCase {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final CouponRedemptionCounterPort couponRedemptionCounterPort;
+    private final CouponQuotaPort couponQuotaPort;
+
+    // Sem @Transactional: o cupom vem do cache por código e o resgate só incrementa um contador em memória.
+    // Nenhuma linha de coupons é alterada; os totais vão para coupon_redemptions em lote, fora da requisição
+    @Override
+    public CouponRedemptionResponse redeemCoupon(String code) {
+        String canonicalCode = CouponCode.of(code).getValue();
+        Coupon coupon = couponRepositoryPort.findByCode(canonicalCode)
+                .orElseThrow(() -> new CouponNotFoundException("Coupon with code " + canonicalCode + " not found."));
+        if (!coupon.isValid()) {
+            throw new CouponNotRedeemableException("Coupon " + canonicalCode + " has expired or was deleted.");
+        }
+        if (!coupon.isPublished()) {
+            throw new CouponNotRedeemableException("Coupon " + canonicalCode + " is not published.");
+        }
+        Long remainingUses = null;
+        if (coupon.hasUsageLimit()) {
+            // A cota é reservada antes da contagem: o resgate contado sempre tem um uso reservado
+            OptionalLong reserved = couponQuotaPort.tryReserve(coupon.getId(), coupon.getMaxUses());
+            if (reserved.isEmpty()) {
+                throw new CouponNotRedeemableException("Coupon " + canonicalCode + " has reached its maximum number of uses.");
+            }
+            remainingUses = reserved.getAsLong();
+        }
+        couponRedemptionCounterPort.increment(coupon.getId());
+        return CouponRedemptionResponse.fromDomain(coupon, LocalDateTime.now(), remainingUses);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.port.in.ValidateCouponUseCase;
+import br.com.gama.cupon.application.query.CouponValidationResponse;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class ValidateCouponService implements ValidateCouponUseCase {
+
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+
+    // Sem @Transactional: a validação é servida apenas pelo índice em memória, nunca pelo banco
+    @Override
+    public CouponValidationResponse validateCoupon(String code) {
+        String canonicalCode = CouponCode.of(code).getValue();
+        LocalDate today = LocalDate.now();
+
+        return activeCouponIndexPort.findByCode(canonicalCode)
+                .filter(activeCoupon -> !activeCoupon.isExpired(today))
+                .map(CouponValidationResponse::valid)
+                .orElseGet(() -> CouponValidationResponse.invalid(canonicalCode));
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.gama.cupon.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class CouponNotRedeemableException extends RuntimeException {
+    public CouponNotRedeemableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.gama.cupon.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Visão enxuta e imutável de um cupom ativo, usada pelos índices em memória (sem Hibernate no caminho quente)
+public record ActiveCoupon(UUID id, String code, BigDecimal discountValue, LocalDate expirationDate) {
+
+    public static ActiveCoupon fromDomain(Coupon coupon) {
+        return new ActiveCoupon(
+                coupon.getId(),
+                coupon.getCode().getValue(),
+                coupon.getDiscountValue().getValue(),
+                coupon.getExpirationDate().getValue()
+        );
+    }
+
+    public boolean isExpired(LocalDate referenceDate) {
+        return expirationDate.isBefore(referenceDate);
+    }
+}
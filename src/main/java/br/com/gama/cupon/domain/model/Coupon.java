@@ -27,6 +27,8 @@ public class Coupon {
     private ExpirationDate expirationDate;
     private boolean published;
     private boolean deleted;
+    // Limite de resgates; null quando o cupom é ilimitado
+    private Integer maxUses;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -39,9 +41,11 @@ public class Coupon {
             LocalDate expirationDate,
             boolean published,
             boolean deleted,
+            Integer maxUses,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
+        // Os serviços de criação informam o id pelo IdGeneratorPort (UUIDv7); o aleatório é só o fallback
         this.id = id != null ? id : UUID.randomUUID();
         this.setCode(code);
         this.description = description;
@@ -49,12 +53,46 @@ public class Coupon {
         this.setExpirationDate(expirationDate);
         this.published = published;
         this.deleted = deleted;
+        this.maxUses = maxUses;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
 
         validateState();
     }
 
+    /**
+     * Reconstrói um cupom já persistido. Aplica as mesmas validações da criação, exceto a de data de expiração
+     * no passado: um cupom criado válido continua legível depois de expirar.
+     */
+    @Builder(builderMethodName = "restore", builderClassName = "RestoreBuilder")
+    private static Coupon restoreFromState(
+            UUID id,
+            String code,
+            String description,
+            BigDecimal discountValue,
+            LocalDate expirationDate,
+            boolean published,
+            boolean deleted,
+            Integer maxUses,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        Objects.requireNonNull(id, "Coupon id cannot be null.");
+        Coupon coupon = new Coupon();
+        coupon.id = id;
+        coupon.setCode(code);
+        coupon.description = description;
+        coupon.setDiscountValue(discountValue);
+        coupon.expirationDate = ExpirationDate.restore(Objects.requireNonNull(expirationDate, "Expiration date cannot be null."));
+        coupon.published = published;
+        coupon.deleted = deleted;
+        coupon.maxUses = maxUses;
+        coupon.createdAt = createdAt;
+        coupon.updatedAt = updatedAt;
+        coupon.validateState();
+        return coupon;
+    }
+
     private void validateState() {
         if (this.code == null || this.code.getValue().isBlank()) {
             throw new InvalidCouponException("Coupon code cannot be empty.");
@@ -68,10 +106,13 @@ public class Coupon {
         if (this.expirationDate == null) {
             throw new InvalidCouponException("Coupon expiration date cannot be null.");
         }
+        if (this.maxUses != null && this.maxUses < 1) {
+            throw new InvalidCouponException("Coupon max uses must be at least 1.");
+        }
     }
 
     public void setCode(String code) {
-        this.code = new CouponCode(code);
+        this.code = CouponCode.of(code);
     }
 
     public void setDiscountValue(BigDecimal discountValue) {
@@ -98,6 +139,10 @@ public class Coupon {
         return !isDeleted() && !isExpired();
     }
 
+    public boolean hasUsageLimit() {
+        return this.maxUses != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,12 +1,12 @@
 package br.com.gama.cupon.domain.model;
 
-import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 @Getter
 @EqualsAndHashCode
@@ -14,33 +14,158 @@ import java.util.regex.Pattern;
 public class CouponCode {
 
     private static final int CODE_LENGTH = 6;
-    private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile("^[a-zA-Z0-9]+$");
+    private static final char PADDING_CHAR = 'X';
+    // Alfabeto base 62: 62^6 < 2^36, então qualquer código cabe num único long
+    private static final String PACKING_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int RADIX = PACKING_ALPHABET.length();
+    public static final long PACKED_CODE_SPACE = (long) Math.pow(RADIX, CODE_LENGTH);
+
+    // Tabela de instâncias compartilhadas, de tamanho fixo e mapeamento direto (uma entrada por slot):
+    // um código novo simplesmente substitui o que estava no slot, então a memória nunca cresce.
+    // Leitura e escrita sem lock: CouponCode é imutável (campo final), então publicar por corrida é seguro.
+    private static final int INTERN_TABLE_BITS = 12;
+    private static final CouponCode[] INTERN_TABLE = new CouponCode[1 << INTERN_TABLE_BITS];
 
     private final String value;
 
+    // Calculado uma vez: a checagem da tabela de instâncias e toPackedValue() não percorrem a String
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final long packedValue;
+
     public CouponCode(String code) {
         Objects.requireNonNull(code, "Coupon code cannot be null.");
-        String sanitizedCode = sanitizeCode(code);
-        validateCode(sanitizedCode);
-        this.value = sanitizedCode;
+        this.value = canonicalize(code);
+        this.packedValue = pack(this.value);
     }
 
-    private String sanitizeCode(String code) {
-        String alphanumericOnly = code.replaceAll("[^a-zA-Z0-9]", "");
-        if (alphanumericOnly.length() > CODE_LENGTH) {
-            return alphanumericOnly.substring(0, CODE_LENGTH);
-        } else if (alphanumericOnly.length() < CODE_LENGTH) {
-            return String.format("%-" + CODE_LENGTH + "s", alphanumericOnly).replace(' ', 'X');
+    private CouponCode(String value, long packedValue) {
+        this.value = value;
+        this.packedValue = packedValue;
+    }
+
+    /**
+     * Mesmo resultado de {@code new CouponCode(code)}, mas devolve a instância compartilhada quando o código
+     * canônico já está na tabela: a canonicalização é feita direto para a forma compacta, sem alocar,
+     * e só um código ausente da tabela gera String e CouponCode novos.
+     */
+    public static CouponCode of(String code) {
+        Objects.requireNonNull(code, "Coupon code cannot be null.");
+        return interned(canonicalPack(code));
+    }
+
+    /**
+     * Passada única, sem regex: mantém apenas [a-zA-Z0-9], trunca em 6 caracteres e completa com 'X'.
+     * Um código que já é canônico é devolvido como está, sem cópia.
+     */
+    static String canonicalize(String code) {
+        if (isPackable(code)) {
+            return code;
         }
-        return alphanumericOnly;
+        char[] chars = new char[CODE_LENGTH];
+        int length = 0;
+        for (int i = 0; i < code.length() && length < CODE_LENGTH; i++) {
+            char c = code.charAt(i);
+            if (digitOf(c) >= 0) {
+                chars[length++] = c;
+            }
+        }
+        Arrays.fill(chars, length, CODE_LENGTH, PADDING_CHAR);
+        return new String(chars);
+    }
+
+    // Equivale a pack(canonicalize(code)), sem materializar o código canônico
+    static long canonicalPack(String code) {
+        long packed = 0;
+        int length = 0;
+        for (int i = 0; i < code.length() && length < CODE_LENGTH; i++) {
+            int digit = digitOf(code.charAt(i));
+            if (digit >= 0) {
+                packed = packed * RADIX + digit;
+                length++;
+            }
+        }
+        int paddingDigit = digitOf(PADDING_CHAR);
+        for (; length < CODE_LENGTH; length++) {
+            packed = packed * RADIX + paddingDigit;
+        }
+        return packed;
+    }
+
+    private static CouponCode interned(long packedValue) {
+        int slot = (int) ((packedValue * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - INTERN_TABLE_BITS));
+        CouponCode candidate = INTERN_TABLE[slot];
+        if (candidate != null && candidate.packedValue == packedValue) {
+            return candidate;
+        }
+        CouponCode created = new CouponCode(unpack(packedValue), packedValue);
+        INTERN_TABLE[slot] = created;
+        return created;
+    }
+
+    public long toPackedValue() {
+        return packedValue;
     }
 
-    private void validateCode(String code) {
-        if (code.length() != CODE_LENGTH) {
-            throw new InvalidCouponException("Coupon code must have exactly " + CODE_LENGTH + " alphanumeric characters after sanitization.");
+    public static CouponCode fromPackedValue(long packedValue) {
+        if (packedValue < 0 || packedValue >= PACKED_CODE_SPACE) {
+            throw new IllegalArgumentException("Packed coupon code out of range: " + packedValue);
+        }
+        return interned(packedValue);
+    }
+
+    // Converte um código já canônico (6 caracteres alfanuméricos) para sua forma compacta
+    public static long pack(CharSequence canonicalCode) {
+        if (canonicalCode.length() != CODE_LENGTH) {
+            throw new IllegalArgumentException("Packed coupon codes must have exactly " + CODE_LENGTH + " characters.");
+        }
+        long packed = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int digit = digitOf(canonicalCode.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Coupon code must contain only alphanumeric characters.");
+            }
+            packed = packed * RADIX + digit;
+        }
+        return packed;
+    }
+
+    public static boolean isPackable(CharSequence code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            if (digitOf(code.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String unpack(long packedValue) {
+        if (packedValue < 0 || packedValue >= PACKED_CODE_SPACE) {
+            throw new IllegalArgumentException("Packed coupon code out of range: " + packedValue);
+        }
+        char[] chars = new char[CODE_LENGTH];
+        long remaining = packedValue;
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = PACKING_ALPHABET.charAt((int) (remaining % RADIX));
+            remaining /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
         }
-        if (!ALPHANUMERIC_PATTERN.matcher(code).matches()) {
-            throw new InvalidCouponException("Coupon code must contain only alphanumeric characters.");
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
         }
+        return -1;
     }
 }
@@ -0,0 +1,57 @@
+package br.com.gama.cupon.domain.model;
+
+/**
+ * Permutação pseudoaleatória com chave do espaço de códigos compactados [0, {@link CouponCode#PACKED_CODE_SPACE}).
+ * <p>
+ * Rede de Feistel balanceada de 6 rodadas sobre 36 bits (duas metades de 18 bits), que é uma bijeção em [0, 2^36).
+ * Como 62^6 &lt; 2^36, resultados fora do espaço de códigos são cifrados de novo (cycle walking) até caírem
+ * dentro dele, o que preserva a bijeção; em média são ~1,2 cifragens por índice. Índices distintos geram
+ * sempre códigos distintos, então percorrer índices em sequência produz códigos únicos sem tentativas repetidas,
+ * e quem não conhece a chave não consegue prever o próximo código a partir dos anteriores.
+ */
+public final class CouponCodePermutation {
+
+    private static final int HALF_BITS = 18;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 6;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public CouponCodePermutation(long key) {
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    public long permute(long index) {
+        if (index < 0 || index >= CouponCode.PACKED_CODE_SPACE) {
+            throw new IllegalArgumentException("Code index out of range: " + index);
+        }
+        long value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= CouponCode.PACKED_CODE_SPACE);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    // Finalizador do SplitMix64
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
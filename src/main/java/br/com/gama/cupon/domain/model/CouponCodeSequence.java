@@ -0,0 +1,79 @@
+package br.com.gama.cupon.domain.model;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequência de códigos únicos de um nó: a faixa de índices [start, end) do nó, mapeada para códigos pela
+ * {@link CouponCodePermutation}. As faixas de nós diferentes (mesma chave, mesmo {@code nodeCount}) são disjuntas,
+ * e a permutação é uma bijeção, então vários nós geram códigos ao mesmo tempo sem coordenação e sem colisão.
+ * <p>
+ * O cursor fica em memória e é reservado em blocos sem lock. Cada bloco gravado avança também a posição
+ * persistida da sequência ({@link #getName()}), e na subida o cursor retoma dela com {@link #resumeFrom(long)}.
+ */
+public final class CouponCodeSequence {
+
+    private final CouponCodePermutation permutation;
+    @Getter
+    private final long start;
+    @Getter
+    private final long end;
+    @Getter
+    private final String name;
+    private final AtomicLong cursor;
+
+    public CouponCodeSequence(CouponCodePermutation permutation, int nodeIndex, int nodeCount) {
+        if (nodeCount < 1 || nodeIndex < 0 || nodeIndex >= nodeCount) {
+            throw new IllegalArgumentException("Invalid node " + nodeIndex + " of " + nodeCount + ".");
+        }
+        this.permutation = permutation;
+        this.start = CouponCode.PACKED_CODE_SPACE / nodeCount * nodeIndex;
+        this.end = nodeIndex == nodeCount - 1 ? CouponCode.PACKED_CODE_SPACE : CouponCode.PACKED_CODE_SPACE / nodeCount * (nodeIndex + 1);
+        this.name = "node-" + nodeIndex + "-of-" + nodeCount;
+        this.cursor = new AtomicLong(start);
+    }
+
+    /**
+     * Avança o cursor até a posição persistida, limitada à faixa do nó; nunca recua.
+     */
+    public void resumeFrom(long position) {
+        cursor.accumulateAndGet(Math.min(end, position), Math::max);
+    }
+
+    /**
+     * Reserva até {@code count} índices consecutivos da faixa do nó; a reserva vem vazia quando a faixa se esgotou.
+     */
+    public Reservation reserve(int count) {
+        while (true) {
+            long from = cursor.get();
+            if (from >= end) {
+                return new Reservation(end, end);
+            }
+            long to = Math.min(end, from + count);
+            if (cursor.compareAndSet(from, to)) {
+                return new Reservation(from, to);
+            }
+        }
+    }
+
+    // Próximo índice ainda não reservado
+    public long position() {
+        return cursor.get();
+    }
+
+    public String codeAt(long index) {
+        return CouponCode.unpack(permutation.permute(index));
+    }
+
+    public record Reservation(long from, long to) {
+
+        public int size() {
+            return (int) (to - from);
+        }
+
+        public boolean isEmpty() {
+            return to <= from;
+        }
+    }
+}
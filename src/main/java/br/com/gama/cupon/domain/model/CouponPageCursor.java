@@ -0,0 +1,42 @@
+package br.com.gama.cupon.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Posição da última linha entregue numa listagem ordenada por {@code (created_at DESC, id DESC)}.
+ * A próxima página começa estritamente depois dela, então o custo não depende de quantas páginas já foram lidas.
+ */
+public record CouponPageCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public CouponPageCursor {
+        Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null.");
+        Objects.requireNonNull(id, "Cursor id cannot be null.");
+    }
+
+    public static CouponPageCursor after(Coupon coupon) {
+        return new CouponPageCursor(coupon.getCreatedAt(), coupon.getId());
+    }
+
+    // Token opaco para o cliente: base64url de "createdAt|id"
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CouponPageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new CouponPageCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor '" + token + "'.");
+        }
+    }
+}
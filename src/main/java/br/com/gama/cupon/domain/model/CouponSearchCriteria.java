@@ -0,0 +1,18 @@
+package br.com.gama.cupon.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Filtros opcionais da listagem de cupons ativos; {@code null} significa "sem filtro". Os intervalos são inclusivos.
+ */
+public record CouponSearchCriteria(
+        Boolean published,
+        LocalDate expiresFrom,
+        LocalDate expiresTo,
+        BigDecimal minDiscount,
+        BigDecimal maxDiscount
+) {
+
+    public static final CouponSearchCriteria NONE = new CouponSearchCriteria(null, null, null, null, null);
+}
@@ -16,11 +16,22 @@ public class ExpirationDate {
     private final LocalDate value;
 
     public ExpirationDate(LocalDate value) {
+        this(value, true);
+    }
+
+    private ExpirationDate(LocalDate value, boolean rejectPastDate) {
         Objects.requireNonNull(value, "Expiration date cannot be null.");
-        validateDate(value);
+        if (rejectPastDate) {
+            validateDate(value);
+        }
         this.value = value;
     }
 
+    // Reidratação de um valor já persistido: a data pode ter passado desde a criação do cupom
+    public static ExpirationDate restore(LocalDate value) {
+        return new ExpirationDate(value, false);
+    }
+
     private void validateDate(LocalDate date) {
         if (date.isBefore(LocalDate.now())) {
             throw new InvalidCouponException("Expiration date cannot be in the past.");
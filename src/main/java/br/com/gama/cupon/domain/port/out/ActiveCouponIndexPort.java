@@ -0,0 +1,28 @@
+package br.com.gama.cupon.domain.port.out;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.model.Coupon;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ActiveCouponIndexPort {
+    void index(Coupon coupon);
+    void indexAll(Collection<Coupon> coupons);
+    void evict(UUID couponId);
+    void evictAll(Collection<UUID> couponIds);
+    Optional<ActiveCoupon> findByCode(String code);
+    // Substitui o conteúdo pelos cupons que o loader entregar um a um, lidos do banco sem materializar a coleção.
+    // index/evict feitos enquanto a leitura roda são guardados e reaplicados por cima do resultado antes de ele
+    // passar a valer: nada que commitou durante a carga se perde
+    void rebuild(Consumer<Consumer<Coupon>> loader);
+    // Substitui o conteúdo a partir de um snapshot, descartando os cupons já expirados, e aplica por cima as
+    // alterações do banco que changes entregar; index/evict concorrentes são tratados como no rebuild
+    void restore(Collection<ActiveCoupon> coupons, Consumer<Consumer<Coupon>> changes);
+    // Cópia do conteúdo atual, para gravar um snapshot
+    List<ActiveCoupon> snapshot();
+    int size();
+}
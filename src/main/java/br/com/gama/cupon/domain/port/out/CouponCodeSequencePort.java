@@ -0,0 +1,11 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.util.OptionalLong;
+
+// Posição persistida (high-water mark) da sequência de códigos de cada nó, para que um restart continue de onde parou
+public interface CouponCodeSequencePort {
+    // Próximo índice ainda não usado da sequência; vazio se ela nunca gravou um bloco
+    OptionalLong findPosition(String sequence);
+    // Avança a posição para pelo menos nextIndex (nunca recua); participa da transação do bloco que usou os índices
+    void advance(String sequence, long nextIndex);
+}
@@ -0,0 +1,10 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Cota de usos de cupons com limite, consumida no caminho da requisição sem lock de linha no banco
+public interface CouponQuotaPort {
+    // Reserva um uso; devolve quantos usos restam depois dele, ou vazio se a cota do cupom acabou
+    OptionalLong tryReserve(UUID couponId, int maxUses);
+}
@@ -0,0 +1,8 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.util.UUID;
+
+// Contagem de resgates no caminho da requisição; a implementação acumula em memória e grava em lote, depois
+public interface CouponRedemptionCounterPort {
+    void increment(UUID couponId);
+}
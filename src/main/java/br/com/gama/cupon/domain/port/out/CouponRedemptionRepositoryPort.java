@@ -0,0 +1,13 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface CouponRedemptionRepositoryPort {
+    // Soma os resgates de cada cupom aos totais já gravados, numa única transação; várias instâncias podem gravar ao mesmo tempo
+    void addRedemptions(Map<UUID, Long> redemptionsByCoupon);
+
+    // Totais já gravados dos cupons pedidos; cupom sem nenhum resgate gravado fica fora do mapa
+    Map<UUID, Long> findRedemptionCounts(Collection<UUID> couponIds);
+}
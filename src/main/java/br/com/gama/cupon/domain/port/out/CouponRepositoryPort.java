@@ -1,16 +1,54 @@
 package br.com.gama.cupon.domain.port.out;
 
 import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CouponRepositoryPort {
+    // Cupom novo: um único INSERT, sem SELECT prévio por id
+    Coupon create(Coupon coupon);
     Coupon save(Coupon coupon);
+    // UPDATE condicional (deleted = false); retorna false se nada foi alterado: cupom inexistente ou já deletado.
+    // Vale também para o cupom arquivado sem ter sido deletado (expirado há muito tempo), que é marcado no arquivo
+    boolean softDeleteById(UUID id, LocalDateTime deletedAt);
+    // Considera também os cupons arquivados, que só saem da tabela principal depois de deletados ou expirados
+    boolean existsByIdIncludingDeleted(UUID id);
     Optional<Coupon> findById(UUID id);
     Optional<Coupon> findByIdIgnoringDeleted(UUID id);
     Optional<Coupon> findByCode(String code);
     Optional<Coupon> findByIdIncludingDeleted(UUID id);
     List<Coupon> findAll();
+    // Percorre os cupons ativos um a um, sem materializar a coleção; prefira este método à findAll() em varreduras completas
+    void forEachActive(Consumer<? super Coupon> action);
+    List<Coupon> findAllPublishedNotExpired(LocalDate referenceDate);
+    // Cupons com updated_at >= since, inclusive deletados, e os que foram para o arquivo desde então (como deletados);
+    // é o delta reaplicado sobre um snapshot do índice em memória
+    void forEachChangedSince(LocalDateTime since, Consumer<? super Coupon> action);
+    // Página de cupons ativos em ordem (createdAt DESC, id DESC), começando depois do cursor (null = primeira página)
+    List<Coupon> findPage(CouponSearchCriteria criteria, CouponPageCursor after, int limit);
+    Set<String> findActiveCodes(Collection<String> codes);
+    // Os cupons cujo código foi tomado por outro cupom ativo depois da checagem em conjunto não são gravados;
+    // retorna os códigos deles (vazio no caso comum)
+    Set<String> insertAll(List<Coupon> coupons);
+    // Até limit ids de cupons ativos, ainda não marcados por expireAllById, que expiraram antes da data de referência,
+    // em ordem de expiração
+    List<UUID> findExpiredActiveIds(LocalDate referenceDate, int limit);
+    // Marca os cupons como expirados: o código é liberado para um novo cupom e some das buscas por código, mas o cupom
+    // continua listado, exportado e deletável. Ignora deletados e já expirados; retorna quantos foram alterados
+    int expireAllById(Collection<UUID> ids, LocalDateTime expiredAt);
+    // Até limit ids a arquivar: deletados antes de deletedBefore e, se expiredBefore não for nulo, ativos expirados antes dele
+    List<UUID> findArchivableIds(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit);
+    // Move os cupons para o arquivo (cópia + DELETE na tabela principal); retorna quantos foram movidos
+    int archiveAll(Collection<UUID> ids, LocalDateTime archivedAt);
+    // Consulta explícita ao arquivo; as demais consultas só enxergam a tabela principal
+    Optional<Coupon> findArchivedById(UUID id);
 }
@@ -0,0 +1,7 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.util.UUID;
+
+public interface IdGeneratorPort {
+    UUID nextId();
+}
@@ -0,0 +1,14 @@
+package br.com.gama.cupon.domain.port.out;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Contraparte não bloqueante de CouponRepositoryPort para as operações expostas pelo profile reactive
+public interface ReactiveCouponRepositoryPort {
+    Mono<Coupon> create(Coupon coupon);
+    Mono<Boolean> softDeleteById(UUID id, LocalDateTime updatedAt);
+    Mono<Boolean> existsByIdIncludingDeleted(UUID id);
+}
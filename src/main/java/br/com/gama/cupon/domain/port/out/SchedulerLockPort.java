@@ -0,0 +1,10 @@
+package br.com.gama.cupon.domain.port.out;
+
+import java.time.Duration;
+
+// Lock nomeado compartilhado entre os nós, para tarefas agendadas que devem rodar em um único nó por vez
+public interface SchedulerLockPort {
+    // Adquire o lock por no máximo lockAtMostFor (limite para um nó que caia sem liberá-lo); false se outro nó o detém
+    boolean tryAcquire(String name, String owner, Duration lockAtMostFor);
+    void release(String name, String owner);
+}
@@ -0,0 +1,24 @@
+package br.com.gama.cupon.infrastructure.adapter.in.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.archive")
+public class CouponArchiveProperties {
+    private boolean enabled = true;
+    private Duration interval = Duration.ofHours(1);
+    private Duration initialDelay = Duration.ofMinutes(5);
+    // Tempo que um cupom deletado permanece na tabela principal antes de ser arquivado
+    private Duration deletedRetention = Duration.ofDays(30);
+    // Cupons ativos expirados há mais que isso também são arquivados; sem valor, ficam na tabela principal
+    private Duration expiredRetention;
+    private int batchSize = 1000;
+    private int maxBatchesPerRun = 100;
+    private Duration pauseBetweenBatches = Duration.ofMillis(100);
+    private Duration lockAtMostFor = Duration.ofMinutes(30);
+}
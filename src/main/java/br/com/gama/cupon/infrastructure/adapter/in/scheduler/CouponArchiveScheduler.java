@@ -0,0 +1,73 @@
+package br.com.gama.cupon.infrastructure.adapter.in.scheduler;
+
+import br.com.gama.cupon.application.command.ArchiveCouponsCommand;
+import br.com.gama.cupon.application.port.in.ArchiveCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponArchiveReport;
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Arquiva periodicamente os cupons deletados (e, se configurado, os expirados há muito tempo) em um único nó.
+ * Métricas: coupon.archive.archived (acumulado), coupon.archive.run.rows (cupons por execução)
+ * e coupon.archive.runs (pela tag outcome: completed, truncated ou skipped).
+ */
+@Slf4j
+public class CouponArchiveScheduler {
+
+    static final String LOCK_NAME = "coupon-archive";
+
+    private final ArchiveCouponsUseCase archiveCouponsUseCase;
+    private final SchedulerLockPort schedulerLockPort;
+    private final CouponArchiveProperties properties;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final Counter archivedCounter;
+    private final DistributionSummary rowsPerRun;
+    private final Counter completedRuns;
+    private final Counter truncatedRuns;
+    private final Counter skippedRuns;
+
+    public CouponArchiveScheduler(ArchiveCouponsUseCase archiveCouponsUseCase, SchedulerLockPort schedulerLockPort,
+                                  CouponArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.archiveCouponsUseCase = archiveCouponsUseCase;
+        this.schedulerLockPort = schedulerLockPort;
+        this.properties = properties;
+        this.archivedCounter = Counter.builder("coupon.archive.archived").register(meterRegistry);
+        this.rowsPerRun = DistributionSummary.builder("coupon.archive.run.rows").register(meterRegistry);
+        this.completedRuns = Counter.builder("coupon.archive.runs").tag("outcome", "completed").register(meterRegistry);
+        this.truncatedRuns = Counter.builder("coupon.archive.runs").tag("outcome", "truncated").register(meterRegistry);
+        this.skippedRuns = Counter.builder("coupon.archive.runs").tag("outcome", "skipped").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.archive.interval:PT1H}", initialDelayString = "${coupon.archive.initial-delay:PT5M}")
+    public void archiveCoupons() {
+        if (!schedulerLockPort.tryAcquire(LOCK_NAME, owner, properties.getLockAtMostFor())) {
+            log.debug("Coupon archiving skipped: lock '{}' is held by another node", LOCK_NAME);
+            skippedRuns.increment();
+            return;
+        }
+        try {
+            CouponArchiveReport report = archiveCouponsUseCase.archiveCoupons(ArchiveCouponsCommand.builder()
+                    .deletedBefore(LocalDateTime.now().minus(properties.getDeletedRetention()))
+                    .expiredBefore(properties.getExpiredRetention() == null ? null
+                            : LocalDate.now().minusDays(properties.getExpiredRetention().toDays()))
+                    .batchSize(properties.getBatchSize())
+                    .maxBatches(properties.getMaxBatchesPerRun())
+                    .pauseBetweenBatches(properties.getPauseBetweenBatches())
+                    .build());
+            archivedCounter.increment(report.getArchived());
+            rowsPerRun.record(report.getArchived());
+            (report.isTruncated() ? truncatedRuns : completedRuns).increment();
+        } finally {
+            schedulerLockPort.release(LOCK_NAME, owner);
+        }
+    }
+}
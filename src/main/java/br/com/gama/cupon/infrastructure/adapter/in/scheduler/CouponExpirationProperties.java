@@ -0,0 +1,23 @@
+package br.com.gama.cupon.infrastructure.adapter.in.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.expiration")
+public class CouponExpirationProperties {
+    private boolean enabled = true;
+    // Intervalo entre o fim de uma execução e o início da próxima
+    private Duration interval = Duration.ofMinutes(5);
+    private Duration initialDelay = Duration.ofMinutes(1);
+    // Cupons por transação
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+    private Duration pauseBetweenBatches = Duration.ofMillis(50);
+    // Validade máxima do lock, caso o nó que o detém caia sem liberá-lo; deve cobrir a execução mais longa
+    private Duration lockAtMostFor = Duration.ofMinutes(10);
+}
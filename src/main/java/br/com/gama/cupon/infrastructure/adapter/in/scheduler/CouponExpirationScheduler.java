@@ -0,0 +1,71 @@
+package br.com.gama.cupon.infrastructure.adapter.in.scheduler;
+
+import br.com.gama.cupon.application.command.ExpireCouponsCommand;
+import br.com.gama.cupon.application.port.in.ExpireCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponExpirationReport;
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+/**
+ * Dispara a expiração de cupons periodicamente em um único nó: quem não obtém o lock pula a execução.
+ * Métricas: coupon.expiration.expired (cupons expirados, acumulado), coupon.expiration.run.rows (cupons por execução)
+ * e coupon.expiration.runs (execuções, pela tag outcome: completed, truncated ou skipped).
+ */
+@Slf4j
+public class CouponExpirationScheduler {
+
+    static final String LOCK_NAME = "coupon-expiration";
+
+    private final ExpireCouponsUseCase expireCouponsUseCase;
+    private final SchedulerLockPort schedulerLockPort;
+    private final CouponExpirationProperties properties;
+    // pid@host: identifica o nó dono do lock
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final Counter expiredCounter;
+    private final DistributionSummary rowsPerRun;
+    private final Counter completedRuns;
+    private final Counter truncatedRuns;
+    private final Counter skippedRuns;
+
+    public CouponExpirationScheduler(ExpireCouponsUseCase expireCouponsUseCase, SchedulerLockPort schedulerLockPort,
+                                     CouponExpirationProperties properties, MeterRegistry meterRegistry) {
+        this.expireCouponsUseCase = expireCouponsUseCase;
+        this.schedulerLockPort = schedulerLockPort;
+        this.properties = properties;
+        this.expiredCounter = Counter.builder("coupon.expiration.expired").register(meterRegistry);
+        this.rowsPerRun = DistributionSummary.builder("coupon.expiration.run.rows").register(meterRegistry);
+        this.completedRuns = Counter.builder("coupon.expiration.runs").tag("outcome", "completed").register(meterRegistry);
+        this.truncatedRuns = Counter.builder("coupon.expiration.runs").tag("outcome", "truncated").register(meterRegistry);
+        this.skippedRuns = Counter.builder("coupon.expiration.runs").tag("outcome", "skipped").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.expiration.interval:PT5M}", initialDelayString = "${coupon.expiration.initial-delay:PT1M}")
+    public void expireCoupons() {
+        if (!schedulerLockPort.tryAcquire(LOCK_NAME, owner, properties.getLockAtMostFor())) {
+            log.debug("Coupon expiration skipped: lock '{}' is held by another node", LOCK_NAME);
+            skippedRuns.increment();
+            return;
+        }
+        try {
+            CouponExpirationReport report = expireCouponsUseCase.expireCoupons(ExpireCouponsCommand.builder()
+                    .referenceDate(LocalDate.now())
+                    .batchSize(properties.getBatchSize())
+                    .maxBatches(properties.getMaxBatchesPerRun())
+                    .pauseBetweenBatches(properties.getPauseBetweenBatches())
+                    .build());
+            expiredCounter.increment(report.getExpired());
+            rowsPerRun.record(report.getExpired());
+            (report.isTruncated() ? truncatedRuns : completedRuns).increment();
+        } finally {
+            schedulerLockPort.release(LOCK_NAME, owner);
+        }
+    }
+}
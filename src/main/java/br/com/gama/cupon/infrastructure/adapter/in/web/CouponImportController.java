@@ -0,0 +1,110 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.command.CouponImportErrorMode;
+import br.com.gama.cupon.application.command.CouponImportSource;
+import br.com.gama.cupon.application.command.ImportCouponsCommand;
+import br.com.gama.cupon.application.port.in.GetCouponImportProgressUseCase;
+import br.com.gama.cupon.application.port.in.ImportCouponsUseCase;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponFileFormat;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponImportProperties;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CsvCouponImportSource;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.NdjsonCouponImportSource;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponImportReportDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class CouponImportController extends CouponAbstractController {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportCouponsUseCase importCouponsUseCase;
+    private final GetCouponImportProgressUseCase getCouponImportProgressUseCase;
+    private final CouponImportProperties importProperties;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "Importa cupons de um arquivo NDJSON ou CSV",
+            description = "Lê o corpo da requisição como stream, linha a linha, validando em paralelo e gravando em lotes transacionais. "
+                    + "A memória usada não depende do tamanho do arquivo. O progresso pode ser acompanhado em GET /import/{importId}.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída ou interrompida; consulte status e erros"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado ou importId já em execução"),
+            @ApiResponse(responseCode = "500", description = "Falha de leitura ou de escrita durante a importação")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<CouponImportReportDTO> importCoupons(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "STOP_ON_ERROR ou SKIP_AND_REPORT") @RequestParam(defaultValue = "SKIP_AND_REPORT") CouponImportErrorMode mode,
+            @Parameter(description = "Identificador opcional para acompanhar o progresso") @RequestParam(required = false) String importId,
+            InputStream body) {
+        CouponFileFormat format = CouponFileFormat.fromContentType(contentType);
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(body, charset != null ? charset : StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+
+        CouponImportSource source = switch (format) {
+            case NDJSON -> new NdjsonCouponImportSource(reader, objectMapper.reader());
+            case CSV -> new CsvCouponImportSource(reader);
+        };
+
+        CouponImportReport report = importCouponsUseCase.importCoupons(ImportCouponsCommand.builder()
+                .importId(importId)
+                .source(source)
+                .errorMode(mode)
+                .batchSize(importProperties.getBatchSize())
+                .queueCapacity(importProperties.getQueueCapacity())
+                .validatorThreads(importProperties.getValidatorThreads())
+                .maxReportedErrors(importProperties.getMaxReportedErrors())
+                .virtualThreads(importProperties.isVirtualThreads())
+                .build());
+
+        HttpStatus status = report.getStatus() == CouponImportReport.Status.FAILED ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.OK;
+        return ResponseEntity.status(status).body(CouponImportReportDTO.fromApplicationReport(report));
+    }
+
+    @Operation(summary = "Consulta o progresso de uma importação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progresso atual ou resultado final"),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada neste nó")
+    })
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<CouponImportReportDTO> getImport(@PathVariable String importId) {
+        return getCouponImportProgressUseCase.getProgress(importId)
+                .map(CouponImportReportDTO::fromApplicationReport)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Lista as importações em andamento e as finalizadas mais recentes")
+    @GetMapping("/import")
+    public ResponseEntity<List<CouponImportReportDTO>> listImports() {
+        return ResponseEntity.ok(getCouponImportProgressUseCase.listImports().stream()
+                .map(CouponImportReportDTO::fromApplicationReport)
+                .toList());
+    }
+}
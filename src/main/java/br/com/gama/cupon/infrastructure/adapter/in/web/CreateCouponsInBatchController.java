@@ -0,0 +1,34 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.CreateCouponsInBatchUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.BatchCouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.BatchCouponResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class CreateCouponsInBatchController extends CouponAbstractController {
+
+    private final CreateCouponsInBatchUseCase createCouponsInBatchUseCase;
+
+    @Operation(summary = "Cria cupons em lote", description = "Valida todos os cupons, verifica colisões de código (no lote e contra cupons ativos) com uma única consulta e insere via JDBC batch. Retorna o resultado de cada item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o status de cada item"),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida (lote vazio ou acima do limite)")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCouponResponseDTO> createCoupons(@Valid @RequestBody BatchCouponRequestDTO requestDTO) {
+        var response = createCouponsInBatchUseCase.createCoupons(requestDTO.toCreateCommands());
+        return ResponseEntity.ok(BatchCouponResponseDTO.fromApplicationResponse(response));
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.ExportCouponsUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponExportWriter;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponFileFormat;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CsvCouponExportWriter;
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.NdjsonCouponExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class ExportCouponsController extends CouponAbstractController {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportCouponsUseCase exportCouponsUseCase;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "Exporta os cupons ativos em NDJSON ou CSV",
+            description = "Percorre os cupons com um cursor somente leitura e escreve cada registro direto no corpo da resposta, "
+                    + "com memória constante independentemente do tamanho do catálogo. O CSV pode ser reimportado em POST /import.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupons ativos, um por linha")
+    })
+    @GetMapping("/export")
+    public void exportCoupons(
+            @Parameter(description = "NDJSON ou CSV") @RequestParam(defaultValue = "NDJSON") CouponFileFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"coupons." + format.name().toLowerCase(Locale.ROOT) + "\"");
+
+        BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        CouponExportWriter exportWriter = switch (format) {
+            case NDJSON -> new NdjsonCouponExportWriter(writer, objectMapper.writer());
+            case CSV -> new CsvCouponExportWriter(writer);
+        };
+
+        exportWriter.writeHeader();
+        try {
+            exportCouponsUseCase.exportCoupons(coupon -> {
+                try {
+                    exportWriter.write(coupon);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Cliente desconectou ou falha de rede: o cursor já foi fechado pela transação
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+}
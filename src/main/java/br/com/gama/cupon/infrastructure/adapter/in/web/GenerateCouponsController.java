@@ -0,0 +1,37 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.GenerateCouponCodesUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponCodeGenerationReportDTO;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.GenerateCouponsRequestDTO;
+import br.com.gama.cupon.infrastructure.config.CouponCodeGeneratorProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class GenerateCouponsController extends CouponAbstractController {
+
+    private final GenerateCouponCodesUseCase generateCouponCodesUseCase;
+    private final CouponCodeGeneratorProperties generatorProperties;
+
+    @Operation(summary = "Gera cupons com códigos únicos", description = "Gera a quantidade pedida de cupons com códigos de 6 caracteres únicos e não sequenciais, "
+            + "gravados em blocos transacionais. Códigos que já pertencem a cupons ativos são pulados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Geração concluída; consulte a quantidade criada e se a faixa do nó se esgotou"),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida")
+    })
+    @PostMapping("/generate")
+    public ResponseEntity<CouponCodeGenerationReportDTO> generateCoupons(@Valid @RequestBody GenerateCouponsRequestDTO requestDTO) {
+        var report = generateCouponCodesUseCase.generateCoupons(requestDTO.toCommand(generatorProperties.getChunkSize()));
+        return ResponseEntity.ok(CouponCodeGenerationReportDTO.fromApplicationReport(report));
+    }
+}
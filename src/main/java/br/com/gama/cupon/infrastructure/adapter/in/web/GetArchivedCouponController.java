@@ -0,0 +1,34 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.GetArchivedCouponUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class GetArchivedCouponController extends CouponAbstractController {
+
+    private final GetArchivedCouponUseCase getArchivedCouponUseCase;
+
+    @Operation(summary = "Busca um cupom arquivado por ID", description = "Consulta apenas a tabela de arquivo (coupons_archive), para onde vão os cupons deletados após o período de retenção.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom arquivado encontrado"),
+            @ApiResponse(responseCode = "404", description = "Cupom não está no arquivo")
+    })
+    @GetMapping("/archived/{id}")
+    public ResponseEntity<CouponResponseDTO> getArchivedCoupon(@PathVariable UUID id) {
+        var response = getArchivedCouponUseCase.getArchivedCoupon(id);
+        return ResponseEntity.ok(CouponResponseDTO.fromApplicationResponse(response));
+    }
+}
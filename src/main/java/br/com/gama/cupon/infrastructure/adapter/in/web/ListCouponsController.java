@@ -0,0 +1,55 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.ListCouponsUseCase;
+import br.com.gama.cupon.application.query.ListCouponsQuery;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponPageResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class ListCouponsController extends CouponAbstractController {
+
+    private final ListCouponsUseCase listCouponsUseCase;
+
+    @Operation(summary = "Lista cupons ativos com paginação por cursor",
+            description = "Ordena por data de criação (mais recentes primeiro). Use o nextCursor da resposta no parâmetro cursor "
+                    + "para buscar a página seguinte; o custo de cada página não depende da posição na listagem.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de cupons"),
+            @ApiResponse(responseCode = "400", description = "Filtros, limite ou cursor inválidos")
+    })
+    @GetMapping
+    public ResponseEntity<CouponPageResponseDTO> listCoupons(
+            @Parameter(description = "Filtra por status de publicação") @RequestParam(required = false) Boolean published,
+            @Parameter(description = "Expiração a partir de (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresFrom,
+            @Parameter(description = "Expiração até (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresTo,
+            @Parameter(description = "Desconto mínimo (inclusive)") @RequestParam(required = false) BigDecimal minDiscount,
+            @Parameter(description = "Desconto máximo (inclusive)") @RequestParam(required = false) BigDecimal maxDiscount,
+            @Parameter(description = "Cursor retornado em nextCursor pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1 a 500, padrão 50)") @RequestParam(required = false) Integer limit) {
+        var query = ListCouponsQuery.builder()
+                .published(published)
+                .expiresFrom(expiresFrom)
+                .expiresTo(expiresTo)
+                .minDiscount(minDiscount)
+                .maxDiscount(maxDiscount)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+        return ResponseEntity.ok(CouponPageResponseDTO.fromApplicationResponse(listCouponsUseCase.listCoupons(query)));
+    }
+}
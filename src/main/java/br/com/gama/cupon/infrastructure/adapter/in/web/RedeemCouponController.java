@@ -0,0 +1,33 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.RedeemCouponUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRedemptionResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class RedeemCouponController extends CouponAbstractController {
+
+    private final RedeemCouponUseCase redeemCouponUseCase;
+
+    @Operation(summary = "Resgata um cupom pelo código", description = "Registra um uso do cupom. O total de resgates é gravado em lote, alguns instantes depois (write-behind).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Resgate registrado"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado"),
+            @ApiResponse(responseCode = "422", description = "Cupom expirado ou não publicado")
+    })
+    @PostMapping("/{code}/redemptions")
+    public ResponseEntity<CouponRedemptionResponseDTO> redeemCoupon(@PathVariable String code) {
+        var response = redeemCouponUseCase.redeemCoupon(code);
+        return ResponseEntity.accepted().body(CouponRedemptionResponseDTO.fromApplicationResponse(response));
+    }
+}
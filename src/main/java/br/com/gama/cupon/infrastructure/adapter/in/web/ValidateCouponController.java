@@ -0,0 +1,31 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.port.in.ValidateCouponUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponValidationResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequiredArgsConstructor
+public class ValidateCouponController extends CouponAbstractController {
+
+    private final ValidateCouponUseCase validateCouponUseCase;
+
+    @Operation(summary = "Valida um cupom pelo código", description = "Indica se o cupom está publicado, não deletado e não expirado. Servido por índice em memória, sem acesso ao banco.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado da validação (campo valid)")
+    })
+    @GetMapping("/{code}/validation")
+    public ResponseEntity<CouponValidationResponseDTO> validateCoupon(@PathVariable String code) {
+        var response = validateCouponUseCase.validateCoupon(code);
+        return ResponseEntity.ok(CouponValidationResponseDTO.fromApplicationResponse(response));
+    }
+}
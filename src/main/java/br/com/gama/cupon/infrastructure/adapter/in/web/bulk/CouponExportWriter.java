@@ -0,0 +1,15 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+
+import java.io.IOException;
+
+/**
+ * Escreve cupons diretamente no corpo da resposta, um registro por vez.
+ */
+public interface CouponExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(CouponResponse coupon) throws IOException;
+}
@@ -0,0 +1,30 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import org.springframework.http.MediaType;
+
+public enum CouponFileFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    CouponFileFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static CouponFileFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (CouponFileFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).includes(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type '" + contentType + "'. Use application/x-ndjson or text/csv.");
+    }
+}
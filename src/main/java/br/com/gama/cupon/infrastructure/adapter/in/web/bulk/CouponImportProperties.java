@@ -0,0 +1,19 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.import")
+public class CouponImportProperties {
+    // Cupons por transação de escrita
+    private int batchSize = 1000;
+    // Capacidade de cada fila entre os estágios; limita a memória por importação
+    private int queueCapacity = 4096;
+    private int validatorThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private int maxReportedErrors = 1000;
+    // Estágios em virtual threads (profile virtual-threads); por padrão, threads de plataforma
+    private boolean virtualThreads;
+}
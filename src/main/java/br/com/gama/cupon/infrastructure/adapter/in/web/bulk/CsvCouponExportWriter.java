@@ -0,0 +1,64 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV com as colunas aceitas por {@link CsvCouponImportSource}, seguidas dos metadados do cupom,
+ * para que um arquivo exportado possa ser importado de volta sem edição.
+ */
+public class CsvCouponExportWriter implements CouponExportWriter {
+
+    static final String HEADER = "code,description,discountValue,expirationDate,published,maxUses,id,createdAt,updatedAt";
+
+    private final Writer writer;
+
+    public CsvCouponExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(CouponResponse coupon) throws IOException {
+        writer.write(coupon.getCode());
+        writer.write(',');
+        writeEscaped(coupon.getDescription());
+        writer.write(',');
+        writer.write(coupon.getDiscountValue().toPlainString());
+        writer.write(',');
+        writer.write(coupon.getExpirationDate().toString());
+        writer.write(',');
+        writer.write(Boolean.toString(coupon.isPublished()));
+        writer.write(',');
+        // Vazio para cupom ilimitado, como o import espera
+        if (coupon.getMaxUses() != null) {
+            writer.write(coupon.getMaxUses().toString());
+        }
+        writer.write(',');
+        writer.write(coupon.getId().toString());
+        writer.write(',');
+        writer.write(String.valueOf(coupon.getCreatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(coupon.getUpdatedAt()));
+        writer.write('\n');
+    }
+
+    // Aspas apenas quando necessário; quebras de linha viram espaço porque o import lê um registro por linha
+    private void writeEscaped(String value) throws IOException {
+        String singleLine = value.replace('\r', ' ').replace('\n', ' ');
+        if (singleLine.indexOf(',') < 0 && singleLine.indexOf('"') < 0) {
+            writer.write(singleLine);
+            return;
+        }
+        writer.write('"');
+        writer.write(singleLine.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
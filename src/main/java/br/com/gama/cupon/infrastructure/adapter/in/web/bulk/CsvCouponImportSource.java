@@ -0,0 +1,162 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.command.CouponImportRecord;
+import br.com.gama.cupon.application.command.CouponImportSource;
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV com cabeçalho obrigatório ({@code code,description,discountValue,expirationDate[,published][,maxUses]}), em
+ * qualquer ordem; maxUses vazio ou ausente deixa o cupom ilimitado.
+ * Campos podem vir entre aspas duplas ({@code ""} escapa uma aspa), mas cada registro ocupa uma única linha.
+ */
+public class CsvCouponImportSource implements CouponImportSource {
+
+    private static final String CODE = "code";
+    private static final String DESCRIPTION = "description";
+    private static final String DISCOUNT_VALUE = "discountvalue";
+    private static final String EXPIRATION_DATE = "expirationdate";
+    private static final String PUBLISHED = "published";
+    private static final String MAX_USES = "maxuses";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    public CsvCouponImportSource(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public CouponImportRecord next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            List<String> fields = split(line);
+            return CouponImportRecord.parsed(lineNumber, CreateCouponCommand.builder()
+                    .code(field(fields, CODE))
+                    .description(field(fields, DESCRIPTION))
+                    .discountValue(parseDecimal(field(fields, DISCOUNT_VALUE)))
+                    .expirationDate(parseDate(field(fields, EXPIRATION_DATE)))
+                    .published(Boolean.parseBoolean(field(fields, PUBLISHED)))
+                    .maxUses(parseInteger(field(fields, MAX_USES)))
+                    .build());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return CouponImportRecord.unparseable(lineNumber, e.getMessage());
+        }
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            columns = Map.of();
+            return;
+        }
+        lineNumber++;
+
+        // Ignora o BOM que planilhas costumam gravar no início do arquivo
+        List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of(CODE, DESCRIPTION, DISCOUNT_VALUE, EXPIRATION_DATE)) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("CSV header is missing required column '" + required + "'.");
+            }
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid discountValue '" + value + "'.");
+        }
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid maxUses '" + value + "'.");
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    // Divide uma linha CSV respeitando campos entre aspas
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
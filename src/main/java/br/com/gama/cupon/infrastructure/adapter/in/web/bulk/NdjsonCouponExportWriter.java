@@ -0,0 +1,33 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Um {@link CouponResponseDTO} em JSON por linha.
+ */
+public class NdjsonCouponExportWriter implements CouponExportWriter {
+
+    private final Writer writer;
+    private final ObjectWriter couponWriter;
+
+    public NdjsonCouponExportWriter(Writer writer, ObjectWriter couponWriter) {
+        this.writer = writer;
+        this.couponWriter = couponWriter.forType(CouponResponseDTO.class);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON não tem cabeçalho
+    }
+
+    @Override
+    public void write(CouponResponse coupon) throws IOException {
+        writer.write(couponWriter.writeValueAsString(CouponResponseDTO.fromApplicationResponse(coupon)));
+        writer.write('\n');
+    }
+}
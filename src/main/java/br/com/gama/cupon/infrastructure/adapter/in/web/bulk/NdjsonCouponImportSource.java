@@ -0,0 +1,49 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.command.CouponImportRecord;
+import br.com.gama.cupon.application.command.CouponImportSource;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Um objeto JSON por linha, com os mesmos campos de {@link CouponRequestDTO}. Linhas em branco são ignoradas.
+ */
+public class NdjsonCouponImportSource implements CouponImportSource {
+
+    private final BufferedReader reader;
+    private final ObjectReader couponReader;
+    private long lineNumber;
+
+    public NdjsonCouponImportSource(BufferedReader reader, ObjectReader couponReader) {
+        this.reader = reader;
+        this.couponReader = couponReader.forType(CouponRequestDTO.class);
+    }
+
+    @Override
+    public CouponImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            CouponRequestDTO requestDTO = couponReader.readValue(line);
+            return CouponImportRecord.parsed(lineNumber, requestDTO.toCreateCommand());
+        } catch (JsonProcessingException e) {
+            return CouponImportRecord.unparseable(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.BatchCouponItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "Resultado de um item da criação em lote")
+public class BatchCouponItemResponseDTO {
+    @Schema(description = "Posição do item na requisição", example = "0")
+    private int index;
+    @Schema(description = "Código do cupom (após sanitização, quando válido)", example = "CUPOM1")
+    private String code;
+    @Schema(description = "Resultado do item", example = "CREATED")
+    private BatchCouponItemResult.Status status;
+    @Schema(description = "ID do cupom criado", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID id;
+    @Schema(description = "Motivo da rejeição", example = "Coupon code 'CUPOM1' is already in use by another active coupon.")
+    private String error;
+
+    public static BatchCouponItemResponseDTO fromApplicationResult(BatchCouponItemResult result) {
+        return BatchCouponItemResponseDTO.builder()
+                .index(result.getIndex())
+                .code(result.getCode())
+                .status(result.getStatus())
+                .id(result.getId())
+                .error(result.getError())
+                .build();
+    }
+}
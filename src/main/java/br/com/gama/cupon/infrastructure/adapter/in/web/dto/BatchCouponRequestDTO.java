@@ -0,0 +1,30 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "DTO para criação de cupons em lote")
+public class BatchCouponRequestDTO {
+
+    // Os campos dos itens não são validados aqui: cada um é validado no domínio e recebe seu próprio resultado.
+    // Só um item nulo é recusado com o lote inteiro, por não ter nem código para aparecer no resultado
+    @Schema(description = "Cupons a serem criados")
+    @NotEmpty(message = "O lote deve conter ao menos um cupom.")
+    @Size(max = 500_000, message = "O lote deve conter no máximo 500000 cupons.")
+    private List<@NotNull(message = "Os cupons do lote não podem ser nulos.") CouponRequestDTO> coupons;
+
+    public List<CreateCouponCommand> toCreateCommands() {
+        return coupons.stream()
+                .map(CouponRequestDTO::toCreateCommand)
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.BatchCreateCouponsResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO para resposta da criação de cupons em lote")
+public class BatchCouponResponseDTO {
+    @Schema(description = "Total de itens recebidos", example = "3")
+    private int total;
+    @Schema(description = "Itens criados", example = "2")
+    private int created;
+    @Schema(description = "Itens rejeitados", example = "1")
+    private int rejected;
+    @Schema(description = "Resultado por item, na ordem da requisição")
+    private List<BatchCouponItemResponseDTO> items;
+
+    public static BatchCouponResponseDTO fromApplicationResponse(BatchCreateCouponsResponse response) {
+        return BatchCouponResponseDTO.builder()
+                .total(response.getTotal())
+                .created(response.getCreated())
+                .rejected(response.getRejected())
+                .items(response.getItems().stream().map(BatchCouponItemResponseDTO::fromApplicationResult).toList())
+                .build();
+    }
+}
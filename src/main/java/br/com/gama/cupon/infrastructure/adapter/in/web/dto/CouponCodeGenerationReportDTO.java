@@ -0,0 +1,37 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.CouponCodeGenerationReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO com o resultado de uma geração de cupons")
+public class CouponCodeGenerationReportDTO {
+    @Schema(description = "Quantidade pedida", example = "100000")
+    private long requested;
+    @Schema(description = "Cupons criados", example = "100000")
+    private long created;
+    @Schema(description = "Códigos pulados por já existirem em cupons ativos", example = "0")
+    private long skippedActive;
+    @Schema(description = "Primeiro índice da sequência do nó usado nesta geração", example = "0")
+    private long firstIndex;
+    @Schema(description = "Próximo índice livre da sequência do nó após esta geração", example = "100000")
+    private long nextIndex;
+    @Schema(description = "Indica que a faixa de códigos do nó se esgotou antes de atingir a quantidade pedida")
+    private boolean exhausted;
+
+    public static CouponCodeGenerationReportDTO fromApplicationReport(CouponCodeGenerationReport report) {
+        return CouponCodeGenerationReportDTO.builder()
+                .requested(report.getRequested())
+                .created(report.getCreated())
+                .skippedActive(report.getSkippedActive())
+                .firstIndex(report.getFirstIndex())
+                .nextIndex(report.getNextIndex())
+                .exhausted(report.isExhausted())
+                .build();
+    }
+}
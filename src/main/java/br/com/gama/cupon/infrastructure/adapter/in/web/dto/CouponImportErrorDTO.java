@@ -0,0 +1,28 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.CouponImportError;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de uma linha rejeitada na importação")
+public class CouponImportErrorDTO {
+    @Schema(description = "Número da linha no arquivo (0 para falhas gerais da importação)", example = "42")
+    private long line;
+    @Schema(description = "Código informado na linha, quando disponível", example = "CUPOM1")
+    private String code;
+    @Schema(description = "Motivo da rejeição")
+    private String message;
+
+    public static CouponImportErrorDTO fromApplicationError(CouponImportError error) {
+        return CouponImportErrorDTO.builder()
+                .line(error.lineNumber())
+                .code(error.code())
+                .message(error.message())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.command.CouponImportErrorMode;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO com o progresso ou o resultado final de uma importação de cupons")
+public class CouponImportReportDTO {
+    @Schema(description = "Identificador da importação", example = "parceiro-2025-06-01")
+    private String importId;
+    @Schema(description = "Situação da importação", example = "COMPLETED")
+    private CouponImportReport.Status status;
+    @Schema(description = "Modo de tratamento de erros", example = "SKIP_AND_REPORT")
+    private CouponImportErrorMode errorMode;
+    @Schema(description = "Linhas lidas até o momento", example = "1000000")
+    private long read;
+    @Schema(description = "Cupons gravados até o momento", example = "999990")
+    private long created;
+    @Schema(description = "Linhas rejeitadas até o momento", example = "10")
+    private long rejected;
+    @Schema(description = "Erros detalhados (limitados por coupon.import.max-reported-errors)")
+    private List<CouponImportErrorDTO> errors;
+    @Schema(description = "Indica que houve mais erros do que os listados")
+    private boolean errorsTruncated;
+    @Schema(description = "Início da importação")
+    private LocalDateTime startedAt;
+    @Schema(description = "Fim da importação (nulo enquanto estiver em andamento)")
+    private LocalDateTime finishedAt;
+
+    public static CouponImportReportDTO fromApplicationReport(CouponImportReport report) {
+        return CouponImportReportDTO.builder()
+                .importId(report.getImportId())
+                .status(report.getStatus())
+                .errorMode(report.getErrorMode())
+                .read(report.getRead())
+                .created(report.getCreated())
+                .rejected(report.getRejected())
+                .errors(report.getErrors().stream().map(CouponImportErrorDTO::fromApplicationError).toList())
+                .errorsTruncated(report.isErrorsTruncated())
+                .startedAt(report.getStartedAt())
+                .finishedAt(report.getFinishedAt())
+                .build();
+    }
+}
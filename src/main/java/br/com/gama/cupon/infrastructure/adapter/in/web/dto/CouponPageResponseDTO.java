@@ -0,0 +1,30 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.CouponPageResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO de uma página da listagem de cupons")
+public class CouponPageResponseDTO {
+    @Schema(description = "Cupons da página, do mais recente para o mais antigo")
+    private List<CouponResponseDTO> items;
+    @Schema(description = "Tamanho máximo da página", example = "50")
+    private int limit;
+    @Schema(description = "Cursor para a próxima página (parâmetro cursor); nulo na última página", example = "MjAyNS0wMS0wMVQxMDowMDowMHw...")
+    private String nextCursor;
+
+    public static CouponPageResponseDTO fromApplicationResponse(CouponPageResponse response) {
+        return CouponPageResponseDTO.builder()
+                .items(response.getItems().stream().map(CouponResponseDTO::fromApplicationResponse).toList())
+                .limit(response.getLimit())
+                .nextCursor(response.getNextCursor())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.CouponRedemptionResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO para resposta de resgate de cupom")
+public class CouponRedemptionResponseDTO {
+    @Schema(description = "ID do cupom resgatado", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID couponId;
+    @Schema(description = "Código do cupom resgatado (após sanitização)", example = "CUPOM1")
+    private String code;
+    @Schema(description = "Valor do desconto a aplicar", example = "10.50")
+    private BigDecimal discountValue;
+    @Schema(description = "Data e hora do resgate", example = "2024-07-29T10:00:00")
+    private LocalDateTime redeemedAt;
+    @Schema(description = "Usos que restam depois deste resgate; nulo para cupom ilimitado", example = "999", nullable = true)
+    private Long remainingUses;
+
+    public static CouponRedemptionResponseDTO fromApplicationResponse(CouponRedemptionResponse response) {
+        return CouponRedemptionResponseDTO.builder()
+                .couponId(response.getCouponId())
+                .code(response.getCode())
+                .discountValue(response.getDiscountValue())
+                .redeemedAt(response.getRedeemedAt())
+                .remainingUses(response.getRemainingUses())
+                .build();
+    }
+}
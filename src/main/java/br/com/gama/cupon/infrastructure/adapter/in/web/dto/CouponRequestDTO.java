@@ -5,6 +5,7 @@ import br.com.gama.cupon.application.command.UpdateCouponCommand;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -41,6 +42,10 @@ public class CouponRequestDTO {
     @Schema(description = "Indica se o cupom está publicado e visível para uso", example = "true")
     private boolean published;
 
+    @Schema(description = "Número máximo de resgates do cupom; ausente para cupom ilimitado", example = "1000", nullable = true)
+    @Min(value = 1, message = "O número máximo de usos deve ser no mínimo 1.")
+    private Integer maxUses;
+
     public CreateCouponCommand toCreateCommand() {
         return CreateCouponCommand.builder()
                 .code(this.code)
@@ -48,6 +53,7 @@ public class CouponRequestDTO {
                 .discountValue(this.discountValue)
                 .expirationDate(this.expirationDate)
                 .published(this.published)
+                .maxUses(this.maxUses)
                 .build();
     }
 
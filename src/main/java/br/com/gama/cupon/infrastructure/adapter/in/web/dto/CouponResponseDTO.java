@@ -30,6 +30,8 @@ public class CouponResponseDTO {
     private boolean published;
     @Schema(description = "Status de deleção (soft delete)", example = "false")
     private boolean deleted;
+    @Schema(description = "Número máximo de resgates; nulo para cupom ilimitado", example = "1000", nullable = true)
+    private Integer maxUses;
     @Schema(description = "Data de criação", example = "2024-01-01T10:00:00")
     private LocalDateTime createdAt;
     @Schema(description = "Data da última atualização", example = "2024-01-01T10:00:00")
@@ -44,6 +46,7 @@ public class CouponResponseDTO {
                 .expirationDate(response.getExpirationDate())
                 .published(response.isPublished())
                 .deleted(response.isDeleted())
+                .maxUses(response.getMaxUses())
                 .createdAt(response.getCreatedAt())
                 .updatedAt(response.getUpdatedAt())
                 .build();
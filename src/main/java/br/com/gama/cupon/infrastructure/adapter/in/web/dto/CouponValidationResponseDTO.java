@@ -0,0 +1,38 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.query.CouponValidationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@Schema(description = "DTO para resposta de validação de cupom")
+public class CouponValidationResponseDTO {
+    @Schema(description = "Código do cupom validado (após sanitização)", example = "CUPOM1")
+    private String code;
+    @Schema(description = "Indica se o cupom pode ser usado agora", example = "true")
+    private boolean valid;
+    @Schema(description = "ID do cupom, presente apenas quando válido", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private UUID couponId;
+    @Schema(description = "Valor do desconto, presente apenas quando válido", example = "10.50")
+    private BigDecimal discountValue;
+    @Schema(description = "Data de expiração, presente apenas quando válido", example = "2024-12-31")
+    private LocalDate expirationDate;
+
+    public static CouponValidationResponseDTO fromApplicationResponse(CouponValidationResponse response) {
+        return CouponValidationResponseDTO.builder()
+                .code(response.getCode())
+                .valid(response.isValid())
+                .couponId(response.getCouponId())
+                .discountValue(response.getDiscountValue())
+                .expirationDate(response.getExpirationDate())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.dto;
+
+import br.com.gama.cupon.application.command.GenerateCouponCodesCommand;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Schema(description = "DTO para geração de cupons com códigos únicos gerados pelo servidor")
+public class GenerateCouponsRequestDTO {
+
+    @Schema(description = "Quantidade de cupons a gerar", example = "100000")
+    @Min(value = 1, message = "A quantidade deve ser no mínimo 1.")
+    @Max(value = 5_000_000, message = "A quantidade deve ser no máximo 5000000.")
+    private long count;
+
+    @Schema(description = "Descrição comum a todos os cupons gerados", example = "Campanha de lançamento")
+    @NotBlank(message = "A descrição do cupom é obrigatória.")
+    private String description;
+
+    @Schema(description = "Valor do desconto de cada cupom", example = "10.50")
+    @NotNull(message = "O valor de desconto é obrigatório.")
+    @DecimalMin(value = "0.5", message = "O valor de desconto deve ser no mínimo 0.5.")
+    private BigDecimal discountValue;
+
+    @Schema(description = "Data de expiração dos cupons (formato YYYY-MM-DD)", example = "2024-12-31")
+    @NotNull(message = "A data de expiração é obrigatória.")
+    @FutureOrPresent(message = "A data de expiração não pode ser no passado.")
+    private LocalDate expirationDate;
+
+    @Schema(description = "Indica se os cupons são criados já publicados", example = "true")
+    private boolean published;
+
+    @Schema(description = "Número máximo de resgates de cada cupom gerado; ausente para cupons ilimitados", example = "1", nullable = true)
+    @Min(value = 1, message = "O número máximo de usos deve ser no mínimo 1.")
+    private Integer maxUses;
+
+    public GenerateCouponCodesCommand toCommand(int chunkSize) {
+        return GenerateCouponCodesCommand.builder()
+                .count(this.count)
+                .description(this.description)
+                .discountValue(this.discountValue)
+                .expirationDate(this.expirationDate)
+                .published(this.published)
+                .maxUses(this.maxUses)
+                .chunkSize(chunkSize)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.reactive;
+
+import br.com.gama.cupon.application.port.in.ReactiveCreateCouponUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.CouponAbstractController;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequiredArgsConstructor
+public class ReactiveCreateCouponController extends CouponAbstractController {
+
+    private final ReactiveCreateCouponUseCase createCouponUseCase;
+
+    @Operation(summary = "Cria um novo cupom de desconto", description = "Cadastra um cupom com código, descrição, valor de desconto e data de expiração.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Cupom criado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Requisição inválida")
+    })
+    @PostMapping
+    public Mono<ResponseEntity<CouponResponseDTO>> createCoupon(@Valid @RequestBody CouponRequestDTO requestDTO) {
+        return createCouponUseCase.createCoupon(requestDTO.toCreateCommand())
+                .map(response -> new ResponseEntity<>(CouponResponseDTO.fromApplicationResponse(response), HttpStatus.CREATED));
+    }
+}
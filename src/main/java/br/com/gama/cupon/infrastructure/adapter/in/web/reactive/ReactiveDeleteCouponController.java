@@ -0,0 +1,36 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.reactive;
+
+import br.com.gama.cupon.application.port.in.ReactiveDeleteCouponUseCase;
+import br.com.gama.cupon.infrastructure.adapter.in.web.CouponAbstractController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequiredArgsConstructor
+public class ReactiveDeleteCouponController extends CouponAbstractController {
+
+    private final ReactiveDeleteCouponUseCase deleteCouponUseCase;
+
+    @Operation(summary = "Deleta um cupom por ID", description = "Realiza um soft delete de um cupom existente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cupom deletado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Cupom já foi deletado")
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCoupon(@PathVariable UUID id) {
+        return deleteCouponUseCase.deleteCoupon(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
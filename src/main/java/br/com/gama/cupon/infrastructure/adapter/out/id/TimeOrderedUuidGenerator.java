@@ -0,0 +1,63 @@
+package br.com.gama.cupon.infrastructure.adapter.out.id;
+
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gera UUIDv7 (RFC 9562): 48 bits de timestamp Unix em milissegundos, versão, 12 bits de contador
+ * monotônico (rand_a) e 62 bits aleatórios (rand_b).
+ * <p>
+ * Ids gerados em sequência são crescentes, então as inserções vão para o fim da árvore B da chave primária
+ * em vez de se espalharem por páginas aleatórias. O estado (timestamp + contador) fica em um único
+ * {@link AtomicLong} avançado por CAS, sem lock; a parte aleatória vem de {@link ThreadLocalRandom},
+ * sem a contenção do {@code SecureRandom} usado por {@link UUID#randomUUID()}.
+ * Se o contador estourar dentro de um milissegundo, o timestamp avança um milissegundo à frente do relógio,
+ * preservando a ordem. Os ids não são imprevisíveis e não devem ser usados como segredo.
+ */
+@Component
+public class TimeOrderedUuidGenerator implements IdGeneratorPort {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    // (timestamp em ms << 12) | contador do último id emitido
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long state = nextState();
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSignificantBits = VARIANT_RFC_9562 | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextState() {
+        long candidate = clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long previous = lastState.get();
+            // Relógio parado ou voltando no tempo: continua a partir do último estado
+            long next = Math.max(candidate, previous + 1);
+            if (lastState.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carrega o índice de cupons ativos antes de a aplicação passar a aceitar tráfego (os listeners de
+ * ApplicationReadyEvent rodam antes do ReadinessState.ACCEPTING_TRAFFIC). Com snapshot habilitado, parte do
+ * último snapshot em disco e reaplica só o delta do banco; sem snapshot válido, lê todos os cupons ativos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveCouponIndexWarmUp {
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final ObjectProvider<ActiveCouponSnapshotStore> snapshotStore;
+    private final ObjectProvider<ActiveCouponSnapshotProperties> snapshotProperties;
+
+    // Um snapshot só pode ser gravado depois da carga; antes disso o índice está vazio ou incompleto
+    private volatile boolean completed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        Optional<ActiveCouponSnapshot> snapshot = loadSnapshot();
+        if (snapshot.isPresent()) {
+            AtomicInteger changes = new AtomicInteger();
+            activeCouponIndexPort.restore(snapshot.get().coupons(), apply ->
+                    couponRepositoryPort.forEachChangedSince(snapshot.get().changesSince(), coupon -> {
+                        apply.accept(coupon);
+                        changes.incrementAndGet();
+                    }));
+            log.info("Active coupon index loaded with {} coupons in {} ms from a snapshot of {} plus {} changes since {}",
+                    activeCouponIndexPort.size(), (System.nanoTime() - start) / 1_000_000,
+                    snapshot.get().writtenAt(), changes.get(), snapshot.get().changesSince());
+        } else {
+            // Em streaming: o pico de memória da subida é o índice, não uma lista com todos os cupons ativos
+            activeCouponIndexPort.rebuild(couponRepositoryPort::forEachActive);
+            log.info("Active coupon index loaded with {} coupons in {} ms",
+                    activeCouponIndexPort.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        completed = true;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private Optional<ActiveCouponSnapshot> loadSnapshot() {
+        ActiveCouponSnapshotStore store = snapshotStore.getIfAvailable();
+        if (store == null) {
+            return Optional.empty();
+        }
+        LocalDateTime oldestAccepted = LocalDateTime.now().minus(snapshotProperties.getObject().getMaxAge());
+        return store.load().filter(snapshot -> {
+            if (snapshot.writtenAt().isBefore(oldestAccepted)) {
+                log.info("Ignoring active coupon snapshot written at {}: older than the configured max age", snapshot.writtenAt());
+                return false;
+            }
+            return true;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Conteúdo do índice de cupons ativos em um instante. {@code changesSince} é o ponto a partir do qual o delta
+ * do banco precisa ser reaplicado: o início da cópia menos uma margem para commits atrasados e relógios de outros nós.
+ */
+public record ActiveCouponSnapshot(LocalDateTime writtenAt, LocalDateTime changesSince, List<ActiveCoupon> coupons) {
+}
@@ -0,0 +1,23 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.index.snapshot")
+public class ActiveCouponSnapshotProperties {
+    private boolean enabled = true;
+    private Path path = Path.of("./var/active-coupons.snapshot");
+    private Duration interval = Duration.ofMinutes(5);
+    private Duration initialDelay = Duration.ofMinutes(5);
+    // Recuo do ponto de reaplicação: cobre transações que gravaram updated_at antes do snapshot e commitaram depois,
+    // e a diferença de relógio entre os nós que escrevem no banco
+    private Duration changesOverlap = Duration.ofMinutes(5);
+    // Snapshot mais antigo que isso é ignorado na subida: o delta seria quase a tabela inteira
+    private Duration maxAge = Duration.ofDays(1);
+}
@@ -0,0 +1,74 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava periodicamente, e no shutdown, o snapshot do índice de cupons ativos deste nó em disco local.
+ * Não usa lock distribuído: cada nó tem o próprio índice e o próprio arquivo.
+ * Métricas: coupon.index.snapshot.write (duração) e coupon.index.snapshot.runs (pela tag outcome: completed, skipped ou failed).
+ */
+@Slf4j
+public class ActiveCouponSnapshotScheduler {
+
+    private final ActiveCouponIndexPort activeCouponIndexPort;
+    private final ActiveCouponIndexWarmUp warmUp;
+    private final ActiveCouponSnapshotStore snapshotStore;
+    private final ActiveCouponSnapshotProperties properties;
+
+    private final Timer writeTimer;
+    private final Counter completedRuns;
+    private final Counter skippedRuns;
+    private final Counter failedRuns;
+
+    public ActiveCouponSnapshotScheduler(ActiveCouponIndexPort activeCouponIndexPort, ActiveCouponIndexWarmUp warmUp,
+                                         ActiveCouponSnapshotStore snapshotStore, ActiveCouponSnapshotProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.activeCouponIndexPort = activeCouponIndexPort;
+        this.warmUp = warmUp;
+        this.snapshotStore = snapshotStore;
+        this.properties = properties;
+        this.writeTimer = Timer.builder("coupon.index.snapshot.write").register(meterRegistry);
+        this.completedRuns = Counter.builder("coupon.index.snapshot.runs").tag("outcome", "completed").register(meterRegistry);
+        this.skippedRuns = Counter.builder("coupon.index.snapshot.runs").tag("outcome", "skipped").register(meterRegistry);
+        this.failedRuns = Counter.builder("coupon.index.snapshot.runs").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.index.snapshot.interval:PT5M}", initialDelayString = "${coupon.index.snapshot.initial-delay:PT5M}")
+    public void writeSnapshot() {
+        if (!warmUp.isCompleted()) {
+            log.debug("Active coupon snapshot skipped: the index is still loading");
+            skippedRuns.increment();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            // O ponto de reaplicação é fixado antes da cópia: o que mudar durante a cópia cai no delta da próxima subida
+            LocalDateTime writtenAt = LocalDateTime.now();
+            List<ActiveCoupon> coupons = activeCouponIndexPort.snapshot();
+            snapshotStore.save(new ActiveCouponSnapshot(writtenAt, writtenAt.minus(properties.getChangesOverlap()), coupons));
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            completedRuns.increment();
+            log.debug("Active coupon snapshot written with {} coupons", coupons.size());
+        } catch (RuntimeException e) {
+            failedRuns.increment();
+            log.warn("Could not write the active coupon snapshot; the previous one stays in place", e);
+        }
+    }
+
+    // Com o snapshot gravado na parada, a próxima subida reaplica só o que outros nós alteraram nesse meio tempo
+    @PreDestroy
+    public void writeSnapshotOnShutdown() {
+        writeSnapshot();
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot binário do índice de cupons ativos em disco local:
+ * <pre>
+ *  0 int  magic          4 int  versão
+ *  8 long writtenAt      16 long changesSince (epoch millis, UTC)
+ * 24 int  quantidade     28 int  reservado
+ * 32 ...  um registro de 36 bytes por cupom: id (16), código compactado (8), desconto em centavos (8), expiração em epoch day (4)
+ *    int  CRC32C de tudo o que vem antes
+ * </pre>
+ * A gravação vai para um arquivo temporário, trocado por rename atômico; a leitura mapeia o arquivo e o percorre
+ * em sequência. Um arquivo truncado, de outra versão ou com checksum inválido é ignorado.
+ */
+@Slf4j
+public class ActiveCouponSnapshotStore {
+
+    private static final int MAGIC = 0x43504E53; // "CPNS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_SIZE = 36;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    public ActiveCouponSnapshotStore(Path path) {
+        this.path = path;
+    }
+
+    public void save(ActiveCouponSnapshot snapshot) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+                CRC32C crc = new CRC32C();
+                buffer.putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(toEpochMillis(snapshot.writtenAt()))
+                        .putLong(toEpochMillis(snapshot.changesSince()))
+                        .putInt(snapshot.coupons().size())
+                        .putInt(0);
+                for (ActiveCoupon coupon : snapshot.coupons()) {
+                    if (buffer.remaining() < ENTRY_SIZE) {
+                        drain(channel, buffer, crc);
+                    }
+                    buffer.putLong(coupon.id().getMostSignificantBits())
+                            .putLong(coupon.id().getLeastSignificantBits())
+                            .putLong(CouponCode.pack(coupon.code()))
+                            .putLong(coupon.discountValue().movePointRight(2).longValueExact())
+                            .putInt((int) coupon.expirationDate().toEpochDay());
+                }
+                drain(channel, buffer, crc);
+                buffer.putInt((int) crc.getValue()).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException("Could not write active coupon snapshot " + path, e);
+        }
+    }
+
+    public Optional<ActiveCouponSnapshot> load() {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                return invalid("unexpected size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return invalid("unknown format");
+            }
+            int count = buffer.getInt(24);
+            int checksumOffset = (int) size - CHECKSUM_SIZE;
+            if (count < 0 || checksumOffset != HEADER_SIZE + (long) count * ENTRY_SIZE) {
+                return invalid("truncated");
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, checksumOffset));
+            if ((int) crc.getValue() != buffer.getInt(checksumOffset)) {
+                return invalid("checksum mismatch");
+            }
+            List<ActiveCoupon> coupons = new ArrayList<>(count);
+            for (int offset = HEADER_SIZE; offset < checksumOffset; offset += ENTRY_SIZE) {
+                coupons.add(new ActiveCoupon(
+                        new UUID(buffer.getLong(offset), buffer.getLong(offset + 8)),
+                        CouponCode.unpack(buffer.getLong(offset + 16)),
+                        BigDecimal.valueOf(buffer.getLong(offset + 24), 2),
+                        LocalDate.ofEpochDay(buffer.getInt(offset + 32))));
+            }
+            return Optional.of(new ActiveCouponSnapshot(toDateTime(buffer.getLong(8)), toDateTime(buffer.getLong(16)), coupons));
+        } catch (IOException e) {
+            log.warn("Could not read active coupon snapshot {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ActiveCouponSnapshot> invalid(String reason) {
+        log.warn("Ignoring active coupon snapshot {}: {}", path, reason);
+        return Optional.empty();
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Trunca para baixo os micro/nanossegundos: o changesSince lido fica igual ou anterior ao gravado, o que só
+    // aumenta o delta reaplicado na subida e nunca deixa de fora uma alteração
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+}
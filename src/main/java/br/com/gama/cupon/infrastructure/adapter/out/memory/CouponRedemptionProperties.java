@@ -0,0 +1,22 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.redemption")
+public class CouponRedemptionProperties {
+    // Tempo máximo que um resgate fica só em memória: intervalo entre as gravações em coupon_redemptions
+    private Duration maxUnflushedTime = Duration.ofSeconds(1);
+    // Resgates pendentes que antecipam a gravação, sem esperar o intervalo
+    private int maxUnflushedCount = 10_000;
+    // Faixas do acumulador (arredondado para potência de 2); 0 = 4 por processador
+    private int stripes;
+    // Reservas de cupons com limite de usos que cada instância concede sem o banco confirmar as anteriores:
+    // é o quanto o limite pode ser ultrapassado por instância (queda do processo ou outra instância vendendo junto)
+    private int oversellTolerance = 100;
+}
@@ -0,0 +1,237 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.infrastructure.transaction.AfterCommitExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Component
+public class InMemoryActiveCouponIndexAdapter implements ActiveCouponIndexPort {
+
+    // Código compactado -> id num índice primitivo; os detalhes do cupom ficam num mapa por id
+    private final StampedLock lock = new StampedLock();
+    private PackedCodeIndex codeIndex = new PackedCodeIndex();
+    private volatile ConcurrentHashMap<UUID, ActiveCoupon> byId = new ConcurrentHashMap<>();
+    // Mudanças feitas enquanto uma carga monta o conteúdo novo; null fora de uma carga. Protegido pelo lock de escrita
+    private List<Runnable> changesDuringLoad;
+
+    private record Contents(PackedCodeIndex codeIndex, ConcurrentHashMap<UUID, ActiveCoupon> byId) {
+
+        private Contents(int expectedSize) {
+            this(new PackedCodeIndex(expectedSize), new ConcurrentHashMap<>(Math.max(16, expectedSize * 2)));
+        }
+    }
+
+    @Override
+    public void index(Coupon coupon) {
+        // Só entra no índice o que sobreviver ao commit; rollback não deixa cupom fantasma
+        AfterCommitExecutor.execute(() -> apply(coupon));
+    }
+
+    @Override
+    public void indexAll(Collection<Coupon> coupons) {
+        // Um único callback pós-commit para o lote inteiro, em vez de um por cupom
+        AfterCommitExecutor.execute(() -> coupons.forEach(this::apply));
+    }
+
+    @Override
+    public void evict(UUID couponId) {
+        AfterCommitExecutor.execute(() -> remove(couponId));
+    }
+
+    @Override
+    public void evictAll(Collection<UUID> couponIds) {
+        // Um único callback e uma única aquisição do lock de escrita para o lote inteiro
+        AfterCommitExecutor.execute(() -> removeAll(couponIds));
+    }
+
+    @Override
+    public Optional<ActiveCoupon> findByCode(String code) {
+        if (!CouponCode.isPackable(code)) {
+            return Optional.empty();
+        }
+        long packedCode = CouponCode.pack(code);
+        UUID couponId = lookup(packedCode);
+        if (couponId == null) {
+            return Optional.empty();
+        }
+        ActiveCoupon activeCoupon = byId.get(couponId);
+        if (activeCoupon == null || !activeCoupon.code().equals(code)) {
+            return Optional.empty();
+        }
+        if (activeCoupon.isExpired(LocalDate.now())) {
+            remove(activeCoupon.id());
+            return Optional.empty();
+        }
+        return Optional.of(activeCoupon);
+    }
+
+    @Override
+    public void rebuild(Consumer<Consumer<Coupon>> loader) {
+        load(() -> {
+            // Tamanho desconhecido de antemão: as tabelas crescem conforme os cupons chegam
+            Contents contents = new Contents(new PackedCodeIndex(), new ConcurrentHashMap<>());
+            LocalDate today = LocalDate.now();
+            loader.accept(coupon -> {
+                if (isIndexable(coupon, today)) {
+                    put(contents.codeIndex(), contents.byId(), ActiveCoupon.fromDomain(coupon));
+                }
+            });
+            return contents;
+        });
+    }
+
+    @Override
+    public void restore(Collection<ActiveCoupon> coupons, Consumer<Consumer<Coupon>> changes) {
+        load(() -> {
+            Contents contents = new Contents(coupons.size());
+            LocalDate today = LocalDate.now();
+            for (ActiveCoupon activeCoupon : coupons) {
+                if (!activeCoupon.isExpired(today)) {
+                    put(contents.codeIndex(), contents.byId(), activeCoupon);
+                }
+            }
+            changes.accept(coupon -> {
+                if (isIndexable(coupon, today)) {
+                    put(contents.codeIndex(), contents.byId(), ActiveCoupon.fromDomain(coupon));
+                } else {
+                    removeFrom(contents.codeIndex(), contents.byId(), coupon.getId());
+                }
+            });
+            return contents;
+        });
+    }
+
+    @Override
+    public List<ActiveCoupon> snapshot() {
+        return new ArrayList<>(byId.values());
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    // O conteúdo novo é montado fora do lock; durante a montagem, index/evict continuam valendo no conteúdo atual
+    // e ficam registrados. Na troca, já com o lock de escrita, são reaplicados na mesma ordem sobre o novo, que
+    // pode ter lido do banco um estado anterior a eles
+    private void load(Supplier<Contents> builder) {
+        long stamp = lock.writeLock();
+        try {
+            if (changesDuringLoad != null) {
+                throw new IllegalStateException("The active coupon index is already being loaded.");
+            }
+            changesDuringLoad = new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        Contents contents = null;
+        try {
+            contents = builder.get();
+        } finally {
+            stamp = lock.writeLock();
+            try {
+                if (contents != null) {
+                    this.codeIndex = contents.codeIndex();
+                    this.byId = contents.byId();
+                    changesDuringLoad.forEach(Runnable::run);
+                }
+                changesDuringLoad = null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private UUID lookup(long packedCode) {
+        // Leitura otimista: sem escrita concorrente, o caminho quente não adquire lock algum
+        long stamp = lock.tryOptimisticRead();
+        UUID couponId = codeIndex.get(packedCode);
+        if (lock.validate(stamp)) {
+            return couponId;
+        }
+        stamp = lock.readLock();
+        try {
+            return codeIndex.get(packedCode);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void apply(Coupon coupon) {
+        if (!isIndexable(coupon, LocalDate.now())) {
+            remove(coupon.getId());
+            return;
+        }
+        ActiveCoupon activeCoupon = ActiveCoupon.fromDomain(coupon);
+        long stamp = lock.writeLock();
+        try {
+            put(codeIndex, byId, activeCoupon);
+            recordDuringLoad(() -> put(codeIndex, byId, activeCoupon));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void remove(UUID couponId) {
+        long stamp = lock.writeLock();
+        try {
+            removeFrom(codeIndex, byId, couponId);
+            recordDuringLoad(() -> removeFrom(codeIndex, byId, couponId));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void removeAll(Collection<UUID> couponIds) {
+        List<UUID> ids = List.copyOf(couponIds);
+        long stamp = lock.writeLock();
+        try {
+            ids.forEach(couponId -> removeFrom(codeIndex, byId, couponId));
+            recordDuringLoad(() -> ids.forEach(couponId -> removeFrom(codeIndex, byId, couponId)));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Chamado com o lock de escrita; a mudança lê os campos só quando roda, ou seja, já sobre o conteúdo novo
+    private void recordDuringLoad(Runnable change) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(change);
+        }
+    }
+
+    private static void put(PackedCodeIndex codeIndex, Map<UUID, ActiveCoupon> byId, ActiveCoupon activeCoupon) {
+        ActiveCoupon previous = byId.put(activeCoupon.id(), activeCoupon);
+        if (previous != null && !previous.code().equals(activeCoupon.code())) {
+            codeIndex.remove(CouponCode.pack(previous.code()), previous.id());
+        }
+        codeIndex.put(CouponCode.pack(activeCoupon.code()), activeCoupon.id());
+    }
+
+    private static void removeFrom(PackedCodeIndex codeIndex, Map<UUID, ActiveCoupon> byId, UUID couponId) {
+        ActiveCoupon removed = byId.remove(couponId);
+        if (removed != null) {
+            // Outro cupom ativo pode ter reaproveitado o código; só remove se a entrada ainda for deste id
+            codeIndex.remove(CouponCode.pack(removed.code()), couponId);
+        }
+    }
+
+    private boolean isIndexable(Coupon coupon, LocalDate today) {
+        return coupon.isPublished() && !coupon.isDeleted() && !coupon.getExpirationDate().getValue().isBefore(today);
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponQuotaPort;
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cotas de uso de cupons com maxUses, consumidas em memória com compare-and-set: a reserva não trava a linha do
+ * cupom nem espera o banco. Os usos reservados seguem pelo {@link WriteBehindCouponRedemptionCounter} e só contam
+ * como confirmados quando o lote que os contém foi gravado em coupon_redemptions.
+ * <p>
+ * Cada instância concede no máximo oversellTolerance reservas ainda não confirmadas por cupom. Ao atingir esse
+ * número, a requisição força uma gravação e relê o total do banco antes de reservar de novo; com o banco fora,
+ * responde 503 em vez de continuar vendendo. Assim o limite só é ultrapassado pelo que uma instância perde numa
+ * queda ou pelo que outra instância reservou desde a última releitura: no pior caso, oversellTolerance por instância.
+ * A cota é carregada do banco na primeira reserva do cupom, o que ressincroniza a instância depois de subir.
+ * Métrica: coupon.quota.saturated (reservas que precisaram esperar uma gravação).
+ */
+@Slf4j
+public class InMemoryCouponQuotaAdapter implements CouponQuotaPort {
+
+    private static final int MAX_SYNC_ATTEMPTS = 3;
+    private static final long EXHAUSTED = -1;
+    private static final long SATURATED = -2;
+
+    // Os três valores só crescem. external e confirmed são escritos apenas com confirmLock, nessa ordem
+    private static final class Quota {
+        // Reservas concedidas por esta instância desde que a cota foi carregada
+        private final AtomicLong granted = new AtomicLong();
+        // Dessas, as que já estão gravadas em coupon_redemptions
+        private volatile long confirmed;
+        // Total gravado que não veio desta instância: o da carga mais o das outras instâncias
+        private volatile long external;
+
+        private Quota(long persisted) {
+            this.external = persisted;
+        }
+    }
+
+    private final CouponRedemptionRepositoryPort couponRedemptionRepositoryPort;
+    private final WriteBehindCouponRedemptionCounter redemptionCounter;
+    private final long oversellTolerance;
+    private final Map<UUID, Quota> quotas = new ConcurrentHashMap<>();
+    private final ReentrantLock confirmLock = new ReentrantLock();
+    // Gravados mas ainda não confirmados, porque a releitura dos totais falhou; protegido por confirmLock
+    private final Map<UUID, Long> unconfirmed = new HashMap<>();
+    private final Counter saturatedReservations;
+
+    public InMemoryCouponQuotaAdapter(CouponRedemptionRepositoryPort couponRedemptionRepositoryPort,
+                                      WriteBehindCouponRedemptionCounter redemptionCounter,
+                                      CouponRedemptionProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getOversellTolerance() < 1) {
+            throw new IllegalArgumentException("coupon.redemption.oversell-tolerance must be at least 1.");
+        }
+        this.couponRedemptionRepositoryPort = couponRedemptionRepositoryPort;
+        this.redemptionCounter = redemptionCounter;
+        this.oversellTolerance = properties.getOversellTolerance();
+        this.saturatedReservations = Counter.builder("coupon.quota.saturated").register(meterRegistry);
+        redemptionCounter.addFlushListener(this::onFlushed);
+    }
+
+    @Override
+    public OptionalLong tryReserve(UUID couponId, int maxUses) {
+        Quota quota = quotaOf(couponId);
+        for (int attempt = 0; ; attempt++) {
+            long remaining = reserve(quota, maxUses);
+            if (remaining >= 0) {
+                return OptionalLong.of(remaining);
+            }
+            if (remaining == EXHAUSTED) {
+                return OptionalLong.empty();
+            }
+            saturatedReservations.increment();
+            if (attempt == MAX_SYNC_ATTEMPTS || !synchronize()) {
+                throw new DataAccessResourceFailureException(
+                        "Usage quota of coupon " + couponId + " is waiting for redemptions to be written to the database.");
+            }
+        }
+    }
+
+    // confirmed é lido antes de external: quem vê o confirmed novo vê também o external escrito antes dele
+    private long reserve(Quota quota, int maxUses) {
+        while (true) {
+            long granted = quota.granted.get();
+            long confirmed = quota.confirmed;
+            long used = quota.external + granted;
+            if (used >= maxUses) {
+                return EXHAUSTED;
+            }
+            if (granted - confirmed >= oversellTolerance) {
+                return SATURATED;
+            }
+            // granted só cresce, então o CAS não sofre ABA: se passou, ninguém reservou desde a leitura
+            if (quota.granted.compareAndSet(granted, granted + 1)) {
+                return maxUses - used - 1;
+            }
+        }
+    }
+
+    // Sem computeIfAbsent: a leitura do banco não pode segurar o lock interno do mapa
+    private Quota quotaOf(UUID couponId) {
+        Quota quota = quotas.get(couponId);
+        if (quota != null) {
+            return quota;
+        }
+        long persisted = couponRedemptionRepositoryPort.findRedemptionCounts(List.of(couponId)).getOrDefault(couponId, 0L);
+        Quota loaded = new Quota(persisted);
+        quota = quotas.putIfAbsent(couponId, loaded);
+        return quota != null ? quota : loaded;
+    }
+
+    // Caminho de quem encontrou a cota saturada: grava o que está pendente e confirma na hora, sem esperar o agendamento
+    private boolean synchronize() {
+        if (!redemptionCounter.flush()) {
+            return false;
+        }
+        confirmLock.lock();
+        try {
+            return confirmUnconfirmed();
+        } finally {
+            confirmLock.unlock();
+        }
+    }
+
+    // Chamado pelo contador depois de cada lote gravado, ainda dentro do flush
+    private void onFlushed(Map<UUID, Long> flushed) {
+        confirmLock.lock();
+        try {
+            flushed.forEach((couponId, count) -> {
+                if (quotas.containsKey(couponId)) {
+                    unconfirmed.merge(couponId, count, Long::sum);
+                }
+            });
+            confirmUnconfirmed();
+        } finally {
+            confirmLock.unlock();
+        }
+    }
+
+    // Relê os totais gravados dos cupons com usos a confirmar e atualiza external antes de liberar as reservas
+    private boolean confirmUnconfirmed() {
+        if (unconfirmed.isEmpty()) {
+            return true;
+        }
+        Map<UUID, Long> totals;
+        try {
+            totals = couponRedemptionRepositoryPort.findRedemptionCounts(unconfirmed.keySet());
+        } catch (RuntimeException e) {
+            log.warn("Could not read redemption totals of {} limited coupons; their quotas stay reserved until the next flush",
+                    unconfirmed.size(), e);
+            return false;
+        }
+        unconfirmed.forEach((couponId, count) -> {
+            Quota quota = quotas.get(couponId);
+            long confirmed = quota.confirmed + count;
+            long external = totals.getOrDefault(couponId, 0L) - confirmed;
+            if (external > quota.external) {
+                quota.external = external;
+            }
+            quota.confirmed = confirmed;
+        });
+        unconfirmed.clear();
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Posição da sequência em memória, para o profile {@code mmap}: sem banco, ela não sobrevive ao restart, e o nó
+ * volta ao início da faixa pulando os códigos já ativos, como antes da posição persistida.
+ */
+public class InProcessCouponCodeSequenceAdapter implements CouponCodeSequencePort {
+
+    private final Map<String, Long> positions = new ConcurrentHashMap<>();
+
+    @Override
+    public OptionalLong findPosition(String sequence) {
+        Long position = positions.get(sequence);
+        return position == null ? OptionalLong.empty() : OptionalLong.of(position);
+    }
+
+    @Override
+    public void advance(String sequence, long nextIndex) {
+        positions.merge(sequence, nextIndex, Math::max);
+    }
+}
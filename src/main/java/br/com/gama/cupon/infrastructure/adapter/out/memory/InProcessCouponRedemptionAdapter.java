@@ -0,0 +1,35 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Totais de resgates em memória, para o profile {@code mmap}, que não tem banco: valem enquanto o processo estiver
+ * de pé e recomeçam do zero na próxima subida.
+ */
+public class InProcessCouponRedemptionAdapter implements CouponRedemptionRepositoryPort {
+
+    private final Map<UUID, Long> redemptions = new ConcurrentHashMap<>();
+
+    @Override
+    public void addRedemptions(Map<UUID, Long> redemptionsByCoupon) {
+        redemptionsByCoupon.forEach((couponId, count) -> redemptions.merge(couponId, count, Long::sum));
+    }
+
+    @Override
+    public Map<UUID, Long> findRedemptionCounts(Collection<UUID> couponIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID couponId : couponIds) {
+            Long count = redemptions.get(couponId);
+            if (count != null) {
+                counts.put(couponId, count);
+            }
+        }
+        return counts;
+    }
+}
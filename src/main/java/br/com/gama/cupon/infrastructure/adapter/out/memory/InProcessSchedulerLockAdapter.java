@@ -0,0 +1,32 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lock em memória, para o profile {@code mmap}: o log de cupons pertence a um único processo, então basta impedir
+ * que duas execuções agendadas do mesmo processo se sobreponham. Mesma semântica do lock em tabela: o dono não
+ * readquire um lock que ainda detém, e o lock vence sozinho após lockAtMostFor.
+ */
+public class InProcessSchedulerLockAdapter implements SchedulerLockPort {
+
+    private record Lease(String owner, long lockedUntilNanos) {
+    }
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration lockAtMostFor) {
+        long now = System.nanoTime();
+        Lease acquired = new Lease(owner, now + lockAtMostFor.toNanos());
+        return leases.compute(name, (key, current) -> current == null || current.lockedUntilNanos() - now <= 0 ? acquired : current) == acquired;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        leases.computeIfPresent(name, (key, lease) -> lease.owner().equals(owner) ? null : lease);
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Índice de endereçamento aberto (linear probing) de código compactado ({@code CouponCode.pack}) para UUID,
+ * guardado em três arrays de {@code long}: cerca de 48 bytes por entrada com fator de carga 0.5,
+ * sem String, sem nó de HashMap e sem UUID alocado por entrada.
+ * <p>
+ * Não é thread-safe para escrita. {@link #get(long)} nunca lança exceção nem entra em laço sob escrita
+ * concorrente, então pode ser usado em leituras otimistas desde que o chamador valide o resultado
+ * (ex.: {@link java.util.concurrent.locks.StampedLock#validate(long)}).
+ */
+public final class PackedCodeIndex {
+
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private Table table;
+    private int size;
+
+    public PackedCodeIndex() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public PackedCodeIndex(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    public UUID get(long key) {
+        Table current = table;
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            long candidate = keys[slot];
+            if (candidate == key) {
+                return new UUID(current.mostSignificantBits[slot], current.leastSignificantBits[slot]);
+            }
+            if (candidate == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return findSlot(table, key) >= 0;
+    }
+
+    public UUID put(long key, UUID value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Packed keys must be non-negative: " + key);
+        }
+        if ((size + 1) * 2L > table.keys.length) {
+            resize(table.keys.length * 2);
+        }
+        Table current = table;
+        int mask = current.keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (current.keys[slot] != EMPTY) {
+            if (current.keys[slot] == key) {
+                UUID previous = new UUID(current.mostSignificantBits[slot], current.leastSignificantBits[slot]);
+                current.mostSignificantBits[slot] = value.getMostSignificantBits();
+                current.leastSignificantBits[slot] = value.getLeastSignificantBits();
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        current.mostSignificantBits[slot] = value.getMostSignificantBits();
+        current.leastSignificantBits[slot] = value.getLeastSignificantBits();
+        current.keys[slot] = key;
+        size++;
+        return null;
+    }
+
+    public UUID remove(long key) {
+        Table current = table;
+        int slot = findSlot(current, key);
+        if (slot < 0) {
+            return null;
+        }
+        UUID previous = new UUID(current.mostSignificantBits[slot], current.leastSignificantBits[slot]);
+        deleteSlot(current, slot);
+        return previous;
+    }
+
+    // Remove apenas se a chave ainda apontar para o valor esperado
+    public boolean remove(long key, UUID expectedValue) {
+        Table current = table;
+        int slot = findSlot(current, key);
+        if (slot < 0
+                || current.mostSignificantBits[slot] != expectedValue.getMostSignificantBits()
+                || current.leastSignificantBits[slot] != expectedValue.getLeastSignificantBits()) {
+            return false;
+        }
+        deleteSlot(current, slot);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return table.keys.length;
+    }
+
+    public long footprintBytes() {
+        // Três arrays de long + cabeçalhos; ignora o próprio objeto
+        return 3L * (16 + 8L * table.keys.length);
+    }
+
+    private int findSlot(Table current, long key) {
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Backward-shift deletion: mantém as cadeias de probing contíguas sem usar tombstones
+    private void deleteSlot(Table current, int slot) {
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int ideal = slotOf(keys[next], mask);
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                current.mostSignificantBits[hole] = current.mostSignificantBits[next];
+                current.leastSignificantBits[hole] = current.leastSignificantBits[next];
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private void resize(int newCapacity) {
+        Table old = table;
+        Table resized = new Table(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key != EMPTY) {
+                int slot = slotOf(key, mask);
+                while (resized.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                resized.keys[slot] = key;
+                resized.mostSignificantBits[slot] = old.mostSignificantBits[i];
+                resized.leastSignificantBits[slot] = old.leastSignificantBits[i];
+            }
+        }
+        table = resized;
+    }
+
+    private static int slotOf(long key, int mask) {
+        // Finalizador do MurmurHash3: códigos compactados são sequenciais e precisam ser espalhados
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        long capacity = Long.highestOneBit(required - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final long[] mostSignificantBits;
+        private final long[] leastSignificantBits;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.mostSignificantBits = new long[capacity];
+            this.leastSignificantBits = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+    }
+}
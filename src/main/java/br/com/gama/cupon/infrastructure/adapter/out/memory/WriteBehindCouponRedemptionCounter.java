@@ -0,0 +1,212 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionCounterPort;
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Contador de resgates com escrita atrasada (write-behind). Cada thread incrementa uma faixa escolhida pelo próprio
+ * id, como as células de um {@link java.util.concurrent.atomic.LongAdder}: resgates simultâneos do mesmo cupom não
+ * disputam a mesma linha do banco nem o mesmo lock. As faixas são esvaziadas juntas e os totais por cupom vão para
+ * coupon_redemptions numa única transação em lote.
+ * <p>
+ * Limite de perda em uma queda do processo: o que chegou desde a última gravação, que acontece a cada
+ * maxUnflushedTime ou assim que houver cerca de maxUnflushedCount resgates pendentes, o que vier antes.
+ * Um lote que falha volta a ser somado ao próximo; no shutdown, o que estiver pendente é gravado antes de o
+ * datasource fechar. Métricas: coupon.redemption.flush (duração), coupon.redemption.flush.runs (outcome:
+ * completed ou failed), coupon.redemption.flushed (resgates gravados) e coupon.redemption.unflushed (pendentes).
+ */
+@Slf4j
+public class WriteBehindCouponRedemptionCounter implements CouponRedemptionCounterPort, Closeable {
+
+    // Contagens de uma faixa, trocadas por um mapa vazio a cada gravação; protegidas por lock
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<UUID, Long> counts = new HashMap<>();
+        private int pending;
+    }
+
+    private final CouponRedemptionRepositoryPort couponRedemptionRepositoryPort;
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int maxPendingPerStripe;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Totais de um lote que falhou, somados à próxima gravação; protegido por flushLock
+    private Map<UUID, Long> failed = new HashMap<>();
+    private volatile long failedCount;
+    private final List<Consumer<Map<UUID, Long>>> flushListeners = new CopyOnWriteArrayList<>();
+
+    private final Timer flushTimer;
+    private final Counter completedRuns;
+    private final Counter failedRuns;
+    private final Counter flushedRedemptions;
+
+    public WriteBehindCouponRedemptionCounter(CouponRedemptionRepositoryPort couponRedemptionRepositoryPort,
+                                              CouponRedemptionProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getMaxUnflushedCount() < 1 || properties.getMaxUnflushedTime().isNegative() || properties.getMaxUnflushedTime().isZero()) {
+            throw new IllegalArgumentException("coupon.redemption.max-unflushed-count and max-unflushed-time must be positive.");
+        }
+        this.couponRedemptionRepositoryPort = couponRedemptionRepositoryPort;
+        int requested = properties.getStripes() > 0 ? properties.getStripes() : 4 * Runtime.getRuntime().availableProcessors();
+        int stripeCount = Math.min(1 << 16, Integer.highestOneBit(requested - 1) << 1);
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripes.length);
+        this.maxPendingPerStripe = Math.max(1, properties.getMaxUnflushedCount() / stripes.length);
+
+        this.flushTimer = Timer.builder("coupon.redemption.flush").register(meterRegistry);
+        this.completedRuns = Counter.builder("coupon.redemption.flush.runs").tag("outcome", "completed").register(meterRegistry);
+        this.failedRuns = Counter.builder("coupon.redemption.flush.runs").tag("outcome", "failed").register(meterRegistry);
+        this.flushedRedemptions = Counter.builder("coupon.redemption.flushed").register(meterRegistry);
+        Gauge.builder("coupon.redemption.unflushed", this, WriteBehindCouponRedemptionCounter::unflushed).register(meterRegistry);
+
+        long interval = properties.getMaxUnflushedTime().toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("coupon-redemption-flush").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void increment(UUID couponId) {
+        Stripe stripe = stripeOfCurrentThread();
+        boolean full;
+        stripe.lock.lock();
+        try {
+            stripe.counts.merge(couponId, 1L, Long::sum);
+            full = ++stripe.pending >= maxPendingPerStripe;
+        } finally {
+            stripe.lock.unlock();
+        }
+        // Uma faixa cheia antecipa a gravação de todas; pedidos repetidos até ela começar viram um só
+        if (full && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false); // em shutdown: o close() grava o que estiver pendente
+            }
+        }
+    }
+
+    /**
+     * Registra quem precisa saber o que já foi gravado (as cotas de uso, por exemplo). O listener recebe cada lote
+     * gravado com sucesso, ainda dentro do flush: gravações seguintes só começam depois que ele retorna.
+     */
+    public void addFlushListener(Consumer<Map<UUID, Long>> listener) {
+        flushListeners.add(listener);
+    }
+
+    /**
+     * Esvazia as faixas e grava os totais por cupom em um lote. Nunca lança exceção: se a gravação falhar, os
+     * totais ficam guardados e entram na próxima.
+     *
+     * @return false se a gravação falhou e ainda há resgates esperando o banco
+     */
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            Map<UUID, Long> batch = failed;
+            failed = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                Map<UUID, Long> drained;
+                stripe.lock.lock();
+                try {
+                    if (stripe.pending == 0) {
+                        continue;
+                    }
+                    drained = stripe.counts;
+                    stripe.counts = new HashMap<>();
+                    stripe.pending = 0;
+                } finally {
+                    stripe.lock.unlock();
+                }
+                drained.forEach((couponId, count) -> batch.merge(couponId, count, Long::sum));
+            }
+            if (batch.isEmpty()) {
+                return true;
+            }
+            long redemptions = batch.values().stream().mapToLong(Long::longValue).sum();
+            long start = System.nanoTime();
+            try {
+                couponRedemptionRepositoryPort.addRedemptions(batch);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                completedRuns.increment();
+                flushedRedemptions.increment(redemptions);
+                failedCount = 0;
+                log.debug("Flushed {} redemptions of {} coupons", redemptions, batch.size());
+            } catch (RuntimeException e) {
+                failed = batch;
+                failedCount = redemptions;
+                failedRuns.increment();
+                log.warn("Could not flush {} redemptions of {} coupons; they will be retried with the next batch",
+                        redemptions, batch.size(), e);
+                return false;
+            }
+            Map<UUID, Long> flushed = Collections.unmodifiableMap(batch);
+            for (Consumer<Map<UUID, Long>> listener : flushListeners) {
+                try {
+                    listener.accept(flushed);
+                } catch (RuntimeException e) {
+                    log.warn("Flush listener failed after {} redemptions were written", redemptions, e);
+                }
+            }
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Chamado pelo Spring no shutdown, depois que o servidor web parou de aceitar requisições
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        if (failedCount > 0) {
+            log.error("{} coupon redemptions were lost: the final flush to coupon_redemptions failed", failedCount);
+        }
+    }
+
+    // Soma aproximada, sem locks: só para a métrica
+    private double unflushed() {
+        long pending = failedCount;
+        for (Stripe stripe : stripes) {
+            pending += stripe.pending;
+        }
+        return pending;
+    }
+
+    // Hash multiplicativo do id da thread: threads (inclusive virtuais) com ids seguidos caem em faixas diferentes
+    private Stripe stripeOfCurrentThread() {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        return stripes[(int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> stripeShift)];
+    }
+}
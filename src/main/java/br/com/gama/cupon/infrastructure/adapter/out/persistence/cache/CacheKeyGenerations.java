@@ -0,0 +1,33 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Gerações de invalidação por faixa de hash da chave: uma invalidação só derruba as leituras que correram
+// junto com ela para chaves da mesma faixa, não todas as leituras em andamento no cache.
+// O total conta todas as invalidações, para quem só conhece a chave depois da leitura
+final class CacheKeyGenerations {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES);
+    private final AtomicLong total = new AtomicLong();
+
+    long of(Object key) {
+        return stripes.get(stripe(key));
+    }
+
+    long total() {
+        return total.get();
+    }
+
+    void advance(Object key) {
+        stripes.incrementAndGet(stripe(key));
+        total.incrementAndGet();
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,287 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.infrastructure.transaction.AfterCommitExecutor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Decorator read-through sobre o adapter de persistência: cache por id (cupom) e por código (id ou negativo).
+// Cada invalidação avança a geração da chave; uma leitura do banco só fica no cache se nenhuma invalidação
+// da mesma chave aconteceu enquanto ela rodava, senão poderia regravar um estado anterior ao commit e nunca mais sair
+public class CachingCouponRepositoryAdapter implements CouponRepositoryPort {
+
+    private final CouponRepositoryPort delegate;
+    private final CouponCacheStore<UUID, Coupon> idCache;
+    private final CouponCacheStore<String, CodeEntry> codeCache;
+    private final long negativeTtlNanos;
+    private final CacheKeyGenerations idGenerations = new CacheKeyGenerations();
+    private final CacheKeyGenerations codeGenerations = new CacheKeyGenerations();
+
+    public CachingCouponRepositoryAdapter(CouponRepositoryPort delegate, CouponCacheProperties properties) {
+        this.delegate = delegate;
+        this.idCache = properties.getPolicy().createStore(properties.getMaximumSize());
+        this.codeCache = properties.getPolicy().createStore(properties.getMaximumSize());
+        this.negativeTtlNanos = properties.getNegativeTtl().toNanos();
+    }
+
+    @Override
+    public Coupon create(Coupon coupon) {
+        Coupon createdCoupon = delegate.create(coupon);
+        // Remove a entrada negativa do código, caso alguém o tenha consultado antes da criação
+        invalidate(coupon.getId(), coupon.getCode().getValue());
+        return createdCoupon;
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        Coupon savedCoupon = delegate.save(coupon);
+        invalidate(coupon.getId(), coupon.getCode().getValue());
+        return savedCoupon;
+    }
+
+    // Só o id é invalidado: a entrada do código aponta para o id e é descartada ao encontrar o cupom deletado
+    @Override
+    public boolean softDeleteById(UUID id, LocalDateTime deletedAt) {
+        boolean deleted = delegate.softDeleteById(id, deletedAt);
+        invalidateId(id);
+        AfterCommitExecutor.executeAfterCompletion(() -> invalidateId(id));
+        return deleted;
+    }
+
+    @Override
+    public int expireAllById(Collection<UUID> ids, LocalDateTime expiredAt) {
+        int expired = delegate.expireAllById(ids, expiredAt);
+        ids.forEach(this::invalidateId);
+        AfterCommitExecutor.executeAfterCompletion(() -> ids.forEach(this::invalidateId));
+        return expired;
+    }
+
+    @Override
+    public int archiveAll(Collection<UUID> ids, LocalDateTime archivedAt) {
+        int archived = delegate.archiveAll(ids, archivedAt);
+        ids.forEach(this::invalidateId);
+        AfterCommitExecutor.executeAfterCompletion(() -> ids.forEach(this::invalidateId));
+        return archived;
+    }
+
+    @Override
+    public List<UUID> findArchivableIds(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit) {
+        return delegate.findArchivableIds(deletedBefore, expiredBefore, limit);
+    }
+
+    // O arquivo não é cacheado: é consultado raramente e só sob demanda
+    @Override
+    public Optional<Coupon> findArchivedById(UUID id) {
+        return delegate.findArchivedById(id);
+    }
+
+    @Override
+    public List<UUID> findExpiredActiveIds(LocalDate referenceDate, int limit) {
+        return delegate.findExpiredActiveIds(referenceDate, limit);
+    }
+
+    @Override
+    public boolean existsByIdIncludingDeleted(UUID id) {
+        return idCache.getIfPresent(id) != null || delegate.existsByIdIncludingDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findById(UUID id) {
+        return findByIdIgnoringDeleted(id).filter(coupon -> !coupon.isDeleted());
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIgnoringDeleted(UUID id) {
+        Coupon cached = idCache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        long generationBeforeLoad = idGenerations.of(id);
+        Optional<Coupon> loaded = delegate.findByIdIgnoringDeleted(id);
+        loaded.ifPresent(coupon -> putId(coupon, generationBeforeLoad));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        CodeEntry entry = codeCache.getIfPresent(code);
+        if (entry != null) {
+            if (entry.isNegative()) {
+                if (System.nanoTime() - entry.expiresAtNanos() < 0) {
+                    return Optional.empty();
+                }
+            } else {
+                // O código aponta para um id; o estado atual do cupom vem do cache por id. Um cupom vencido pode ter
+                // liberado o código na varredura de expiração, que o domínio não enxerga: esse caso volta ao repositório
+                Optional<Coupon> coupon = findByIdIgnoringDeleted(entry.couponId())
+                        .filter(found -> !found.isDeleted() && !found.isExpired() && found.getCode().getValue().equals(code));
+                if (coupon.isPresent()) {
+                    return coupon;
+                }
+            }
+            codeCache.invalidate(code);
+        }
+
+        // O id só é conhecido depois da leitura, então a entrada por id usa o total de invalidações;
+        // se ela for descartada, a próxima busca pelo código a repõe pelo caminho por id
+        long idTotalBeforeLoad = idGenerations.total();
+        long codeGenerationBeforeLoad = codeGenerations.of(code);
+        Optional<Coupon> loaded = delegate.findByCode(code);
+        if (loaded.isPresent()) {
+            Coupon coupon = loaded.get();
+            putIdIfUnchanged(coupon, idTotalBeforeLoad);
+            putCode(code, CodeEntry.positive(coupon.getId()), codeGenerationBeforeLoad);
+        } else {
+            putCode(code, CodeEntry.negative(System.nanoTime() + negativeTtlNanos), codeGenerationBeforeLoad);
+        }
+        return loaded;
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        return findByIdIgnoringDeleted(id);
+    }
+
+    @Override
+    public List<Coupon> findAll() {
+        return delegate.findAll();
+    }
+
+    // Páginas não são cacheadas: o cursor torna cada consulta praticamente única
+    @Override
+    public List<Coupon> findPage(CouponSearchCriteria criteria, CouponPageCursor after, int limit) {
+        return delegate.findPage(criteria, after, limit);
+    }
+
+    // Varredura completa: não passa pelo cache para não expulsar as entradas quentes
+    @Override
+    public void forEachActive(Consumer<? super Coupon> action) {
+        delegate.forEachActive(action);
+    }
+
+    @Override
+    public List<Coupon> findAllPublishedNotExpired(LocalDate referenceDate) {
+        return delegate.findAllPublishedNotExpired(referenceDate);
+    }
+
+    @Override
+    public void forEachChangedSince(LocalDateTime since, Consumer<? super Coupon> action) {
+        delegate.forEachChangedSince(since, action);
+    }
+
+    @Override
+    public Set<String> findActiveCodes(Collection<String> codes) {
+        // Consulta em conjunto sempre vai ao banco: é a checagem de unicidade do lote
+        return delegate.findActiveCodes(codes);
+    }
+
+    @Override
+    public Set<String> insertAll(List<Coupon> coupons) {
+        Set<String> takenCodes = delegate.insertAll(coupons);
+        // Remove entradas negativas dos códigos recém-criados
+        List<String> codes = coupons.stream().map(coupon -> coupon.getCode().getValue()).toList();
+        codes.forEach(this::invalidateCode);
+        AfterCommitExecutor.executeAfterCompletion(() -> codes.forEach(this::invalidateCode));
+        return takenCodes;
+    }
+
+    public CouponCacheStats idCacheStats() {
+        return idCache.stats();
+    }
+
+    public CouponCacheStats codeCacheStats() {
+        return codeCache.stats();
+    }
+
+    public void invalidateAll() {
+        idCache.invalidateAll();
+        codeCache.invalidateAll();
+    }
+
+    private void invalidate(UUID id, String code) {
+        // Invalida já e de novo ao fim da transação, para descartar leituras que repopularam o cache no meio tempo
+        invalidateId(id);
+        invalidateCode(code);
+        AfterCommitExecutor.executeAfterCompletion(() -> {
+            invalidateId(id);
+            invalidateCode(code);
+        });
+    }
+
+    // A geração avança antes de remover: quem gravar depois disso percebe a mudança e desfaz a própria gravação
+    private void invalidateId(UUID id) {
+        idGenerations.advance(id);
+        idCache.invalidate(id);
+    }
+
+    private void invalidateCode(String code) {
+        codeGenerations.advance(code);
+        codeCache.invalidate(code);
+    }
+
+    // Grava e confere a geração depois: se uma invalidação da chave correu junto com a leitura, a entrada é descartada
+    private void putId(Coupon coupon, long generationBeforeLoad) {
+        idCache.put(coupon.getId(), copyOf(coupon));
+        if (idGenerations.of(coupon.getId()) != generationBeforeLoad) {
+            idCache.invalidate(coupon.getId());
+        }
+    }
+
+    private void putIdIfUnchanged(Coupon coupon, long totalBeforeLoad) {
+        if (idGenerations.total() != totalBeforeLoad) {
+            return;
+        }
+        idCache.put(coupon.getId(), copyOf(coupon));
+        if (idGenerations.total() != totalBeforeLoad) {
+            idCache.invalidate(coupon.getId());
+        }
+    }
+
+    private void putCode(String code, CodeEntry entry, long generationBeforeLoad) {
+        codeCache.put(code, entry);
+        if (codeGenerations.of(code) != generationBeforeLoad) {
+            codeCache.invalidate(code);
+        }
+    }
+
+    // Coupon é mutável (markAsDeleted); o cache nunca entrega a própria instância armazenada
+    private static Coupon copyOf(Coupon coupon) {
+        return Coupon.restore()
+                .id(coupon.getId())
+                .code(coupon.getCode().getValue())
+                .description(coupon.getDescription())
+                .discountValue(coupon.getDiscountValue().getValue())
+                .expirationDate(coupon.getExpirationDate().getValue())
+                .published(coupon.isPublished())
+                .deleted(coupon.isDeleted())
+                .maxUses(coupon.getMaxUses())
+                .createdAt(coupon.getCreatedAt())
+                .updatedAt(coupon.getUpdatedAt())
+                .build();
+    }
+
+    record CodeEntry(UUID couponId, long expiresAtNanos) {
+
+        static CodeEntry positive(UUID couponId) {
+            return new CodeEntry(couponId, Long.MAX_VALUE);
+        }
+
+        static CodeEntry negative(long expiresAtNanos) {
+            return new CodeEntry(null, expiresAtNanos);
+        }
+
+        boolean isNegative() {
+            return couponId == null;
+        }
+    }
+}
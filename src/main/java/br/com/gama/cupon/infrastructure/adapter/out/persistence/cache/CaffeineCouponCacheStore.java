@@ -0,0 +1,44 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+// Caffeine usa Window TinyLFU para admissão/eviction
+public class CaffeineCouponCacheStore<K, V> implements CouponCacheStore<K, V> {
+
+    private final Cache<K, V> cache;
+
+    public CaffeineCouponCacheStore(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CouponCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new CouponCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Endpoint(id = "couponcache")
+@RequiredArgsConstructor
+public class CouponCacheEndpoint {
+
+    private final CachingCouponRepositoryAdapter cachingCouponRepositoryAdapter;
+
+    @ReadOperation
+    public Map<String, CouponCacheStats> stats() {
+        Map<String, CouponCacheStats> stats = new LinkedHashMap<>();
+        stats.put("byId", cachingCouponRepositoryAdapter.idCacheStats());
+        stats.put("byCode", cachingCouponRepositoryAdapter.codeCacheStats());
+        return stats;
+    }
+}
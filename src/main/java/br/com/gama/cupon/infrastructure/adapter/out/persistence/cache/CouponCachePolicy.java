@@ -0,0 +1,13 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+public enum CouponCachePolicy {
+    LRU,
+    W_TINY_LFU;
+
+    public <K, V> CouponCacheStore<K, V> createStore(long maximumSize) {
+        return switch (this) {
+            case LRU -> new LruCouponCacheStore<>(maximumSize);
+            case W_TINY_LFU -> new CaffeineCouponCacheStore<>(maximumSize);
+        };
+    }
+}
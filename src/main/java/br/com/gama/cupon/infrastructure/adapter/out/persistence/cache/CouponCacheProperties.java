@@ -0,0 +1,18 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.cache")
+public class CouponCacheProperties {
+    private boolean enabled = true;
+    private CouponCachePolicy policy = CouponCachePolicy.W_TINY_LFU;
+    private long maximumSize = 10_000;
+    // Buscas por código sem resultado ficam em cache apenas por pouco tempo
+    private Duration negativeTtl = Duration.ofSeconds(5);
+}
@@ -0,0 +1,4 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+public record CouponCacheStats(long hits, long misses, long evictions, long size) {
+}
@@ -0,0 +1,9 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+public interface CouponCacheStore<K, V> {
+    V getIfPresent(K key);
+    void put(K key, V value);
+    void invalidate(K key);
+    void invalidateAll();
+    CouponCacheStats stats();
+}
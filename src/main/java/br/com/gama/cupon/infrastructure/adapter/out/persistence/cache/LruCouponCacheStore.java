@@ -0,0 +1,82 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class LruCouponCacheStore<K, V> implements CouponCacheStore<K, V> {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // Em modo access-order até o get altera a lista, por isso todo acesso passa pelo lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, V> entries;
+
+    public LruCouponCacheStore(long maximumSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                boolean evict = size() > maximumSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        V value;
+        lock.lock();
+        try {
+            value = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            entries.put(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CouponCacheStats stats() {
+        lock.lock();
+        try {
+            return new CouponCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
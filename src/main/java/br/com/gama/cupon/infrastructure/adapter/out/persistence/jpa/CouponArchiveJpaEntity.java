@@ -0,0 +1,59 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Mesmas colunas de coupons, mais archived_at. Mapeada só para o schema; o adapter lê e escreve via JDBC
+@Entity
+@Table(name = "coupons_archive", indexes = {
+        @Index(name = "ix_coupons_archive_archived_at", columnList = "archived_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponArchiveJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "code_value", nullable = false, length = 6)
+    private String codeValue;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "discount_value", nullable = false, precision = 10, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(name = "expiration_date", nullable = false)
+    private LocalDate expirationDate;
+
+    @Column(name = "published", nullable = false)
+    private boolean published;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "max_uses")
+    private Integer maxUses;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
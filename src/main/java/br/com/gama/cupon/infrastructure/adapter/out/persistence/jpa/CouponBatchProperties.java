@@ -0,0 +1,13 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.batch")
+public class CouponBatchProperties {
+    // Quantidade de linhas por executeBatch do JDBC
+    private int chunkSize = 1000;
+}
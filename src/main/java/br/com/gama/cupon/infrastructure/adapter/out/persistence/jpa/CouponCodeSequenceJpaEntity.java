@@ -0,0 +1,30 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Mapeada só para que o schema crie a tabela; leitura e escrita ficam no JpaCouponCodeSequenceAdapter, via JDBC
+@Entity
+@Table(name = "coupon_code_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponCodeSequenceJpaEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "next_index", nullable = false)
+    private long nextIndex;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
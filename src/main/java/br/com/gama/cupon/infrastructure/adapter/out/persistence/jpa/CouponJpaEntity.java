@@ -6,6 +6,7 @@ import lombok.*;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
@@ -14,7 +15,22 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", uniqueConstraints = {
+        // Equivalente portável do índice parcial único: a coluna gerada é NULL para cupons deletados ou expirados
+        // pela varredura, e NULLs não colidem, então só pode existir um cupom ativo por código
+        @UniqueConstraint(name = CouponJpaEntity.ACTIVE_CODE_UNIQUE_CONSTRAINT, columnNames = "active_code_value")
+}, indexes = {
+        @Index(name = "ix_coupons_code_value", columnList = "code_value"),
+        // Listagem keyset: ordem (created_at DESC, id DESC), com e sem filtro de publicação / expiração
+        @Index(name = "ix_coupons_deleted_created_id", columnList = "deleted, created_at, id"),
+        @Index(name = "ix_coupons_deleted_published_created_id", columnList = "deleted, published, created_at, id"),
+        // Também atende a busca de expirados a arquivar (deleted = FALSE AND expiration_date < ?) pelo prefixo
+        @Index(name = "ix_coupons_deleted_expiration_created_id", columnList = "deleted, expiration_date, created_at, id"),
+        // Varredura de expiração: pula os já expirados, que continuam na tabela até serem deletados ou arquivados
+        @Index(name = "ix_coupons_deleted_expired_expiration", columnList = "deleted, expired, expiration_date"),
+        // Delta desde o último snapshot do índice em memória e busca de deletados a arquivar (updated_at < ?)
+        @Index(name = "ix_coupons_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @Builder
@@ -22,37 +38,75 @@ import java.util.UUID;
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 //@Where(clause = "deleted = false")
-public class CouponJpaEntity {
+public class CouponJpaEntity implements Persistable<UUID> {
+
+    public static final String ACTIVE_CODE_UNIQUE_CONSTRAINT = "ux_coupons_code_value_active";
 
     @Id
     private UUID id;
 
-    @Column(nullable = false, length = 6)
+    @Column(name = "code_value", nullable = false, length = 6)
     private String codeValue;
 
+    // Mantida pelo banco; nunca escrita pela aplicação
+    @Column(name = "active_code_value", length = 6, insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(6) GENERATED ALWAYS AS (CASE WHEN deleted OR expired THEN NULL ELSE code_value END)")
+    private String activeCodeValue;
+
     @Column(nullable = false)
     private String description;
 
-    @Column(nullable = false, precision = 10, scale = 2)
+    @Column(name = "discount_value", nullable = false, precision = 10, scale = 2)
     private BigDecimal discountValue;
 
-    @Column(nullable = false)
+    @Column(name = "expiration_date", nullable = false)
     private LocalDate expirationDate;
 
-    @Column(nullable = false)
+    @Column(name = "published", nullable = false)
     private boolean published;
 
-    @Column(nullable = false)
+    @Column(name = "deleted", nullable = false)
     private boolean deleted;
 
+    // Marcado só pela varredura de expiração: libera o código, mas o cupom continua listado, exportado e deletável.
+    // Não faz parte do domínio e nunca é escrito pela entidade; cupons novos nascem com o default
+    @Column(name = "expired", insertable = false, updatable = false, columnDefinition = "BOOLEAN DEFAULT FALSE NOT NULL")
+    private boolean expired;
+
+    @Column(name = "max_uses")
+    private Integer maxUses;
+
     @CreatedDate
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // O id é atribuído pelo domínio, então o Spring Data não consegue distinguir novo de existente sozinho
+    @Transient
+    @Builder.Default
+    private boolean newEntity = false;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // Converte de domínio para JPA, como cupom ainda não persistido
+    public static CouponJpaEntity newFromDomain(Coupon coupon) {
+        CouponJpaEntity entity = fromDomain(coupon);
+        entity.newEntity = true;
+        return entity;
+    }
+
     // Converte de domínio para JPA
     public static CouponJpaEntity fromDomain(Coupon coupon) {
         return CouponJpaEntity.builder()
@@ -63,14 +117,15 @@ public class CouponJpaEntity {
                 .expirationDate(coupon.getExpirationDate().getValue())
                 .published(coupon.isPublished())
                 .deleted(coupon.isDeleted())
+                .maxUses(coupon.getMaxUses())
                 .createdAt(coupon.getCreatedAt())
                 .updatedAt(coupon.getUpdatedAt())
                 .build();
     }
 
-    // Converte de JPA para domínio
+    // Converte de JPA para domínio (reidratação: cupons expirados continuam legíveis)
     public Coupon toDomain() {
-        return Coupon.builder()
+        return Coupon.restore()
                 .id(this.id)
                 .code(this.codeValue)
                 .description(this.description)
@@ -78,6 +133,7 @@ public class CouponJpaEntity {
                 .expirationDate(this.expirationDate)
                 .published(this.published)
                 .deleted(this.deleted)
+                .maxUses(this.maxUses)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
@@ -0,0 +1,32 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Mapeada só para o schema; o JpaCouponRedemptionAdapter soma os resgates via JDBC.
+// Sem chave estrangeira para coupons: o arquivamento tira o cupom da tabela principal, mas o total continua valendo
+@Entity
+@Table(name = "coupon_redemptions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponRedemptionJpaEntity {
+
+    @Id
+    @Column(name = "coupon_id")
+    private UUID couponId;
+
+    @Column(name = "redemption_count", nullable = false)
+    private long redemptionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+/**
+ * Uma linha por sequência em coupon_code_sequences. O avanço roda na transação do bloco de cupons gerados:
+ * se o bloco não for confirmado, a posição também não anda, e os índices dele voltam a ser usados após um restart.
+ */
+@Profile("!mmap")
+@Component
+@RequiredArgsConstructor
+public class JpaCouponCodeSequenceAdapter implements CouponCodeSequencePort {
+
+    private static final String FIND_POSITION_SQL = "SELECT next_index FROM coupon_code_sequences WHERE name = ?";
+    // GREATEST: blocos de requisições concorrentes podem confirmar fora de ordem; a posição fica com o maior
+    private static final String ADVANCE_SQL = """
+            MERGE INTO coupon_code_sequences s
+            USING (VALUES (CAST(? AS VARCHAR(64)), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) d (name, next_index, updated_at)
+            ON s.name = d.name
+            WHEN MATCHED THEN UPDATE SET next_index = GREATEST(s.next_index, d.next_index), updated_at = d.updated_at
+            WHEN NOT MATCHED THEN INSERT (name, next_index, updated_at) VALUES (d.name, d.next_index, d.updated_at)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public OptionalLong findPosition(String sequence) {
+        return jdbcTemplate.query(FIND_POSITION_SQL, (rs, rowNum) -> rs.getLong(1), sequence).stream()
+                .mapToLong(Long::longValue)
+                .findFirst();
+    }
+
+    @Override
+    public void advance(String sequence, long nextIndex) {
+        jdbcTemplate.update(ADVANCE_SQL, sequence, nextIndex, LocalDateTime.now());
+    }
+}
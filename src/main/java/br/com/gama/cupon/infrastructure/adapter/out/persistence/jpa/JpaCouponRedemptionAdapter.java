@@ -0,0 +1,63 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Profile("!mmap")
+@Component
+@RequiredArgsConstructor
+public class JpaCouponRedemptionAdapter implements CouponRedemptionRepositoryPort {
+
+    // Soma ao total existente ou cria a linha: um statement por cupom, sem SELECT prévio
+    private static final String ADD_REDEMPTIONS_SQL = """
+            MERGE INTO coupon_redemptions r
+            USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) d (coupon_id, redemptions, updated_at)
+            ON r.coupon_id = d.coupon_id
+            WHEN MATCHED THEN UPDATE SET redemption_count = r.redemption_count + d.redemptions, updated_at = d.updated_at
+            WHEN NOT MATCHED THEN INSERT (coupon_id, redemption_count, updated_at) VALUES (d.coupon_id, d.redemptions, d.updated_at)""";
+    private static final String FIND_REDEMPTION_COUNTS_SQL = "SELECT coupon_id, redemption_count FROM coupon_redemptions WHERE coupon_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CouponBatchProperties couponBatchProperties;
+
+    // Ids em ordem: instâncias gravando ao mesmo tempo travam as linhas na mesma sequência, sem deadlock
+    @Override
+    @Transactional
+    public void addRedemptions(Map<UUID, Long> redemptionsByCoupon) {
+        if (redemptionsByCoupon.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(ADD_REDEMPTIONS_SQL, new TreeMap<>(redemptionsByCoupon).entrySet(), couponBatchProperties.getChunkSize(), (ps, entry) -> {
+            ps.setObject(1, entry.getKey());
+            ps.setLong(2, entry.getValue());
+            ps.setObject(3, now);
+        });
+    }
+
+    @Override
+    public Map<UUID, Long> findRedemptionCounts(Collection<UUID> couponIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        if (couponIds.isEmpty()) {
+            return counts;
+        }
+        UUID[] values = couponIds.toArray(UUID[]::new);
+        jdbcTemplate.query(FIND_REDEMPTION_COUNTS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("UUID", values)),
+                rs -> {
+                    counts.put(rs.getObject("coupon_id", UUID.class), rs.getLong("redemption_count"));
+                });
+        return counts;
+    }
+}
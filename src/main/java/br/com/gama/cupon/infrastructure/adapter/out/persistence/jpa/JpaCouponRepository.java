@@ -1,24 +1,52 @@
 package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JpaCouponRepository extends JpaRepository<CouponJpaEntity, UUID> {
+    int EXPORT_FETCH_SIZE = 1000;
+
     Optional<CouponJpaEntity> findByIdAndDeletedFalse(UUID id);
 
     Optional<CouponJpaEntity> findByCodeValueAndDeletedFalse(String codeValue);
 
+    // Pela coluna da restrição única: só o cupom que detém o código, nunca um expirado pela varredura
+    Optional<CouponJpaEntity> findByActiveCodeValue(String activeCodeValue);
+
     List<CouponJpaEntity> findAllByDeletedFalse();
 
+    // Cursor somente leitura: o driver busca EXPORT_FETCH_SIZE linhas por vez e o Hibernate não guarda snapshots
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM CouponJpaEntity c WHERE c.deleted = false")
+    Stream<CouponJpaEntity> streamAllByDeletedFalse();
+
+    List<CouponJpaEntity> findAllByDeletedFalseAndPublishedTrueAndExpirationDateGreaterThanEqual(LocalDate referenceDate);
+
     // Método para buscar por código, respeitando o @Where(deleted = false)
     Optional<CouponJpaEntity> findByCodeValue(String codeValue);
 
+    // Soft delete em um único statement; o WHERE deleted = false torna a operação idempotente e sem corrida
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponJpaEntity c SET c.deleted = true, c.updatedAt = :updatedAt WHERE c.id = :id AND c.deleted = false")
+    int softDeleteById(UUID id, LocalDateTime updatedAt);
+
     // Método para buscar um cupom por ID, incluindo os deletados,
     // ignorando a cláusula @Where global para este caso específico.
     @Query("SELECT c FROM CouponJpaEntity c WHERE c.id = :id")
@@ -1,27 +1,125 @@
 package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
 
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
 import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
 import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Profile("!mmap")
 @Component
 @RequiredArgsConstructor
 public class JpaCouponRepositoryAdapter implements CouponRepositoryPort {
 
+    private static final String INSERT_COUPON_SQL = """
+            INSERT INTO coupons (id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    // Um único parâmetro do tipo ARRAY: a consulta é a mesma para 1 ou 500 mil códigos.
+    // active_code_value só tem valor em cupons ativos e é lida pelo índice da restrição única
+    private static final String FIND_ACTIVE_CODES_SQL = "SELECT active_code_value FROM coupons WHERE active_code_value = ANY(?)";
+
+    // Varre o índice ix_coupons_deleted_expired_expiration, que é o próprio filtro
+    private static final String FIND_EXPIRED_ACTIVE_IDS_SQL = "SELECT id FROM coupons WHERE deleted = FALSE AND expired = FALSE AND expiration_date < ? ORDER BY expiration_date LIMIT ?";
+    private static final String EXPIRE_ALL_SQL = "UPDATE coupons SET expired = TRUE, updated_at = ? WHERE id = ANY(?) AND deleted = FALSE AND expired = FALSE";
+
+    // Cupons deletados: o updated_at é o instante do soft delete
+    private static final String FIND_ARCHIVABLE_DELETED_IDS_SQL = "SELECT id FROM coupons WHERE deleted = TRUE AND updated_at < ? LIMIT ?";
+    // Já expirados pela varredura ou não: pelo prefixo (deleted, expiration_date) de ix_coupons_deleted_expiration_created_id
+    private static final String FIND_ARCHIVABLE_EXPIRED_IDS_SQL = "SELECT id FROM coupons WHERE deleted = FALSE AND expiration_date < ? ORDER BY expiration_date LIMIT ?";
+    private static final String ARCHIVE_COPY_SQL = """
+            INSERT INTO coupons_archive (id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at, archived_at)
+            SELECT id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at, ?
+            FROM coupons WHERE id = ANY(?)""";
+    private static final String ARCHIVE_DELETE_SQL = "DELETE FROM coupons WHERE id = ANY(?)";
+    private static final String ARCHIVED_EXISTS_SQL = "SELECT COUNT(*) FROM coupons_archive WHERE id = ?";
+    private static final String ARCHIVED_SOFT_DELETE_SQL = "UPDATE coupons_archive SET deleted = TRUE, updated_at = ? WHERE id = ? AND deleted = FALSE";
+
+    private static final String SELECT_COUPON_COLUMNS = "SELECT id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at FROM coupons";
+    private static final String SELECT_ARCHIVED_COUPON_SQL = "SELECT id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at FROM coupons_archive WHERE id = ?";
+    // Delta para o snapshot do índice em memória: alterações pelo ix_coupons_updated_at e arquivamentos pelo
+    // ix_coupons_archive_archived_at; o cupom arquivado sai como deletado, já que não está mais na tabela principal
+    private static final String FIND_CHANGED_SINCE_SQL = SELECT_COUPON_COLUMNS + " WHERE updated_at >= ?"
+            + " UNION ALL SELECT id, code_value, description, discount_value, expiration_date, published, TRUE AS deleted, max_uses, created_at, updated_at"
+            + " FROM coupons_archive WHERE archived_at >= ?";
+    private static final RowMapper<Coupon> COUPON_ROW_MAPPER = (rs, rowNum) -> Coupon.restore()
+            .id(rs.getObject("id", UUID.class))
+            .code(rs.getString("code_value"))
+            .description(rs.getString("description"))
+            .discountValue(rs.getBigDecimal("discount_value"))
+            .expirationDate(rs.getObject("expiration_date", LocalDate.class))
+            .published(rs.getBoolean("published"))
+            .deleted(rs.getBoolean("deleted"))
+            .maxUses(rs.getObject("max_uses", Integer.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
     private final JpaCouponRepository jpaCouponRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final CouponBatchProperties couponBatchProperties;
 
+    // A entidade vai marcada como nova: o Spring Data chama persist() em vez de merge(), sem o SELECT por id.
+    // O flush imediato faz a violação de unicidade do código aparecer aqui, e não no commit.
     @Override
+    @Transactional
+    public Coupon create(Coupon coupon) {
+        try {
+            CouponJpaEntity savedEntity = jpaCouponRepository.saveAndFlush(CouponJpaEntity.newFromDomain(coupon));
+            return savedEntity.toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw translateActiveCodeViolation(e, "Coupon code '" + coupon.getCode().getValue() + "' is already in use by another active coupon.");
+        }
+    }
+
+    @Override
+    @Transactional
     public Coupon save(Coupon coupon) {
         CouponJpaEntity entity = CouponJpaEntity.fromDomain(coupon);
         CouponJpaEntity savedEntity = jpaCouponRepository.save(entity);
         return savedEntity.toDomain();
     }
 
+    @Override
+    @Transactional
+    public boolean softDeleteById(UUID id, LocalDateTime deletedAt) {
+        // O arquivo só é tocado quando a tabela principal não alterou nada: fora do caminho feliz do DELETE
+        return jpaCouponRepository.softDeleteById(id, deletedAt) > 0
+                || jdbcTemplate.update(ARCHIVED_SOFT_DELETE_SQL, deletedAt, id) > 0;
+    }
+
+    @Override
+    public boolean existsByIdIncludingDeleted(UUID id) {
+        return jpaCouponRepository.existsById(id) || jdbcTemplate.queryForObject(ARCHIVED_EXISTS_SQL, Long.class, id) > 0;
+    }
+
     @Override
     public Optional<Coupon> findById(UUID id) {
         return jpaCouponRepository.findByIdAndDeletedFalse(id).map(CouponJpaEntity::toDomain);
@@ -34,7 +132,7 @@ public class JpaCouponRepositoryAdapter implements CouponRepositoryPort {
 
     @Override
     public Optional<Coupon> findByCode(String code) {
-        return jpaCouponRepository.findByCodeValueAndDeletedFalse(code).map(CouponJpaEntity::toDomain);
+        return jpaCouponRepository.findByActiveCodeValue(code).map(CouponJpaEntity::toDomain);
     }
 
     @Override
@@ -49,4 +147,226 @@ public class JpaCouponRepositoryAdapter implements CouponRepositoryPort {
                 .map(CouponJpaEntity::toDomain)
                 .toList();
     }
+
+    // Cada entidade é desanexada depois de convertida, então o persistence context não cresce com a tabela
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachActive(Consumer<? super Coupon> action) {
+        try (Stream<CouponJpaEntity> entities = jpaCouponRepository.streamAllByDeletedFalse()) {
+            entities.forEach(entity -> {
+                entityManager.detach(entity);
+                action.accept(entity.toDomain());
+            });
+        }
+    }
+
+    @Override
+    public void forEachChangedSince(LocalDateTime since, Consumer<? super Coupon> action) {
+        jdbcTemplate.query(FIND_CHANGED_SINCE_SQL, (RowCallbackHandler) rs -> action.accept(COUPON_ROW_MAPPER.mapRow(rs, rs.getRow())), since, since);
+    }
+
+    @Override
+    public List<Coupon> findAllPublishedNotExpired(LocalDate referenceDate) {
+        return jpaCouponRepository.findAllByDeletedFalseAndPublishedTrueAndExpirationDateGreaterThanEqual(referenceDate)
+                .stream()
+                .map(CouponJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Coupon> findPage(CouponSearchCriteria criteria, CouponPageCursor after, int limit) {
+        PageQuery query = pageQuery(criteria, after, limit);
+        return jdbcTemplate.query(query.sql(), COUPON_ROW_MAPPER, query.args());
+    }
+
+    // Keyset: o predicado (created_at, id) < (?, ?) continua a varredura do índice de onde a página anterior
+    // parou, sem OFFSET. As colunas fixadas por igualdade (deleted e, com filtro, published) entram no ORDER BY
+    // na mesma direção das demais: só assim o H2 reconhece a ordem do índice inteiro e lê limit linhas em vez de
+    // ordenar todos os cupons ativos. Visível no pacote para o teste que confere o plano
+    static PageQuery pageQuery(CouponSearchCriteria criteria, CouponPageCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_COUPON_COLUMNS).append(" WHERE deleted = FALSE");
+        List<Object> args = new ArrayList<>();
+        if (criteria.published() != null) {
+            sql.append(" AND published = ?");
+            args.add(criteria.published());
+        }
+        if (criteria.expiresFrom() != null) {
+            sql.append(" AND expiration_date >= ?");
+            args.add(criteria.expiresFrom());
+        }
+        if (criteria.expiresTo() != null) {
+            sql.append(" AND expiration_date <= ?");
+            args.add(criteria.expiresTo());
+        }
+        if (criteria.minDiscount() != null) {
+            sql.append(" AND discount_value >= ?");
+            args.add(criteria.minDiscount());
+        }
+        if (criteria.maxDiscount() != null) {
+            sql.append(" AND discount_value <= ?");
+            args.add(criteria.maxDiscount());
+        }
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        // ix_coupons_deleted_published_created_id com filtro de publicação, ix_coupons_deleted_created_id sem
+        sql.append(criteria.published() != null
+                ? " ORDER BY deleted DESC, published DESC, created_at DESC, id DESC LIMIT ?"
+                : " ORDER BY deleted DESC, created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return new PageQuery(sql.toString(), args.toArray());
+    }
+
+    record PageQuery(String sql, Object[] args) {
+    }
+
+    @Override
+    public Set<String> findActiveCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        String[] values = codes.toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.query(FIND_ACTIVE_CODES_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("VARCHAR", values)),
+                (rs, rowNum) -> rs.getString(1)));
+    }
+
+    // Inserção direta via JDBC batch: sem merge, sem persistence context e sem rehidratação por linha.
+    // A violação do código ativo só acontece se outro processo criar um dos códigos entre a checagem em conjunto
+    // e o INSERT: o lote volta ao savepoint e é regravado um a um, pulando só os códigos tomados.
+    // O savepoint é da conexão JDBC da transação: o dialeto JPA do Hibernate não os expõe ao Spring
+    @Override
+    @Transactional
+    public Set<String> insertAll(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return Set.of();
+        }
+        Savepoint savepoint = setSavepoint();
+        try {
+            batchInsert(coupons);
+        } catch (DataIntegrityViolationException e) {
+            if (!isActiveCodeViolation(e)) {
+                throw e;
+            }
+            rollbackTo(savepoint);
+            return insertOneByOne(coupons);
+        }
+        releaseSavepoint(savepoint);
+        return Set.of();
+    }
+
+    @Override
+    public List<UUID> findExpiredActiveIds(LocalDate referenceDate, int limit) {
+        return jdbcTemplate.query(FIND_EXPIRED_ACTIVE_IDS_SQL, (rs, rowNum) -> rs.getObject(1, UUID.class), referenceDate, limit);
+    }
+
+    // Um único UPDATE por lote, com os ids em um parâmetro ARRAY
+    @Override
+    @Transactional
+    public int expireAllById(Collection<UUID> ids, LocalDateTime expiredAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        UUID[] values = ids.toArray(UUID[]::new);
+        return jdbcTemplate.update(EXPIRE_ALL_SQL, ps -> {
+            ps.setObject(1, expiredAt);
+            ps.setArray(2, ps.getConnection().createArrayOf("UUID", values));
+        });
+    }
+
+    @Override
+    public List<UUID> findArchivableIds(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit) {
+        List<UUID> ids = new ArrayList<>(jdbcTemplate.query(FIND_ARCHIVABLE_DELETED_IDS_SQL, (rs, rowNum) -> rs.getObject(1, UUID.class), deletedBefore, limit));
+        if (expiredBefore != null && ids.size() < limit) {
+            ids.addAll(jdbcTemplate.query(FIND_ARCHIVABLE_EXPIRED_IDS_SQL, (rs, rowNum) -> rs.getObject(1, UUID.class), expiredBefore, limit - ids.size()));
+        }
+        return ids;
+    }
+
+    // Cópia e remoção na mesma transação (a do chamador ou uma própria): um cupom nunca fica nas duas tabelas nem em nenhuma
+    @Override
+    @Transactional
+    public int archiveAll(Collection<UUID> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        UUID[] values = ids.toArray(UUID[]::new);
+        jdbcTemplate.update(ARCHIVE_COPY_SQL, ps -> {
+            ps.setObject(1, archivedAt);
+            ps.setArray(2, ps.getConnection().createArrayOf("UUID", values));
+        });
+        return jdbcTemplate.update(ARCHIVE_DELETE_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("UUID", values)));
+    }
+
+    @Override
+    public Optional<Coupon> findArchivedById(UUID id) {
+        return jdbcTemplate.query(SELECT_ARCHIVED_COUPON_SQL, COUPON_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    private void batchInsert(List<Coupon> coupons) {
+        jdbcTemplate.batchUpdate(INSERT_COUPON_SQL, coupons, couponBatchProperties.getChunkSize(), (ps, coupon) -> {
+            ps.setObject(1, coupon.getId());
+            ps.setString(2, coupon.getCode().getValue());
+            ps.setString(3, coupon.getDescription());
+            ps.setBigDecimal(4, coupon.getDiscountValue().getValue());
+            ps.setObject(5, coupon.getExpirationDate().getValue());
+            ps.setBoolean(6, coupon.isPublished());
+            ps.setBoolean(7, coupon.isDeleted());
+            ps.setObject(8, coupon.getMaxUses(), Types.INTEGER);
+            ps.setObject(9, coupon.getCreatedAt());
+            ps.setObject(10, coupon.getUpdatedAt());
+        });
+    }
+
+    private Set<String> insertOneByOne(List<Coupon> coupons) {
+        Set<String> takenCodes = new HashSet<>();
+        for (Coupon coupon : coupons) {
+            Savepoint savepoint = setSavepoint();
+            try {
+                batchInsert(List.of(coupon));
+                releaseSavepoint(savepoint);
+            } catch (DataIntegrityViolationException e) {
+                if (!isActiveCodeViolation(e)) {
+                    throw e;
+                }
+                rollbackTo(savepoint);
+                takenCodes.add(coupon.getCode().getValue());
+            }
+        }
+        return takenCodes;
+    }
+
+    private Savepoint setSavepoint() {
+        return jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+    }
+
+    private void rollbackTo(Savepoint savepoint) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.rollback(savepoint);
+            return null;
+        });
+    }
+
+    private void releaseSavepoint(Savepoint savepoint) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    private static RuntimeException translateActiveCodeViolation(DataIntegrityViolationException e, String message) {
+        return isActiveCodeViolation(e) ? new InvalidCouponException(message) : e;
+    }
+
+    private static boolean isActiveCodeViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String constraintName = cause instanceof ConstraintViolationException violation ? violation.getConstraintName() : cause.getMessage();
+            if (constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(CouponJpaEntity.ACTIVE_CODE_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
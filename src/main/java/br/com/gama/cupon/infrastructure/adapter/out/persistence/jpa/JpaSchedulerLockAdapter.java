@@ -0,0 +1,50 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Lock na tabela scheduler_locks: uma linha por nome, adquirida por um UPDATE condicional (locked_until já passou)
+ * ou, na primeira vez, pelo INSERT da linha. Cada comando roda em auto-commit, fora de transações de negócio,
+ * então o lock fica visível para os outros nós assim que é adquirido.
+ * <p>
+ * Os instantes vêm do relógio de cada nó; lockAtMostFor deve ser bem maior que a diferença entre os relógios.
+ */
+@Profile("!mmap")
+@Component
+@RequiredArgsConstructor
+public class JpaSchedulerLockAdapter implements SchedulerLockPort {
+
+    private static final String ACQUIRE_SQL = "UPDATE scheduler_locks SET locked_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL = "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL = "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+        if (jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, now, owner, name, now) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, lockedUntil, now, owner) > 0;
+        } catch (DuplicateKeyException e) {
+            // A linha já existe e o lock ainda está com outro nó
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, LocalDateTime.now(), name, owner);
+    }
+}
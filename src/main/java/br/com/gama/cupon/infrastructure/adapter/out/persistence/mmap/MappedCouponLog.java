@@ -0,0 +1,244 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Arquivo de log append-only mapeado em memória, com registros de cabeçalho fixo:
+ * <pre>
+ *  0 int   tamanho do registro (cabeçalho + descrição); 0 marca o fim do log
+ *  4 byte  tipo: PUT (estado completo), TOMBSTONE (soft delete), ARCHIVE ou EXPIRE
+ *  5 byte  flags: PUBLISHED, DELETED, ARCHIVED, EXPIRED
+ *  6 short tamanho da descrição em bytes (UTF-8, sem sinal)
+ *  8 long  id (bits mais significativos)      16 long id (menos significativos)
+ * 24 long  código compactado (CouponCode)     32 long desconto em centavos (escala 2)
+ * 40 int   expiração (epoch day)              44 long createdAt (epoch nanos, UTC)
+ * 52 long  updatedAt (epoch nanos, UTC)       60 int  CRC32C do registro, exceto este campo
+ * 64 ...   descrição
+ * </pre>
+ * Um único escritor por vez (o adapter serializa as escritas); leituras absolutas podem ocorrer em paralelo,
+ * desde que o offset lido tenha sido publicado depois de escrito.
+ */
+@Slf4j
+final class MappedCouponLog implements Closeable {
+
+    static final byte PUT = 1;
+    static final byte TOMBSTONE = 2;
+    static final byte ARCHIVE = 3;
+    static final byte EXPIRE = 4;
+
+    static final byte PUBLISHED = 1;
+    static final byte DELETED = 1 << 1;
+    static final byte ARCHIVED = 1 << 2;
+    // Expirado pela varredura: continua visível, mas sem deter o código
+    static final byte EXPIRED = 1 << 3;
+
+    static final int HEADER_SIZE = 64;
+    static final int MAX_DESCRIPTION_BYTES = 0xFFFF;
+
+    private static final int TYPE = 4;
+    private static final int FLAGS = 5;
+    private static final int DESCRIPTION_LENGTH = 6;
+    private static final int ID_MSB = 8;
+    private static final int ID_LSB = 16;
+    private static final int PACKED_CODE = 24;
+    private static final int DISCOUNT_CENTS = 32;
+    private static final int EXPIRATION_EPOCH_DAY = 40;
+    private static final int CREATED_AT = 44;
+    private static final int UPDATED_AT = 52;
+    private static final int CHECKSUM = 60;
+
+    private static final byte[] ZEROS = new byte[64 * 1024];
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private int syncedPosition;
+
+    private MappedCouponLog(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Abre (ou cria) o log e entrega o offset de cada registro válido, em ordem. Um registro incompleto ou com
+     * checksum inválido marca o fim do que foi gravado antes de uma queda: ele e o restante do arquivo são zerados.
+     */
+    static MappedCouponLog open(Path path, int capacity, ObjIntConsumer<MappedCouponLog> recordVisitor) {
+        MappedCouponLog store = map(path, capacity);
+        int limit = store.buffer.capacity();
+        int offset = 0;
+        while (offset + HEADER_SIZE <= limit) {
+            int length = store.buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < HEADER_SIZE || length > limit - offset || store.checksum(offset, length) != store.buffer.getInt(offset + CHECKSUM)) {
+                log.warn("Coupon store {} has an incomplete or corrupt record at offset {}; discarding the rest of the log", path, offset);
+                store.zero(offset, limit);
+                break;
+            }
+            recordVisitor.accept(store, offset);
+            offset += length;
+        }
+        store.position = offset;
+        store.syncedPosition = offset;
+        return store;
+    }
+
+    // Log novo e vazio, usado como destino da compactação; sobrescreve o arquivo se ele existir
+    static MappedCouponLog create(Path path, int capacity) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replace coupon store file " + path, e);
+        }
+        return map(path, capacity);
+    }
+
+    private static MappedCouponLog map(Path path, int capacity) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // Um arquivo maior que a capacidade configurada (capacidade reduzida depois) é mapeado por inteiro
+            long size = Math.max(channel.size(), capacity);
+            if (size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IllegalStateException("Coupon store file " + path + " is larger than 2 GB.");
+            }
+            return new MappedCouponLog(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map coupon store file " + path, e);
+        }
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int position() {
+        return position;
+    }
+
+    int remaining() {
+        return buffer.capacity() - position;
+    }
+
+    static int recordLength(byte[] description) {
+        return HEADER_SIZE + description.length;
+    }
+
+    int append(byte type, byte flags, UUID id, long packedCode, long discountCents, int expirationEpochDay,
+               long createdAtNanos, long updatedAtNanos, byte[] description) {
+        int length = recordLength(description);
+        if (length > remaining()) {
+            throw new IllegalStateException("Coupon store " + path + " is full.");
+        }
+        int offset = position;
+        buffer.put(offset + TYPE, type);
+        buffer.put(offset + FLAGS, flags);
+        buffer.putShort(offset + DESCRIPTION_LENGTH, (short) description.length);
+        buffer.putLong(offset + ID_MSB, id.getMostSignificantBits());
+        buffer.putLong(offset + ID_LSB, id.getLeastSignificantBits());
+        buffer.putLong(offset + PACKED_CODE, packedCode);
+        buffer.putLong(offset + DISCOUNT_CENTS, discountCents);
+        buffer.putInt(offset + EXPIRATION_EPOCH_DAY, expirationEpochDay);
+        buffer.putLong(offset + CREATED_AT, createdAtNanos);
+        buffer.putLong(offset + UPDATED_AT, updatedAtNanos);
+        buffer.put(offset + HEADER_SIZE, description);
+        buffer.putInt(offset, length);
+        buffer.putInt(offset + CHECKSUM, checksum(offset, length));
+        position = offset + length;
+        return offset;
+    }
+
+    // Grava no disco o que foi escrito desde a última chamada; sem isso, a durabilidade é a do page cache
+    void sync() {
+        if (position > syncedPosition) {
+            buffer.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+    }
+
+    int length(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    byte type(int offset) {
+        return buffer.get(offset + TYPE);
+    }
+
+    byte flags(int offset) {
+        return buffer.get(offset + FLAGS);
+    }
+
+    UUID id(int offset) {
+        return new UUID(buffer.getLong(offset + ID_MSB), buffer.getLong(offset + ID_LSB));
+    }
+
+    long packedCode(int offset) {
+        return buffer.getLong(offset + PACKED_CODE);
+    }
+
+    long discountCents(int offset) {
+        return buffer.getLong(offset + DISCOUNT_CENTS);
+    }
+
+    int expirationEpochDay(int offset) {
+        return buffer.getInt(offset + EXPIRATION_EPOCH_DAY);
+    }
+
+    long createdAtNanos(int offset) {
+        return buffer.getLong(offset + CREATED_AT);
+    }
+
+    long updatedAtNanos(int offset) {
+        return buffer.getLong(offset + UPDATED_AT);
+    }
+
+    byte[] description(int offset) {
+        byte[] description = new byte[Short.toUnsignedInt(buffer.getShort(offset + DESCRIPTION_LENGTH))];
+        buffer.get(offset + HEADER_SIZE, description);
+        return description;
+    }
+
+    private int checksum(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CHECKSUM));
+        crc.update(buffer.slice(offset + HEADER_SIZE, length - HEADER_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private void zero(int from, int to) {
+        for (int offset = from; offset < to; offset += ZEROS.length) {
+            buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, to - offset));
+        }
+        buffer.force(from, to - from);
+    }
+
+    // O mapeamento continua válido para leitores que ainda o referenciam; é liberado quando o buffer é coletado
+    @Override
+    public void close() {
+        try {
+            sync();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close coupon store file " + path, e);
+        }
+    }
+}
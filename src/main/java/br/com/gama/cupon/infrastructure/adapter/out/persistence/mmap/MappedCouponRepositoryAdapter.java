@@ -0,0 +1,650 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap;
+
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.ARCHIVE;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.ARCHIVED;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.DELETED;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.EXPIRE;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.EXPIRED;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.PUBLISHED;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.PUT;
+import static br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponLog.TOMBSTONE;
+
+/**
+ * Persistência sem banco, para o profile {@code mmap}: cada escrita acrescenta um registro ao {@link MappedCouponLog}
+ * e os índices ficam em memória (id -> offsets, código ativo -> id e a ordem da listagem). Uma busca por id ou código
+ * é uma consulta a um {@link ConcurrentHashMap} seguida de leituras absolutas no arquivo mapeado, sem I/O nem lock.
+ * <p>
+ * Soft delete e arquivamento são registros curtos (tombstones) que só mudam o estado; os dados continuam no PUT
+ * original. A compactação, em background, reescreve apenas o estado atual de cada cupom num arquivo novo e o troca
+ * pelo antigo com um rename atômico. O arquivo pertence a um único processo: não há coordenação entre nós.
+ */
+@Slf4j
+public class MappedCouponRepositoryAdapter implements CouponRepositoryPort, Closeable {
+
+    private static final byte[] NO_DESCRIPTION = new byte[0];
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    // Mesma ordem do índice (created_at DESC, id DESC) do adapter JPA; UUIDs comparados sem sinal, como no H2
+    private static final Comparator<PageKey> PAGE_ORDER = Comparator.comparingLong(PageKey::createdAtNanos)
+            .thenComparing(PageKey::id, MappedCouponRepositoryAdapter::compareUnsigned)
+            .reversed();
+
+    // Offsets do último PUT (dados) e do último registro do cupom (estado: flags e updatedAt); iguais sem tombstone
+    private record Slot(int putOffset, int stateOffset) {
+    }
+
+    // O log e os offsets que apontam para ele são trocados juntos pela compactação
+    private record Generation(MappedCouponLog log, Map<UUID, Slot> slots) {
+    }
+
+    private record PageKey(long createdAtNanos, UUID id) {
+    }
+
+    private final Path path;
+    private final int capacity;
+    private final MappedCouponStoreProperties properties;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, UUID> activeCodes = new ConcurrentHashMap<>();
+    private final NavigableSet<PageKey> activePage = new ConcurrentSkipListSet<>(PAGE_ORDER);
+    private final ScheduledExecutorService compactor;
+    private volatile Generation generation;
+    // Bytes de registros substituídos; protegido por writeLock
+    private long garbageBytes;
+
+    public MappedCouponRepositoryAdapter(MappedCouponStoreProperties properties) {
+        this.properties = properties;
+        this.path = properties.getPath();
+        long configuredCapacity = properties.getCapacity().toBytes();
+        if (configuredCapacity < MappedCouponLog.HEADER_SIZE || configuredCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("coupon.store.mmap.capacity must be between 64 bytes and 2 GB.");
+        }
+        this.capacity = (int) configuredCapacity;
+        deleteIfExists(compactionPath()); // sobra de uma compactação interrompida
+
+        Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+        MappedCouponLog couponLog = MappedCouponLog.open(path, capacity, (source, offset) -> replay(source, slots, offset));
+        this.generation = new Generation(couponLog, slots);
+        log.info("Opened coupon store {}: {} coupons, {} bytes, {} bytes reclaimable", path, slots.size(), couponLog.position(), garbageBytes);
+
+        long interval = properties.getCompactionInterval().toMillis();
+        this.compactor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("coupon-store-compaction").daemon().factory());
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Coupon create(Coupon coupon) {
+        writeLock.lock();
+        try {
+            if (generation.slots().containsKey(coupon.getId())) {
+                throw new DuplicateKeyException("Coupon with ID " + coupon.getId() + " already exists.");
+            }
+            checkCodeAvailable(coupon, "Coupon code '" + coupon.getCode().getValue() + "' is already in use by another active coupon.");
+            Slot slot = put(coupon);
+            syncIfConfigured();
+            return toCoupon(generation.log(), slot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        writeLock.lock();
+        try {
+            checkCodeAvailable(coupon, "Coupon code '" + coupon.getCode().getValue() + "' is already in use by another active coupon.");
+            Slot slot = put(coupon);
+            syncIfConfigured();
+            return toCoupon(generation.log(), slot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean softDeleteById(UUID id, LocalDateTime deletedAt) {
+        writeLock.lock();
+        try {
+            boolean deleted = softDelete(id, deletedAt);
+            syncIfConfigured();
+            return deleted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByIdIncludingDeleted(UUID id) {
+        return generation.slots().containsKey(id);
+    }
+
+    @Override
+    public Optional<Coupon> findById(UUID id) {
+        Generation current = generation;
+        Slot slot = current.slots().get(id);
+        return slot != null && isActive(current.log(), slot) ? Optional.of(toCoupon(current.log(), slot)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIgnoringDeleted(UUID id) {
+        return findByIdIncludingDeleted(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        // Como no banco, só o código exatamente igual ao armazenado (canônico) é encontrado
+        if (!CouponCode.isPackable(code)) {
+            return Optional.empty();
+        }
+        UUID id = activeCodes.get(CouponCode.pack(code));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public Optional<Coupon> findByIdIncludingDeleted(UUID id) {
+        Generation current = generation;
+        Slot slot = current.slots().get(id);
+        return slot != null && !hasFlag(current.log(), slot, ARCHIVED) ? Optional.of(toCoupon(current.log(), slot)) : Optional.empty();
+    }
+
+    @Override
+    public List<Coupon> findAll() {
+        List<Coupon> coupons = new ArrayList<>();
+        forEachActive(coupons::add);
+        return coupons;
+    }
+
+    @Override
+    public void forEachActive(Consumer<? super Coupon> action) {
+        Generation current = generation;
+        current.slots().values().forEach(slot -> {
+            if (isActive(current.log(), slot)) {
+                action.accept(toCoupon(current.log(), slot));
+            }
+        });
+    }
+
+    @Override
+    public List<Coupon> findAllPublishedNotExpired(LocalDate referenceDate) {
+        Generation current = generation;
+        MappedCouponLog couponLog = current.log();
+        long referenceDay = referenceDate.toEpochDay();
+        List<Coupon> coupons = new ArrayList<>();
+        current.slots().values().forEach(slot -> {
+            if (isActive(couponLog, slot) && hasFlag(couponLog, slot, PUBLISHED)
+                    && couponLog.expirationEpochDay(slot.putOffset()) >= referenceDay) {
+                coupons.add(toCoupon(couponLog, slot));
+            }
+        });
+        return coupons;
+    }
+
+    // Varredura completa pelo updatedAt do último estado. O arquivamento preserva o updatedAt do soft delete;
+    // os cupons arquivados continuam no log e saem com as mesmas flags de antes
+    @Override
+    public void forEachChangedSince(LocalDateTime since, Consumer<? super Coupon> action) {
+        Generation current = generation;
+        long sinceNanos = toNanos(since);
+        current.slots().values().forEach(slot -> {
+            if (current.log().updatedAtNanos(slot.stateOffset()) >= sinceNanos) {
+                action.accept(toCoupon(current.log(), slot));
+            }
+        });
+    }
+
+    // Percorre o índice ordenado a partir do cursor, como o keyset do adapter JPA, aplicando os filtros em memória
+    @Override
+    public List<Coupon> findPage(CouponSearchCriteria criteria, CouponPageCursor after, int limit) {
+        Generation current = generation;
+        NavigableSet<PageKey> keys = after == null ? activePage
+                : activePage.tailSet(new PageKey(toNanos(after.createdAt()), after.id()), false);
+        List<Coupon> page = new ArrayList<>(Math.min(limit, 1024));
+        for (PageKey key : keys) {
+            if (page.size() == limit) {
+                break;
+            }
+            Slot slot = current.slots().get(key.id());
+            if (slot != null && isActive(current.log(), slot) && matches(current.log(), slot, criteria)) {
+                page.add(toCoupon(current.log(), slot));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public Set<String> findActiveCodes(Collection<String> codes) {
+        Set<String> activeCodeValues = new HashSet<>();
+        for (String code : codes) {
+            if (CouponCode.isPackable(code) && activeCodes.containsKey(CouponCode.pack(code))) {
+                activeCodeValues.add(code);
+            }
+        }
+        return activeCodeValues;
+    }
+
+    // Como no batch JDBC: os conflitos são verificados antes do primeiro registro ser escrito, e os cupons cujo
+    // código já está ativo (ou repetido no lote) são pulados
+    @Override
+    public Set<String> insertAll(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return Set.of();
+        }
+        writeLock.lock();
+        try {
+            Set<Long> batchCodes = new HashSet<>();
+            Set<String> takenCodes = new HashSet<>();
+            List<Coupon> newCoupons = new ArrayList<>(coupons.size());
+            for (Coupon coupon : coupons) {
+                if (generation.slots().containsKey(coupon.getId())) {
+                    throw new DuplicateKeyException("Coupon with ID " + coupon.getId() + " already exists.");
+                }
+                long packedCode = coupon.getCode().toPackedValue();
+                if (!coupon.isDeleted() && (activeCodes.containsKey(packedCode) || !batchCodes.add(packedCode))) {
+                    takenCodes.add(coupon.getCode().getValue());
+                } else {
+                    newCoupons.add(coupon);
+                }
+            }
+            for (Coupon coupon : newCoupons) {
+                put(coupon);
+            }
+            syncIfConfigured();
+            return takenCodes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Sem índice por expiração: varre os cupons em memória, o que basta para uma tarefa em background
+    @Override
+    public List<UUID> findExpiredActiveIds(LocalDate referenceDate, int limit) {
+        return findExpiredIds(referenceDate, limit, false);
+    }
+
+    private List<UUID> findExpiredIds(LocalDate referenceDate, int limit, boolean includeMarked) {
+        Generation current = generation;
+        MappedCouponLog couponLog = current.log();
+        long referenceDay = referenceDate.toEpochDay();
+        return current.slots().entrySet().stream()
+                .filter(entry -> isActive(couponLog, entry.getValue())
+                        && (includeMarked || !hasFlag(couponLog, entry.getValue(), EXPIRED))
+                        && couponLog.expirationEpochDay(entry.getValue().putOffset()) < referenceDay)
+                .sorted(Comparator.comparingInt(entry -> couponLog.expirationEpochDay(entry.getValue().putOffset())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public int expireAllById(Collection<UUID> ids, LocalDateTime expiredAt) {
+        writeLock.lock();
+        try {
+            int expired = 0;
+            for (UUID id : ids) {
+                Slot slot = generation.slots().get(id);
+                if (slot != null && isActive(generation.log(), slot) && !hasFlag(generation.log(), slot, EXPIRED)) {
+                    appendState(id, EXPIRE, EXPIRED, toNanos(expiredAt));
+                    expired++;
+                }
+            }
+            syncIfConfigured();
+            return expired;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<UUID> findArchivableIds(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit) {
+        Generation current = generation;
+        MappedCouponLog couponLog = current.log();
+        long deletedBeforeNanos = toNanos(deletedBefore);
+        List<UUID> ids = new ArrayList<>();
+        for (Map.Entry<UUID, Slot> entry : current.slots().entrySet()) {
+            if (ids.size() == limit) {
+                break;
+            }
+            Slot slot = entry.getValue();
+            if (hasFlag(couponLog, slot, DELETED) && !hasFlag(couponLog, slot, ARCHIVED)
+                    && couponLog.updatedAtNanos(slot.stateOffset()) < deletedBeforeNanos) {
+                ids.add(entry.getKey());
+            }
+        }
+        if (expiredBefore != null && ids.size() < limit) {
+            ids.addAll(findExpiredIds(expiredBefore, limit - ids.size(), true));
+        }
+        return ids;
+    }
+
+    // O cupom arquivado continua no log, fora dos índices de cupons ativos; o instante do arquivamento não é guardado
+    @Override
+    public int archiveAll(Collection<UUID> ids, LocalDateTime archivedAt) {
+        writeLock.lock();
+        try {
+            int archived = 0;
+            for (UUID id : ids) {
+                Generation current = generation;
+                Slot slot = current.slots().get(id);
+                if (slot != null && !hasFlag(current.log(), slot, ARCHIVED)) {
+                    appendState(id, ARCHIVE, ARCHIVED, current.log().updatedAtNanos(slot.stateOffset()));
+                    archived++;
+                }
+            }
+            syncIfConfigured();
+            return archived;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Coupon> findArchivedById(UUID id) {
+        Generation current = generation;
+        Slot slot = current.slots().get(id);
+        return slot != null && hasFlag(current.log(), slot, ARCHIVED) ? Optional.of(toCoupon(current.log(), slot)) : Optional.empty();
+    }
+
+    /**
+     * Reescreve o estado atual de cada cupom (um PUT por cupom, sem tombstones) num arquivo novo, que substitui o
+     * atual. As escritas esperam; as leituras continuam sobre o log antigo, que segue mapeado até a troca.
+     */
+    void compact() {
+        writeLock.lock();
+        try {
+            Generation current = generation;
+            MappedCouponLog source = current.log();
+            Path target = compactionPath();
+            MappedCouponLog compacted = MappedCouponLog.create(target, Math.max(capacity, source.capacity()));
+            Map<UUID, Slot> slots = new ConcurrentHashMap<>(current.slots().size() * 4 / 3 + 1);
+            try {
+                current.slots().forEach((id, slot) -> {
+                    int put = slot.putOffset();
+                    int state = slot.stateOffset();
+                    int offset = compacted.append(PUT, source.flags(state), id, source.packedCode(put), source.discountCents(put),
+                            source.expirationEpochDay(put), source.createdAtNanos(put), source.updatedAtNanos(state), source.description(put));
+                    slots.put(id, new Slot(offset, offset));
+                });
+                compacted.sync();
+                Files.move(target, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                discard(compacted, target);
+                throw new UncheckedIOException("Could not replace coupon store file " + path, e);
+            } catch (RuntimeException e) {
+                discard(compacted, target);
+                throw e;
+            }
+            generation = new Generation(compacted, slots);
+            garbageBytes = 0;
+            source.close();
+            log.info("Compacted coupon store {}: {} -> {} bytes, {} coupons", path, source.position(), compacted.position(), slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void compactIfNeeded() {
+        writeLock.lock();
+        try {
+            if (garbageBytes >= properties.getCompactionMinGarbage().toBytes()
+                    && garbageBytes >= generation.log().position() * properties.getCompactionGarbageRatio()) {
+                compact();
+            }
+        } catch (RuntimeException e) {
+            log.error("Coupon store compaction failed; the current log stays in use", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    long garbageBytes() {
+        return garbageBytes;
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+        writeLock.lock();
+        try {
+            generation.log().close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Slot put(Coupon coupon) {
+        // O registro não tem campo para o limite, e os totais de resgate deste profile só existem em memória
+        if (coupon.hasUsageLimit()) {
+            throw new InvalidCouponException("Coupons with max uses are not supported by the mmap coupon store.");
+        }
+        byte[] description = coupon.getDescription().getBytes(StandardCharsets.UTF_8);
+        if (description.length > MappedCouponLog.MAX_DESCRIPTION_BYTES) {
+            throw new InvalidCouponException("Coupon description is too long.");
+        }
+        ensureCapacity(MappedCouponLog.recordLength(description));
+        Generation current = generation;
+        // Como a coluna expired no banco, a marca da varredura não vem do domínio e sobrevive a um save
+        Slot previous = current.slots().get(coupon.getId());
+        byte flags = (byte) (flagsOf(coupon) | (previous != null && hasFlag(current.log(), previous, EXPIRED) ? EXPIRED : 0));
+        int offset = current.log().append(PUT, flags, coupon.getId(), coupon.getCode().toPackedValue(),
+                toCents(coupon.getDiscountValue().getValue()), (int) coupon.getExpirationDate().getValue().toEpochDay(),
+                toNanos(coupon.getCreatedAt()), toNanos(coupon.getUpdatedAt()), description);
+        Slot slot = new Slot(offset, offset);
+        apply(current.log(), current.slots(), coupon.getId(), previous, slot);
+        return slot;
+    }
+
+    private boolean softDelete(UUID id, LocalDateTime deletedAt) {
+        Generation current = generation;
+        Slot slot = current.slots().get(id);
+        // Um cupom arquivado ainda ativo (expirado) também pode ser deletado; as flags se acumulam
+        if (slot == null || hasFlag(current.log(), slot, DELETED)) {
+            return false;
+        }
+        appendState(id, TOMBSTONE, DELETED, toNanos(deletedAt));
+        return true;
+    }
+
+    // Novo estado para um cupom existente, sem reescrever seus dados: só o cabeçalho, com as flags acumuladas
+    private void appendState(UUID id, byte type, byte addedFlags, long updatedAtNanos) {
+        ensureCapacity(MappedCouponLog.HEADER_SIZE);
+        Generation current = generation;
+        MappedCouponLog couponLog = current.log();
+        Slot slot = current.slots().get(id);
+        byte flags = (byte) (couponLog.flags(slot.stateOffset()) | addedFlags);
+        int offset = couponLog.append(type, flags, id, 0, 0, 0, NULL_TIME, updatedAtNanos, NO_DESCRIPTION);
+        apply(couponLog, current.slots(), id, slot, new Slot(slot.putOffset(), offset));
+    }
+
+    // Sem espaço, compacta na hora; se ainda assim não couber, o log está cheio de dados vivos
+    private void ensureCapacity(int bytes) {
+        if (generation.log().remaining() >= bytes) {
+            return;
+        }
+        compact();
+        if (generation.log().remaining() < bytes) {
+            throw new IllegalStateException("Coupon store " + path + " is full; increase coupon.store.mmap.capacity.");
+        }
+    }
+
+    private void syncIfConfigured() {
+        if (properties.isSyncWrites()) {
+            generation.log().sync();
+        }
+    }
+
+    private void checkCodeAvailable(Coupon coupon, String message) {
+        Slot slot = generation.slots().get(coupon.getId());
+        if (coupon.isDeleted() || slot != null && hasFlag(generation.log(), slot, EXPIRED)) {
+            return;
+        }
+        UUID holder = activeCodes.get(coupon.getCode().toPackedValue());
+        if (holder != null && !holder.equals(coupon.getId())) {
+            throw new InvalidCouponException(message);
+        }
+    }
+
+    private void replay(MappedCouponLog source, Map<UUID, Slot> slots, int offset) {
+        UUID id = source.id(offset);
+        Slot previous = slots.get(id);
+        if (source.type(offset) == PUT) {
+            apply(source, slots, id, previous, new Slot(offset, offset));
+        } else if (previous != null) {
+            apply(source, slots, id, previous, new Slot(previous.putOffset(), offset));
+        }
+    }
+
+    private void apply(MappedCouponLog couponLog, Map<UUID, Slot> slots, UUID id, Slot previous, Slot current) {
+        if (previous != null) {
+            if (holdsCode(couponLog, previous)) {
+                activeCodes.remove(couponLog.packedCode(previous.putOffset()), id);
+            }
+            if (isActive(couponLog, previous)) {
+                activePage.remove(new PageKey(couponLog.createdAtNanos(previous.putOffset()), id));
+            }
+            if (previous.putOffset() != current.putOffset()) {
+                garbageBytes += couponLog.length(previous.putOffset());
+            }
+            if (previous.stateOffset() != previous.putOffset()) {
+                garbageBytes += couponLog.length(previous.stateOffset());
+            }
+        }
+        slots.put(id, current);
+        if (holdsCode(couponLog, current)) {
+            activeCodes.put(couponLog.packedCode(current.putOffset()), id);
+        }
+        if (isActive(couponLog, current)) {
+            activePage.add(new PageKey(couponLog.createdAtNanos(current.putOffset()), id));
+        }
+    }
+
+    private static boolean isActive(MappedCouponLog couponLog, Slot slot) {
+        return (couponLog.flags(slot.stateOffset()) & (DELETED | ARCHIVED)) == 0;
+    }
+
+    // Ativo e não expirado pela varredura: é o cupom que a restrição de código único enxerga
+    private static boolean holdsCode(MappedCouponLog couponLog, Slot slot) {
+        return (couponLog.flags(slot.stateOffset()) & (DELETED | ARCHIVED | EXPIRED)) == 0;
+    }
+
+    private static boolean hasFlag(MappedCouponLog couponLog, Slot slot, byte flag) {
+        return (couponLog.flags(slot.stateOffset()) & flag) != 0;
+    }
+
+    private static boolean matches(MappedCouponLog couponLog, Slot slot, CouponSearchCriteria criteria) {
+        int put = slot.putOffset();
+        if (criteria.published() != null && criteria.published() != hasFlag(couponLog, slot, PUBLISHED)) {
+            return false;
+        }
+        long expirationDay = couponLog.expirationEpochDay(put);
+        if (criteria.expiresFrom() != null && expirationDay < criteria.expiresFrom().toEpochDay()) {
+            return false;
+        }
+        if (criteria.expiresTo() != null && expirationDay > criteria.expiresTo().toEpochDay()) {
+            return false;
+        }
+        BigDecimal discount = BigDecimal.valueOf(couponLog.discountCents(put), 2);
+        return (criteria.minDiscount() == null || discount.compareTo(criteria.minDiscount()) >= 0)
+                && (criteria.maxDiscount() == null || discount.compareTo(criteria.maxDiscount()) <= 0);
+    }
+
+    private static Coupon toCoupon(MappedCouponLog couponLog, Slot slot) {
+        int put = slot.putOffset();
+        int state = slot.stateOffset();
+        byte flags = couponLog.flags(state);
+        return Coupon.restore()
+                .id(couponLog.id(put))
+                .code(CouponCode.fromPackedValue(couponLog.packedCode(put)).getValue())
+                .description(new String(couponLog.description(put), StandardCharsets.UTF_8))
+                .discountValue(BigDecimal.valueOf(couponLog.discountCents(put), 2))
+                .expirationDate(LocalDate.ofEpochDay(couponLog.expirationEpochDay(put)))
+                .published((flags & PUBLISHED) != 0)
+                .deleted((flags & DELETED) != 0)
+                .createdAt(toDateTime(couponLog.createdAtNanos(put)))
+                .updatedAt(toDateTime(couponLog.updatedAtNanos(state)))
+                .build();
+    }
+
+    private static byte flagsOf(Coupon coupon) {
+        return (byte) ((coupon.isPublished() ? PUBLISHED : 0) | (coupon.isDeleted() ? DELETED : 0));
+    }
+
+    // Mesma escala da coluna discount_value DECIMAL(10, 2)
+    private static long toCents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIME;
+        }
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND), dateTime.getNano());
+    }
+
+    private static LocalDateTime toDateTime(long epochNanos) {
+        if (epochNanos == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private static int compareUnsigned(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private Path compactionPath() {
+        return path.resolveSibling(path.getFileName() + ".compacting");
+    }
+
+    private static void discard(MappedCouponLog compacted, Path target) {
+        compacted.close();
+        deleteIfExists(target);
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete " + file, e);
+        }
+    }
+}
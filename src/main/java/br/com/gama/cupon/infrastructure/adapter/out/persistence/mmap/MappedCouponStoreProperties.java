@@ -0,0 +1,24 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.store.mmap")
+public class MappedCouponStoreProperties {
+    private Path path = Path.of("./data/coupons.log");
+    // Tamanho mapeado do log (no máximo 2 GB); o arquivo é esparso, então só ocupa o disco à medida que é escrito
+    private DataSize capacity = DataSize.ofMegabytes(256);
+    // true: cada escrita só retorna depois de gravada no disco. false: sobrevive a uma queda do processo, não do SO
+    private boolean syncWrites = false;
+    private Duration compactionInterval = Duration.ofMinutes(1);
+    // Compacta quando os registros substituídos passam desta fração do log e de compactionMinGarbage
+    private double compactionGarbageRatio = 0.5;
+    private DataSize compactionMinGarbage = DataSize.ofMegabytes(4);
+}
@@ -0,0 +1,91 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.r2dbc;
+
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ReactiveCouponRepositoryPort;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Adapter R2DBC sobre a mesma tabela {@code coupons} mapeada pelo JPA (que continua responsável pelo schema).
+ * Usa SQL direto pelo {@link DatabaseClient}, como o adapter JPA faz com o JdbcTemplate nos caminhos em lote.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcCouponRepositoryAdapter implements ReactiveCouponRepositoryPort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO coupons (id, code_value, description, discount_value, expiration_date, published, deleted, max_uses, created_at, updated_at)
+            VALUES (:id, :code, :description, :discountValue, :expirationDate, :published, :deleted, :maxUses, :createdAt, :updatedAt)""";
+    private static final String SOFT_DELETE_SQL = "UPDATE coupons SET deleted = TRUE, updated_at = :updatedAt WHERE id = :id AND deleted = FALSE";
+    // Inclui o arquivo, para manter o 409 de cupons deletados que já foram arquivados
+    private static final String EXISTS_SQL = "SELECT 1 FROM coupons WHERE id = :id UNION ALL SELECT 1 FROM coupons_archive WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Coupon> create(Coupon coupon) {
+        String code = coupon.getCode().getValue();
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SQL)
+                .bind("id", coupon.getId())
+                .bind("code", code)
+                .bind("description", coupon.getDescription())
+                .bind("discountValue", coupon.getDiscountValue().getValue())
+                .bind("expirationDate", coupon.getExpirationDate().getValue())
+                .bind("published", coupon.isPublished())
+                .bind("deleted", coupon.isDeleted());
+        // O R2DBC não aceita null em bind(): a coluna opcional precisa do tipo explícito
+        insert = coupon.hasUsageLimit() ? insert.bind("maxUses", coupon.getMaxUses()) : insert.bindNull("maxUses", Integer.class);
+        return insert
+                .bind("createdAt", coupon.getCreatedAt())
+                .bind("updatedAt", coupon.getUpdatedAt())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(coupon)
+                .onErrorMap(R2dbcCouponRepositoryAdapter::isActiveCodeViolation,
+                        e -> new InvalidCouponException("Coupon code '" + code + "' is already in use by another active coupon."));
+    }
+
+    @Override
+    public Mono<Boolean> softDeleteById(UUID id, LocalDateTime updatedAt) {
+        return databaseClient.sql(SOFT_DELETE_SQL)
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Boolean> existsByIdIncludingDeleted(UUID id) {
+        return databaseClient.sql(EXISTS_SQL)
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .hasElement();
+    }
+
+    // Mesma regra do adapter JPA: só a violação da restrição de código ativo vira erro de negócio
+    private static boolean isActiveCodeViolation(Throwable e) {
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(CouponJpaEntity.ACTIVE_CODE_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.ActiveCouponIndexWarmUp;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.ActiveCouponSnapshotProperties;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.ActiveCouponSnapshotScheduler;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.ActiveCouponSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ActiveCouponSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "coupon.index.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ActiveCouponSnapshotConfig {
+
+    @Bean
+    public ActiveCouponSnapshotStore activeCouponSnapshotStore(ActiveCouponSnapshotProperties properties) {
+        return new ActiveCouponSnapshotStore(properties.getPath());
+    }
+
+    @Bean
+    public ActiveCouponSnapshotScheduler activeCouponSnapshotScheduler(ActiveCouponIndexPort activeCouponIndexPort,
+                                                                       ActiveCouponIndexWarmUp warmUp,
+                                                                       ActiveCouponSnapshotStore activeCouponSnapshotStore,
+                                                                       ActiveCouponSnapshotProperties properties,
+                                                                       MeterRegistry meterRegistry) {
+        return new ActiveCouponSnapshotScheduler(activeCouponIndexPort, warmUp, activeCouponSnapshotStore, properties, meterRegistry);
+    }
+}
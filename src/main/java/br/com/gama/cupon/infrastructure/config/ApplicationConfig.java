@@ -1,8 +1,12 @@
 package br.com.gama.cupon.infrastructure.config;
 
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponImportProperties;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponBatchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({CouponBatchProperties.class, CouponImportProperties.class})
 public class ApplicationConfig {
     // Mesmo não fazendo parte do proceso seletivo, optei em deixar essa classe como uma v2 do projeto
     // Para evolução do projeto de cupons, essa classe pode ser usada para configurar beans globais, como um Mapper para
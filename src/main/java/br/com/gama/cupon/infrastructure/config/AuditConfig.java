@@ -1,8 +1,10 @@
 package br.com.gama.cupon.infrastructure.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+@Profile("!mmap")
 @Configuration
 @EnableJpaAuditing // Habilita a auditoria do JPA (para @CreatedDate, @LastModifiedDate)
 public class AuditConfig {
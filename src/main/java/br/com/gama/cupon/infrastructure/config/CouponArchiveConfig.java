@@ -0,0 +1,27 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.application.port.in.ArchiveCouponsUseCase;
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import br.com.gama.cupon.infrastructure.adapter.in.scheduler.CouponArchiveProperties;
+import br.com.gama.cupon.infrastructure.adapter.in.scheduler.CouponArchiveScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CouponArchiveProperties.class)
+@ConditionalOnProperty(prefix = "coupon.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponArchiveConfig {
+
+    @Bean
+    public CouponArchiveScheduler couponArchiveScheduler(ArchiveCouponsUseCase archiveCouponsUseCase,
+                                                         SchedulerLockPort schedulerLockPort,
+                                                         CouponArchiveProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new CouponArchiveScheduler(archiveCouponsUseCase, schedulerLockPort, properties, meterRegistry);
+    }
+}
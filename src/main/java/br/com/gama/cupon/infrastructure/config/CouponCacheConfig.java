@@ -0,0 +1,30 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.cache.CachingCouponRepositoryAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.cache.CouponCacheEndpoint;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.cache.CouponCacheProperties;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepositoryAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties(CouponCacheProperties.class)
+@ConditionalOnProperty(prefix = "coupon.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponCacheConfig {
+
+    // @Primary: os serviços recebem o decorator; o adapter JPA continua disponível para injeção direta
+    @Bean
+    @Primary
+    public CachingCouponRepositoryAdapter cachingCouponRepositoryAdapter(JpaCouponRepositoryAdapter jpaCouponRepositoryAdapter,
+                                                                         CouponCacheProperties properties) {
+        return new CachingCouponRepositoryAdapter(jpaCouponRepositoryAdapter, properties);
+    }
+
+    @Bean
+    public CouponCacheEndpoint couponCacheEndpoint(CachingCouponRepositoryAdapter cachingCouponRepositoryAdapter) {
+        return new CouponCacheEndpoint(cachingCouponRepositoryAdapter);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.domain.model.CouponCodePermutation;
+import br.com.gama.cupon.domain.model.CouponCodeSequence;
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CouponCodeGeneratorProperties.class)
+public class CouponCodeGeneratorConfig {
+
+    // Retoma da posição gravada pelo último bloco confirmado, em vez de recomeçar do início da faixa do nó
+    @Bean
+    public CouponCodeSequence couponCodeSequence(CouponCodeGeneratorProperties properties, CouponCodeSequencePort couponCodeSequencePort) {
+        CouponCodeSequence sequence = new CouponCodeSequence(new CouponCodePermutation(properties.getKey()),
+                properties.getNodeIndex(), properties.getNodeCount());
+        couponCodeSequencePort.findPosition(sequence.getName()).ifPresent(sequence::resumeFrom);
+        return sequence;
+    }
+}
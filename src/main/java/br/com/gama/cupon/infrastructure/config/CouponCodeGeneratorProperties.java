@@ -0,0 +1,18 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.generator")
+public class CouponCodeGeneratorProperties {
+    // Chave da permutação; a mesma em todos os nós, e mantida em segredo para que os códigos não sejam previsíveis
+    private long key;
+    // Este nó gera apenas a fração node-index de node-count do espaço de códigos
+    private int nodeIndex = 0;
+    private int nodeCount = 1;
+    // Códigos por transação de escrita
+    private int chunkSize = 1000;
+}
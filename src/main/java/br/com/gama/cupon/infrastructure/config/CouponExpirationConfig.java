@@ -0,0 +1,27 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.application.port.in.ExpireCouponsUseCase;
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import br.com.gama.cupon.infrastructure.adapter.in.scheduler.CouponExpirationProperties;
+import br.com.gama.cupon.infrastructure.adapter.in.scheduler.CouponExpirationScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CouponExpirationProperties.class)
+@ConditionalOnProperty(prefix = "coupon.expiration", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponExpirationConfig {
+
+    @Bean
+    public CouponExpirationScheduler couponExpirationScheduler(ExpireCouponsUseCase expireCouponsUseCase,
+                                                               SchedulerLockPort schedulerLockPort,
+                                                               CouponExpirationProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new CouponExpirationScheduler(expireCouponsUseCase, schedulerLockPort, properties, meterRegistry);
+    }
+}
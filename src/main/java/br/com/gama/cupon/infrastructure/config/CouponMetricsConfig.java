@@ -0,0 +1,21 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.infrastructure.metrics.CouponExceptionMetrics;
+import br.com.gama.cupon.infrastructure.metrics.CouponMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CouponMetricsConfig {
+
+    @Bean
+    public CouponMetricsAspect couponMetricsAspect(MeterRegistry meterRegistry) {
+        return new CouponMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public CouponExceptionMetrics couponExceptionMetrics(MeterRegistry meterRegistry) {
+        return new CouponExceptionMetrics(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.reactive")
+public class CouponReactiveProperties {
+    // Threads de event loop do Netty; o trabalho de I/O não bloqueia, então poucas threads atendem muitas conexões
+    private int eventLoopThreads = 4;
+}
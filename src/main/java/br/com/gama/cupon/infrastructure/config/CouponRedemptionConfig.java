@@ -0,0 +1,32 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.CouponRedemptionProperties;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.InMemoryCouponQuotaAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.WriteBehindCouponRedemptionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CouponRedemptionProperties.class)
+public class CouponRedemptionConfig {
+
+    // Fechado no shutdown (Closeable): grava o que estiver pendente antes do repositório, do qual depende
+    @Bean
+    public WriteBehindCouponRedemptionCounter writeBehindCouponRedemptionCounter(CouponRedemptionRepositoryPort couponRedemptionRepositoryPort,
+                                                                                 CouponRedemptionProperties properties,
+                                                                                 MeterRegistry meterRegistry) {
+        return new WriteBehindCouponRedemptionCounter(couponRedemptionRepositoryPort, properties, meterRegistry);
+    }
+
+    // Se inscreve no contador para saber quais resgates já foram gravados
+    @Bean
+    public InMemoryCouponQuotaAdapter inMemoryCouponQuotaAdapter(CouponRedemptionRepositoryPort couponRedemptionRepositoryPort,
+                                                                 WriteBehindCouponRedemptionCounter writeBehindCouponRedemptionCounter,
+                                                                 CouponRedemptionProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new InMemoryCouponQuotaAdapter(couponRedemptionRepositoryPort, writeBehindCouponRedemptionCounter, properties, meterRegistry);
+    }
+}
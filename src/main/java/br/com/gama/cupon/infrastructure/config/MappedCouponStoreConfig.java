@@ -0,0 +1,42 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.infrastructure.adapter.out.memory.InProcessCouponCodeSequenceAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.InProcessCouponRedemptionAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.InProcessSchedulerLockAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponRepositoryAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponStoreProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Profile {@code mmap}: cupons num log mapeado em memória, sem H2 nem Hibernate (a auto-configuração de JDBC e JPA
+ * fica excluída em application-mmap.yaml). Substitui os adapters que dependem do banco, marcados com {@code @Profile("!mmap")}.
+ */
+@Configuration
+@Profile("mmap")
+@EnableConfigurationProperties(MappedCouponStoreProperties.class)
+public class MappedCouponStoreConfig {
+
+    // Fechado no shutdown (Closeable): para a compactação e grava no disco o que ainda estiver só no page cache
+    @Bean
+    public MappedCouponRepositoryAdapter mappedCouponRepositoryAdapter(MappedCouponStoreProperties properties) {
+        return new MappedCouponRepositoryAdapter(properties);
+    }
+
+    @Bean
+    public InProcessSchedulerLockAdapter inProcessSchedulerLockAdapter() {
+        return new InProcessSchedulerLockAdapter();
+    }
+
+    @Bean
+    public InProcessCouponRedemptionAdapter inProcessCouponRedemptionAdapter() {
+        return new InProcessCouponRedemptionAdapter();
+    }
+
+    @Bean
+    public InProcessCouponCodeSequenceAdapter inProcessCouponCodeSequenceAdapter() {
+        return new InProcessCouponCodeSequenceAdapter();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Stack reativa do profile {@code reactive}: WebFlux sobre Netty com poucas threads de event loop e R2DBC sobre o H2.
+ * <p>
+ * A auto-configuração de R2DBC fica excluída (application.yaml) porque um bean {@code ConnectionFactory} faz o
+ * {@code DataSourceAutoConfiguration} recuar, e o JPA continua necessário para o schema e para o warm-up do índice.
+ * Por isso o pool R2DBC é criado aqui e exposto apenas como {@link DatabaseClient}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({R2dbcProperties.class, CouponReactiveProperties.class})
+public class ReactiveStackConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient couponDatabaseClient(R2dbcProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .initialSize(properties.getPool().getInitialSize())
+                .maxSize(properties.getPool().getMaxSize())
+                .maxIdleTime(properties.getPool().getMaxIdleTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    // Event loops próprios e dimensionados por configuração, em vez do padrão do Reactor (uma por core)
+    @Bean(destroyMethod = "dispose")
+    public LoopResources couponEventLoops(CouponReactiveProperties properties) {
+        return LoopResources.create("coupon-event-loop", Math.max(1, properties.getEventLoopThreads()), true);
+    }
+
+    // Bean explícito: com Tomcat também no classpath, a auto-configuração reativa o escolheria antes do Netty
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory(LoopResources couponEventLoops) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(couponEventLoops));
+        return factory;
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -2,10 +2,17 @@ package br.com.gama.cupon.infrastructure.exception;
 
 import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.exception.CouponNotRedeemableException;
 import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.infrastructure.metrics.CouponExceptionMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,12 +24,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final CouponExceptionMetrics exceptionMetrics;
+
     @ExceptionHandler(CouponNotFoundException.class)
     public ResponseEntity<Object> handleCouponNotFoundException(CouponNotFoundException ex, WebRequest request) {
+        exceptionMetrics.increment(ex);
         log.warn("Coupon not found: {}", ex.getMessage());
         Map<String, Object> body = createErrorBody(HttpStatus.NOT_FOUND, ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
@@ -30,6 +42,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(InvalidCouponException.class)
     public ResponseEntity<Object> handleInvalidCouponException(InvalidCouponException ex, WebRequest request) {
+        exceptionMetrics.increment(ex);
         log.warn("Invalid coupon data: {}", ex.getMessage());
         Map<String, Object> body = createErrorBody(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
@@ -37,11 +50,27 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(CouponAlreadyDeletedException.class)
     public ResponseEntity<Object> handleCouponAlreadyDeletedException(CouponAlreadyDeletedException ex, WebRequest request) {
+        exceptionMetrics.increment(ex);
         log.warn("Attempted operation on already deleted coupon: {}", ex.getMessage());
         Map<String, Object> body = createErrorBody(HttpStatus.CONFLICT, ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(body, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(CouponNotRedeemableException.class)
+    public ResponseEntity<Object> handleCouponNotRedeemableException(CouponNotRedeemableException ex, WebRequest request) {
+        exceptionMetrics.increment(ex);
+        log.warn("Coupon cannot be redeemed: {}", ex.getMessage());
+        Map<String, Object> body = createErrorBody(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(body, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        Map<String, Object> body = createErrorBody(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
         log.warn("Validation error: {}", ex.getMessage());
@@ -57,6 +86,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    // Sem conexão com o banco (ex.: pool esgotado além do connection-timeout): indisponibilidade momentânea
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Object> handleConnectionPoolExhausted(RuntimeException ex, WebRequest request) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        Map<String, Object> body = createErrorBody(HttpStatus.SERVICE_UNAVAILABLE, "The service is busy. Please retry shortly.", request.getDescription(false));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllUncaughtException(Exception ex, WebRequest request) {
         log.error("An unexpected error occurred: {}", ex.getMessage(), ex);
@@ -0,0 +1,108 @@
+package br.com.gama.cupon.infrastructure.exception;
+
+import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.infrastructure.metrics.CouponExceptionMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Mesmo contrato de erro do GlobalExceptionHandler, para o profile reactive (WebFlux)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ControllerAdvice
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveGlobalExceptionHandler {
+
+    private final CouponExceptionMetrics exceptionMetrics;
+
+    @ExceptionHandler(CouponNotFoundException.class)
+    public ResponseEntity<Object> handleCouponNotFoundException(CouponNotFoundException ex, ServerWebExchange exchange) {
+        exceptionMetrics.increment(ex);
+        log.warn("Coupon not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(InvalidCouponException.class)
+    public ResponseEntity<Object> handleInvalidCouponException(InvalidCouponException ex, ServerWebExchange exchange) {
+        exceptionMetrics.increment(ex);
+        log.warn("Invalid coupon data: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(CouponAlreadyDeletedException.class)
+    public ResponseEntity<Object> handleCouponAlreadyDeletedException(CouponAlreadyDeletedException ex, ServerWebExchange exchange) {
+        exceptionMetrics.increment(ex);
+        log.warn("Attempted operation on already deleted coupon: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleIllegalArgumentException(IllegalArgumentException ex, ServerWebExchange exchange) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Object> handleValidationExceptions(WebExchangeBindException ex, ServerWebExchange exchange) {
+        log.warn("Validation error: {}", ex.getMessage());
+        Map<String, Object> body = createErrorBody(HttpStatus.BAD_REQUEST, "Validation Failed", exchange);
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+        body.put("errors", errors);
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    // Corpo ilegível ou parâmetro de caminho inválido (ex.: UUID malformado)
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Object> handleServerWebInputException(ServerWebInputException ex, ServerWebExchange exchange) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getReason(), exchange);
+    }
+
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Object> handleConnectionPoolExhausted(DataAccessResourceFailureException ex, ServerWebExchange exchange) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        Map<String, Object> body = createErrorBody(HttpStatus.SERVICE_UNAVAILABLE, "The service is busy. Please retry shortly.", exchange);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleAllUncaughtException(Exception ex, ServerWebExchange exchange) {
+        log.error("An unexpected error occurred: {}", ex.getMessage(), ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred. Please try again later.", exchange);
+    }
+
+    private ResponseEntity<Object> error(HttpStatus status, String message, ServerWebExchange exchange) {
+        return new ResponseEntity<>(createErrorBody(status, message, exchange), status);
+    }
+
+    private Map<String, Object> createErrorBody(HttpStatus status, String message, ServerWebExchange exchange) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        // Mesmo formato de WebRequest.getDescription(false) no handler servlet
+        body.put("path", "uri=" + exchange.getRequest().getPath().value());
+        return body;
+    }
+}
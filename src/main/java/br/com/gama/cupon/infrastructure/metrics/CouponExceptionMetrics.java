@@ -0,0 +1,27 @@
+package br.com.gama.cupon.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Contador de exceções tratadas pelos exception handlers, com a tag exception = nome simples da classe
+public class CouponExceptionMetrics {
+
+    public static final String EXCEPTIONS_COUNTER = "coupon.exceptions";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    public CouponExceptionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void increment(Throwable exception) {
+        counters.computeIfAbsent(exception.getClass(), type -> Counter.builder(EXCEPTIONS_COUNTER)
+                        .tag("exception", type.getSimpleName())
+                        .register(registry))
+                .increment();
+    }
+}
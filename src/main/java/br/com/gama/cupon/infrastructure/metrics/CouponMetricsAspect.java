@@ -0,0 +1,77 @@
+package br.com.gama.cupon.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de cada use case (portas de entrada) e de cada método do {@code CouponRepositoryPort}, com as tags
+ * {@code class}, {@code method} e {@code exception} ("none" no sucesso).
+ * <p>
+ * O caminho de sucesso resolve o {@link Timer} uma única vez por classe e método e depois só faz um lookup
+ * no mapa e um {@code record}; o registro no {@link MeterRegistry} (que monta o id do meter) fica restrito
+ * à primeira chamada e às falhas. Use cases reativos ficam de fora: o método só monta o {@code Mono},
+ * então medir a chamada não mediria o trabalho.
+ */
+@Aspect
+public class CouponMetricsAspect {
+
+    public static final String USE_CASE_TIMER = "coupon.usecase";
+    public static final String REPOSITORY_TIMER = "coupon.repository";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public CouponMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* br.com.gama.cupon.application.port.in.*UseCase+.*(..)) && !execution(reactor.core.publisher.Mono *(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_TIMER, joinPoint);
+    }
+
+    // Com o cache ligado, o decorator e o adapter JPA são medidos separadamente (tag class): hit x ida ao banco
+    @Around("execution(* br.com.gama.cupon.domain.port.out.CouponRepositoryPort+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            TimerKey key = new TimerKey(name, joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+            timers.computeIfAbsent(key, this::register).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(name, joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return timer(key.name(), key.type(), key.method(), NO_EXCEPTION);
+    }
+
+    private Timer timer(String name, Class<?> type, Method method, String exception) {
+        return Timer.builder(name)
+                .tag("class", type.getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+
+    private record TimerKey(String name, Class<?> type, Method method) {
+    }
+}
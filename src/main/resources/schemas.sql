@@ -1,3 +0,0 @@
-CREATE UNIQUE INDEX IF NOT EXISTS ux_coupons_code_value_active
-    ON coupons (code_value)
-    WHERE deleted = FALSE;
\ No newline at end of file
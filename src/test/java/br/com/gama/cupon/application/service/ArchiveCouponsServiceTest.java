@@ -0,0 +1,77 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.ArchiveCouponsCommand;
+import br.com.gama.cupon.application.query.CouponArchiveReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveCouponsServiceTest {
+
+    private static final LocalDateTime DELETED_BEFORE = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDate EXPIRED_BEFORE = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private CouponArchiveBatchWriter batchWriter;
+
+    @InjectMocks
+    private ArchiveCouponsService archiveCouponsService;
+
+    @Test
+    @DisplayName("Deve arquivar em lotes até encontrar um lote incompleto")
+    void shouldArchiveInBatchesUntilAPartialBatch() {
+        when(batchWriter.archiveBatch(DELETED_BEFORE, EXPIRED_BEFORE, 100)).thenReturn(100, 7);
+
+        CouponArchiveReport report = archiveCouponsService.archiveCoupons(command(100, 10));
+
+        assertThat(report.getArchived()).isEqualTo(107);
+        assertThat(report.getBatches()).isEqualTo(2);
+        assertThat(report.isTruncated()).isFalse();
+        verify(batchWriter, times(2)).archiveBatch(DELETED_BEFORE, EXPIRED_BEFORE, 100);
+    }
+
+    @Test
+    @DisplayName("Deve parar no limite de lotes por execução e sinalizar que pode haver mais a arquivar")
+    void shouldStopAtMaxBatches() {
+        when(batchWriter.archiveBatch(DELETED_BEFORE, EXPIRED_BEFORE, 100)).thenReturn(100);
+
+        CouponArchiveReport report = archiveCouponsService.archiveCoupons(command(100, 3));
+
+        assertThat(report.getArchived()).isEqualTo(300);
+        assertThat(report.getBatches()).isEqualTo(3);
+        assertThat(report.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite de lotes menor que 1")
+    void shouldRejectInvalidMaxBatches() {
+        assertThatThrownBy(() -> archiveCouponsService.archiveCoupons(command(100, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(batchWriter);
+    }
+
+    private static ArchiveCouponsCommand command(int batchSize, int maxBatches) {
+        return ArchiveCouponsCommand.builder()
+                .deletedBefore(DELETED_BEFORE)
+                .expiredBefore(EXPIRED_BEFORE)
+                .batchSize(batchSize)
+                .maxBatches(maxBatches)
+                .pauseBetweenBatches(Duration.ZERO)
+                .build();
+    }
+}
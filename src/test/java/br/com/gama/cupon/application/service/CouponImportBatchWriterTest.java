@@ -0,0 +1,90 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponImportBatchWriterTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
+    @Mock
+    private CouponCodeSequencePort couponCodeSequencePort;
+
+    @InjectMocks
+    private CouponImportBatchWriter batchWriter;
+
+    @Test
+    @DisplayName("Deve gravar o lote e rejeitar só os códigos tomados por outro processo durante o INSERT")
+    void shouldRejectOnlyCodesTakenDuringInsert() {
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of("USED01"));
+        when(couponRepositoryPort.insertAll(anyList())).thenReturn(Set.of("RACE01"));
+
+        Set<String> rejected = batchWriter.write(List.of(coupon("NEW001"), coupon("USED01"), coupon("RACE01")), false);
+
+        assertThat(rejected).containsExactlyInAnyOrder("USED01", "RACE01");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> indexed = ArgumentCaptor.forClass(List.class);
+        verify(activeCouponIndexPort).indexAll(indexed.capture());
+        assertThat(indexed.getValue()).extracting(coupon -> coupon.getCode().getValue()).containsExactly("NEW001");
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada no modo tudo ou nada quando um código já está ativo")
+    void shouldWriteNothingWhenAllOrNothingFindsActiveCode() {
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of("USED01"));
+
+        Set<String> rejected = batchWriter.write(List.of(coupon("NEW001"), coupon("USED01")), true);
+
+        assertThat(rejected).containsExactly("USED01");
+        verify(couponRepositoryPort, never()).insertAll(anyList());
+        verify(activeCouponIndexPort, never()).indexAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve avançar a posição da sequência junto com o bloco de cupons gerados")
+    void shouldAdvanceSequenceWithGeneratedChunk() {
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of());
+
+        Set<String> rejected = batchWriter.writeGenerated(List.of(coupon("GEN001"), coupon("GEN002")), "node-0-of-1", 42);
+
+        assertThat(rejected).isEmpty();
+        verify(couponRepositoryPort).insertAll(anyList());
+        verify(couponCodeSequencePort).advance("node-0-of-1", 42);
+    }
+
+    private static Coupon coupon(String code) {
+        return Coupon.builder()
+                .code(code)
+                .description("Imported " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(30))
+                .published(true)
+                .build();
+    }
+}
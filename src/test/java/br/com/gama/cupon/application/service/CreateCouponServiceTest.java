@@ -4,18 +4,21 @@ import br.com.gama.cupon.application.command.CreateCouponCommand;
 import br.com.gama.cupon.application.query.CouponResponse;
 import br.com.gama.cupon.domain.exception.InvalidCouponException;
 import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import br.com.gama.cupon.infrastructure.adapter.out.id.TimeOrderedUuidGenerator;
 import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepositoryAdapter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +32,12 @@ class CreateCouponServiceTest {
     @Mock
     private JpaCouponRepositoryAdapter couponRepositoryPort;
 
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
+    @Spy
+    private IdGeneratorPort idGenerator = new TimeOrderedUuidGenerator();
+
     @InjectMocks
     private CreateCouponService createCouponService;
 
@@ -56,7 +65,7 @@ class CreateCouponServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(savedCoupon);
+        when(couponRepositoryPort.create(any(Coupon.class))).thenReturn(savedCoupon);
 
         // When
         CouponResponse response = createCouponService.createCoupon(command);
@@ -66,7 +75,8 @@ class CreateCouponServiceTest {
         assertThat(response.getCode()).isEqualTo("NEWCOD");
         assertThat(response.getDescription()).isEqualTo("New coupon");
         assertThat(response.isDeleted()).isFalse();
-        verify(couponRepositoryPort, times(1)).save(any(Coupon.class));
+        verify(couponRepositoryPort, times(1)).create(any(Coupon.class));
+        verify(activeCouponIndexPort, times(1)).index(savedCoupon);
     }
 
     @Test
@@ -82,28 +92,17 @@ class CreateCouponServiceTest {
                 .published(true)
                 .build();
 
-        Coupon existingActiveCoupon = Coupon.builder()
-                .id(UUID.randomUUID())
-                .code(duplicateCode)
-                .description("Original active coupon")
-                .discountValue(new BigDecimal("5.00"))
-                .expirationDate(LocalDate.now().plusDays(30))
-                .published(true)
-                .deleted(false) // ESTE É UM CUPOM ATIVO!
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        // Configura o mock para retornar o cupom ativo quando findByCode for chamado
-        when(couponRepositoryPort.findByCode(duplicateCode)).thenReturn(Optional.of(existingActiveCoupon));
+        // A unicidade é garantida pela restrição do banco; o adapter traduz a violação
+        when(couponRepositoryPort.create(any(Coupon.class)))
+                .thenThrow(new InvalidCouponException("Coupon code '" + duplicateCode + "' is already in use by another active coupon."));
 
         // When / Then
         assertThatThrownBy(() -> createCouponService.createCoupon(command))
                 .isInstanceOf(InvalidCouponException.class)
                 .hasMessageContaining("Coupon code '" + duplicateCode + "' is already in use by another active coupon.");
 
-        verify(couponRepositoryPort, times(1)).findByCode(duplicateCode);
-        verify(couponRepositoryPort, never()).save(any(Coupon.class)); // O save não deve ser chamado
+        verify(couponRepositoryPort, never()).findByCode(any()); // Sem consulta prévia
+        verify(activeCouponIndexPort, never()).index(any(Coupon.class));
     }
 
     @Test
@@ -119,10 +118,6 @@ class CreateCouponServiceTest {
                 .published(true)
                 .build();
 
-        // Configura o mock para NÃO encontrar um cupom ATIVO com o mesmo código.
-        // Isso é crucial: findByCode(code) deve retornar Optional.empty() para este cenário.
-        when(couponRepositoryPort.findByCode(codeUsedByDeleted)).thenReturn(Optional.empty());
-
         // Configura o mock para simular o salvamento do novo cupom
         Coupon newSavedCoupon = Coupon.builder()
                 .id(UUID.randomUUID())
@@ -135,7 +130,7 @@ class CreateCouponServiceTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
-        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(newSavedCoupon);
+        when(couponRepositoryPort.create(any(Coupon.class))).thenReturn(newSavedCoupon);
 
         // When
         CouponResponse response = createCouponService.createCoupon(command);
@@ -144,7 +139,6 @@ class CreateCouponServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getCode()).isEqualTo(codeUsedByDeleted);
         assertThat(response.isDeleted()).isFalse(); // O novo cupom é ativo
-        verify(couponRepositoryPort, times(1)).findByCode(codeUsedByDeleted);
-        verify(couponRepositoryPort, times(1)).save(any(Coupon.class)); // O save deve ser chamado
+        verify(couponRepositoryPort, times(1)).create(any(Coupon.class)); // O create deve ser chamado
     }
 }
@@ -0,0 +1,159 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.query.BatchCouponItemResult;
+import br.com.gama.cupon.application.query.BatchCreateCouponsResponse;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import br.com.gama.cupon.infrastructure.adapter.out.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateCouponsInBatchServiceTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
+    @Spy
+    private IdGeneratorPort idGenerator = new TimeOrderedUuidGenerator();
+
+    @InjectMocks
+    private CreateCouponsInBatchService createCouponsInBatchService;
+
+    @Test
+    @DisplayName("Deve criar os itens válidos e rejeitar inválidos, duplicados no lote e códigos já ativos")
+    void shouldCreateValidItemsAndRejectTheRest() {
+        List<CreateCouponCommand> commands = List.of(
+                command("NEW001", new BigDecimal("10.00")),
+                command("BAD001", new BigDecimal("0.10")),   // desconto abaixo do mínimo
+                command("NEW001", new BigDecimal("10.00")),  // duplicado no lote
+                command("USED01", new BigDecimal("10.00"))   // já ativo no banco
+        );
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of("USED01"));
+
+        BatchCreateCouponsResponse response = createCouponsInBatchService.createCoupons(commands);
+
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getItems()).extracting(BatchCouponItemResult::getStatus).containsExactly(
+                BatchCouponItemResult.Status.CREATED,
+                BatchCouponItemResult.Status.REJECTED,
+                BatchCouponItemResult.Status.REJECTED,
+                BatchCouponItemResult.Status.REJECTED);
+        assertThat(response.getItems().get(3).getError()).contains("already in use by another active coupon");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(couponRepositoryPort).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(coupon -> coupon.getCode().getValue()).containsExactly("NEW001");
+        verify(activeCouponIndexPort).indexAll(inserted.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar só os itens cujo código foi criado por outra requisição depois da checagem")
+    void shouldRejectOnlyItemsWhoseCodeWasTakenDuringInsert() {
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of());
+        when(couponRepositoryPort.insertAll(anyList())).thenReturn(Set.of("RACE01"));
+
+        BatchCreateCouponsResponse response = createCouponsInBatchService.createCoupons(List.of(
+                command("KEEP01", BigDecimal.TEN),
+                command("RACE01", BigDecimal.TEN)));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getItems()).extracting(BatchCouponItemResult::getStatus).containsExactly(
+                BatchCouponItemResult.Status.CREATED,
+                BatchCouponItemResult.Status.REJECTED);
+        assertThat(response.getItems().get(1).getError()).contains("already in use by another active coupon");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> indexed = ArgumentCaptor.forClass(List.class);
+        verify(activeCouponIndexPort).indexAll(indexed.capture());
+        assertThat(indexed.getValue()).extracting(coupon -> coupon.getCode().getValue()).containsExactly("KEEP01");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar itens sem campos obrigatórios como inválidos, sem derrubar o lote")
+    void shouldRejectItemsWithMissingMandatoryFields() {
+        CreateCouponCommand withoutCode = command(null, BigDecimal.TEN);
+        CreateCouponCommand withoutDiscount = command("NODISC", null);
+        CreateCouponCommand withoutExpiration = command("NOEXP1", BigDecimal.TEN);
+        withoutExpiration.setExpirationDate(null);
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of());
+
+        BatchCreateCouponsResponse response = createCouponsInBatchService.createCoupons(List.of(
+                withoutCode, withoutDiscount, withoutExpiration, command("VALID1", BigDecimal.TEN)));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getItems()).extracting(BatchCouponItemResult::getError).containsExactly(
+                "Coupon code cannot be null.",
+                "Coupon discount value cannot be null.",
+                "Coupon expiration date cannot be null.",
+                null);
+    }
+
+    @Test
+    @DisplayName("Deve repassar o limite de usos de cada item ao cupom criado")
+    void shouldKeepMaxUsesOfEachItem() {
+        CreateCouponCommand limited = command("LIMIT1", BigDecimal.TEN);
+        limited.setMaxUses(5);
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of());
+
+        createCouponsInBatchService.createCoupons(List.of(limited, command("UNLIM1", BigDecimal.TEN)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Coupon>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(couponRepositoryPort).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Coupon::getMaxUses).containsExactly(5, null);
+    }
+
+    @Test
+    @DisplayName("Deve consultar os códigos ativos uma única vez por lote")
+    void shouldQueryActiveCodesOncePerBatch() {
+        when(couponRepositoryPort.findActiveCodes(anyCollection())).thenReturn(Set.of());
+
+        createCouponsInBatchService.createCoupons(List.of(
+                command("ONE001", BigDecimal.TEN),
+                command("TWO002", BigDecimal.TEN),
+                command("THR003", BigDecimal.TEN)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> codes = ArgumentCaptor.forClass(Collection.class);
+        verify(couponRepositoryPort, times(1)).findActiveCodes(codes.capture());
+        assertThat(codes.getValue()).containsExactlyInAnyOrder("ONE001", "TWO002", "THR003");
+    }
+
+    private CreateCouponCommand command(String code, BigDecimal discountValue) {
+        return CreateCouponCommand.builder()
+                .code(code)
+                .description("Batch coupon " + code)
+                .discountValue(discountValue)
+                .expirationDate(LocalDate.now().plusDays(30))
+                .published(true)
+                .build();
+    }
+}
@@ -2,8 +2,7 @@ package br.com.gama.cupon.application.service;
 
 import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.gama.cupon.domain.exception.CouponNotFoundException;
-import br.com.gama.cupon.domain.model.Coupon;
-import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
 import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +12,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.Optional;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,74 +28,54 @@ class DeleteCouponServiceTest {
     @Mock
     private CouponRepositoryPort couponRepositoryPort;
 
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
     @InjectMocks
     private DeleteCouponService deleteCouponService;
 
     private UUID couponId;
-    private Coupon activeCoupon;
-    private Coupon deletedCoupon;
 
     @BeforeEach
     void setUp() {
         couponId = UUID.randomUUID();
-
-        // Cupom ativo para testes
-        activeCoupon = Coupon.builder()
-                .id(couponId)
-                .code(new CouponCode("ACTIVE123").toString())
-                .description("Active Coupon")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(30))
-                .published(true)
-                .deleted(false) // Este é um cupom ativo
-                .build();
-
-        // Cupom já deletado para testes
-        deletedCoupon = Coupon.builder()
-                .id(UUID.randomUUID()) // ID diferente para o cupom deletado
-                .code(new CouponCode("DELETED456").toString())
-                .description("Deleted Coupon")
-                .discountValue(new BigDecimal("5.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(false)
-                .deleted(true) // Este é um cupom já deletado
-                .build();
     }
 
     @Test
-    @DisplayName("Deve marcar um cupom existente como deletado")
+    @DisplayName("Deve marcar um cupom existente como deletado com um único UPDATE")
     void shouldMarkExistingCouponAsDeleted() {
-        when(couponRepositoryPort.findByIdIgnoringDeleted(couponId)).thenReturn(Optional.of(activeCoupon));
-        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(activeCoupon);
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(true);
 
         deleteCouponService.deleteCoupon(couponId);
 
-        verify(couponRepositoryPort).findByIdIgnoringDeleted(couponId);
-        verify(couponRepositoryPort).save(activeCoupon);
-        assertThat(activeCoupon.isDeleted()).isTrue();
+        verify(couponRepositoryPort).softDeleteById(eq(couponId), any(LocalDateTime.class));
+        verify(couponRepositoryPort, never()).existsByIdIncludingDeleted(any(UUID.class));
+        verify(activeCouponIndexPort).evict(couponId);
     }
 
     @Test
     @DisplayName("Deve lançar CouponNotFoundException se o cupom não for encontrado")
     void shouldThrowCouponNotFoundExceptionWhenCouponDoesNotExist() {
-        when(couponRepositoryPort.findByIdIgnoringDeleted(any(UUID.class))).thenReturn(Optional.empty());
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepositoryPort.existsByIdIncludingDeleted(couponId)).thenReturn(false);
 
-        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(UUID.randomUUID()))
+        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(couponId))
                 .isInstanceOf(CouponNotFoundException.class)
-                .hasMessageContaining("Coupon with ID");
+                .hasMessage("Coupon with ID " + couponId + " not found.");
 
-        verify(couponRepositoryPort, never()).save(any(Coupon.class));
+        verify(activeCouponIndexPort, never()).evict(any(UUID.class));
     }
 
     @Test
     @DisplayName("Deve lançar CouponAlreadyDeletedException se o cupom já estiver deletado")
     void shouldThrowCouponAlreadyDeletedExceptionWhenCouponIsAlreadyDeleted() {
-        when(couponRepositoryPort.findByIdIgnoringDeleted(deletedCoupon.getId())).thenReturn(Optional.of(deletedCoupon));
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(false);
+        when(couponRepositoryPort.existsByIdIncludingDeleted(couponId)).thenReturn(true);
 
-        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(deletedCoupon.getId()))
+        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(couponId))
                 .isInstanceOf(CouponAlreadyDeletedException.class)
-                .hasMessage("Coupon with ID " + deletedCoupon.getId() + " is already deleted.");
+                .hasMessage("Coupon with ID " + couponId + " is already deleted.");
 
-        verify(couponRepositoryPort, never()).save(any(Coupon.class));
+        verify(activeCouponIndexPort, never()).evict(any(UUID.class));
     }
 }
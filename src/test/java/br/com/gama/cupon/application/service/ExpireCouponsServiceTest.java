@@ -0,0 +1,87 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.ExpireCouponsCommand;
+import br.com.gama.cupon.application.query.CouponExpirationReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExpireCouponsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private CouponExpirationBatchWriter batchWriter;
+
+    @InjectMocks
+    private ExpireCouponsService expireCouponsService;
+
+    @Test
+    @DisplayName("Deve expirar em lotes até encontrar um lote incompleto")
+    void shouldExpireInBatchesUntilAPartialBatch() {
+        when(batchWriter.expireBatch(TODAY, 100)).thenReturn(100, 100, 42);
+
+        CouponExpirationReport report = expireCouponsService.expireCoupons(command(100, 10));
+
+        assertThat(report.getExpired()).isEqualTo(242);
+        assertThat(report.getBatches()).isEqualTo(3);
+        assertThat(report.isTruncated()).isFalse();
+        verify(batchWriter, times(3)).expireBatch(TODAY, 100);
+    }
+
+    @Test
+    @DisplayName("Deve parar no limite de lotes por execução e sinalizar que pode haver mais expirados")
+    void shouldStopAtMaxBatches() {
+        when(batchWriter.expireBatch(TODAY, 100)).thenReturn(100);
+
+        CouponExpirationReport report = expireCouponsService.expireCoupons(command(100, 2));
+
+        assertThat(report.getExpired()).isEqualTo(200);
+        assertThat(report.getBatches()).isEqualTo(2);
+        assertThat(report.isTruncated()).isTrue();
+        verify(batchWriter, times(2)).expireBatch(TODAY, 100);
+    }
+
+    @Test
+    @DisplayName("Sem cupons expirados, deve fazer uma única consulta")
+    void shouldDoNothingWhenNoCouponIsExpired() {
+        when(batchWriter.expireBatch(TODAY, 100)).thenReturn(0);
+
+        CouponExpirationReport report = expireCouponsService.expireCoupons(command(100, 10));
+
+        assertThat(report.getExpired()).isZero();
+        assertThat(report.getBatches()).isZero();
+        verify(batchWriter, times(1)).expireBatch(TODAY, 100);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de lote menor que 1")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> expireCouponsService.expireCoupons(command(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(batchWriter);
+    }
+
+    private static ExpireCouponsCommand command(int batchSize, int maxBatches) {
+        return ExpireCouponsCommand.builder()
+                .referenceDate(TODAY)
+                .batchSize(batchSize)
+                .maxBatches(maxBatches)
+                .pauseBetweenBatches(Duration.ZERO)
+                .build();
+    }
+}
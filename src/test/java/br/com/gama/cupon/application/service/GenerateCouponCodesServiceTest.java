@@ -0,0 +1,128 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.GenerateCouponCodesCommand;
+import br.com.gama.cupon.application.query.CouponCodeGenerationReport;
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCodePermutation;
+import br.com.gama.cupon.domain.model.CouponCodeSequence;
+import br.com.gama.cupon.infrastructure.adapter.out.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateCouponCodesServiceTest {
+
+    @Mock
+    private CouponImportBatchWriter batchWriter;
+
+    private CouponCodeSequence codeSequence;
+    private GenerateCouponCodesService generateCouponCodesService;
+
+    @BeforeEach
+    void setUp() {
+        codeSequence = new CouponCodeSequence(new CouponCodePermutation(42L), 0, 1);
+        generateCouponCodesService = new GenerateCouponCodesService(codeSequence, batchWriter, new TimeOrderedUuidGenerator());
+    }
+
+    @Test
+    @DisplayName("Deve gerar a quantidade pedida em blocos, com códigos únicos e os dados do comando")
+    @SuppressWarnings("unchecked")
+    void shouldGenerateCouponsInChunks() {
+        when(batchWriter.writeGenerated(anyList(), anyString(), anyLong())).thenReturn(Set.of());
+
+        CouponCodeGenerationReport report = generateCouponCodesService.generateCoupons(command(25, 10));
+
+        ArgumentCaptor<List<Coupon>> chunks = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Long> nextIndexes = ArgumentCaptor.forClass(Long.class);
+        verify(batchWriter, times(3)).writeGenerated(chunks.capture(), eq("node-0-of-1"), nextIndexes.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(10, 10, 5);
+        assertThat(nextIndexes.getAllValues()).containsExactly(10L, 20L, 25L);
+
+        Set<String> codes = new HashSet<>();
+        chunks.getAllValues().forEach(chunk -> chunk.forEach(coupon -> {
+            codes.add(coupon.getCode().getValue());
+            assertThat(coupon.getId()).isNotNull();
+            assertThat(coupon.getDescription()).isEqualTo("Generated coupon");
+            assertThat(coupon.isPublished()).isTrue();
+            assertThat(coupon.getMaxUses()).isEqualTo(1);
+        }));
+        assertThat(codes).hasSize(25);
+
+        assertThat(report.getCreated()).isEqualTo(25);
+        assertThat(report.getSkippedActive()).isZero();
+        assertThat(report.getFirstIndex()).isZero();
+        assertThat(report.getNextIndex()).isEqualTo(25);
+        assertThat(report.isExhausted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Códigos já ativos devem ser pulados e compensados com novos índices")
+    void shouldSkipActiveCodesAndKeepGoing() {
+        String activeCode = codeSequence.codeAt(1);
+        when(batchWriter.writeGenerated(anyList(), anyString(), anyLong())).thenReturn(Set.of(activeCode), Set.of());
+
+        CouponCodeGenerationReport report = generateCouponCodesService.generateCoupons(command(5, 10));
+
+        assertThat(report.getCreated()).isEqualTo(5);
+        assertThat(report.getSkippedActive()).isEqualTo(1);
+        assertThat(report.getNextIndex()).isEqualTo(6);
+        verify(batchWriter, times(2)).writeGenerated(anyList(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve refazer o bloco quando outro cupom ocupa um código entre a consulta e o INSERT")
+    void shouldRetryChunkOnConcurrentCollision() {
+        when(batchWriter.writeGenerated(anyList(), anyString(), anyLong()))
+                .thenThrow(new InvalidCouponException("Coupon code is already in use by another active coupon."))
+                .thenReturn(Set.of());
+
+        CouponCodeGenerationReport report = generateCouponCodesService.generateCoupons(command(3, 10));
+
+        assertThat(report.getCreated()).isEqualTo(3);
+        verify(batchWriter, times(2)).writeGenerated(anyList(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidade menor que 1")
+    void shouldRejectNonPositiveCount() {
+        assertThatThrownBy(() -> generateCouponCodesService.generateCoupons(command(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Count must be at least 1.");
+        verifyNoInteractions(batchWriter);
+    }
+
+    private static GenerateCouponCodesCommand command(long count, int chunkSize) {
+        return GenerateCouponCodesCommand.builder()
+                .count(count)
+                .description("Generated coupon")
+                .discountValue(new BigDecimal("5.00"))
+                .expirationDate(LocalDate.now().plusDays(30))
+                .published(true)
+                .maxUses(1)
+                .chunkSize(chunkSize)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.command.CouponImportErrorMode;
+import br.com.gama.cupon.application.command.CouponImportRecord;
+import br.com.gama.cupon.application.command.CouponImportSource;
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.command.ImportCouponsCommand;
+import br.com.gama.cupon.application.query.CouponImportReport;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.infrastructure.adapter.out.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportCouponsServiceTest {
+
+    @Mock
+    private CouponImportBatchWriter batchWriter;
+
+    private CouponImportProgressRegistry progressRegistry;
+    private ImportCouponsService importCouponsService;
+
+    @BeforeEach
+    void setUp() {
+        progressRegistry = new CouponImportProgressRegistry();
+        importCouponsService = new ImportCouponsService(batchWriter, progressRegistry, new TimeOrderedUuidGenerator());
+    }
+
+    @Test
+    @DisplayName("Deve gravar os registros válidos em lotes e reportar os rejeitados no modo SKIP_AND_REPORT")
+    void shouldWriteValidRecordsAndReportRejected() {
+        when(batchWriter.write(anyList(), anyBoolean())).thenAnswer(invocation -> {
+            List<Coupon> coupons = invocation.getArgument(0);
+            return coupons.stream().map(coupon -> coupon.getCode().getValue()).filter("USED01"::equals).collect(Collectors.toSet());
+        });
+        List<CouponImportRecord> records = List.of(
+                CouponImportRecord.parsed(1, command("NEW001", "10.00")),
+                CouponImportRecord.unparseable(2, "Malformed JSON"),
+                CouponImportRecord.parsed(3, command("LOW001", "0.10")),
+                CouponImportRecord.parsed(4, command("NEW001", "10.00")),
+                CouponImportRecord.parsed(5, command("USED01", "10.00")),
+                CouponImportRecord.parsed(6, command("NEW002", "10.00")));
+
+        CouponImportReport report = importCouponsService.importCoupons(command("imp-1", CouponImportErrorMode.SKIP_AND_REPORT, records, 100));
+
+        assertThat(report.getStatus()).isEqualTo(CouponImportReport.Status.COMPLETED);
+        assertThat(report.getRead()).isEqualTo(6);
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(4);
+        // Com validação paralela, qualquer uma das duas linhas com NEW001 pode ser a duplicada
+        assertThat(report.getErrors()).hasSize(4).extracting(error -> error.lineNumber()).contains(2L, 3L, 5L);
+        assertThat(progressRegistry.getProgress("imp-1")).hasValueSatisfying(progress ->
+                assertThat(progress.getStatus()).isEqualTo(CouponImportReport.Status.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar como inválidas as linhas sem campos obrigatórios")
+    void shouldRejectRecordsWithMissingMandatoryFields() {
+        when(batchWriter.write(anyList(), anyBoolean())).thenReturn(Set.of());
+        CreateCouponCommand withoutDiscount = command("NODISC", "10.00");
+        withoutDiscount.setDiscountValue(null);
+        CreateCouponCommand withoutExpiration = command("NOEXP1", "10.00");
+        withoutExpiration.setExpirationDate(null);
+        List<CouponImportRecord> records = List.of(
+                CouponImportRecord.parsed(1, withoutDiscount),
+                CouponImportRecord.parsed(2, withoutExpiration),
+                CouponImportRecord.parsed(3, command("NEW001", "10.00")));
+
+        CouponImportReport report = importCouponsService.importCoupons(command("imp-6", CouponImportErrorMode.SKIP_AND_REPORT, records, 10));
+
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(error -> error.message()).containsExactlyInAnyOrder(
+                "Coupon discount value cannot be null.",
+                "Coupon expiration date cannot be null.");
+    }
+
+    @Test
+    @DisplayName("Deve interromper a importação na primeira falha no modo STOP_ON_ERROR")
+    void shouldStopOnFirstError() {
+        List<CouponImportRecord> records = List.of(
+                CouponImportRecord.unparseable(1, "Malformed JSON"),
+                CouponImportRecord.parsed(2, command("NEW001", "10.00")));
+
+        CouponImportReport report = importCouponsService.importCoupons(command("imp-2", CouponImportErrorMode.STOP_ON_ERROR, records, 10));
+
+        assertThat(report.getStatus()).isEqualTo(CouponImportReport.Status.STOPPED);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getCreated()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve dividir arquivos grandes em lotes do tamanho configurado")
+    void shouldSplitLargeImportsIntoBatches() {
+        when(batchWriter.write(anyList(), anyBoolean())).thenReturn(Set.of());
+        List<CouponImportRecord> records = IntStream.rangeClosed(1, 2_500)
+                .mapToObj(i -> CouponImportRecord.parsed(i, command(String.format("C%05d", i), "10.00")))
+                .toList();
+
+        CouponImportReport report = importCouponsService.importCoupons(command("imp-3", CouponImportErrorMode.SKIP_AND_REPORT, records, 1_000));
+
+        assertThat(report.getStatus()).isEqualTo(CouponImportReport.Status.COMPLETED);
+        assertThat(report.getCreated()).isEqualTo(2_500);
+        verify(batchWriter, times(3)).write(anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Deve marcar a importação como FAILED quando a escrita de um lote falhar")
+    void shouldFailWhenBatchWriteFails() {
+        when(batchWriter.write(anyList(), anyBoolean())).thenThrow(new IllegalStateException("database unavailable"));
+        List<CouponImportRecord> records = List.of(CouponImportRecord.parsed(1, command("NEW001", "10.00")));
+
+        CouponImportReport report = importCouponsService.importCoupons(command("imp-4", CouponImportErrorMode.SKIP_AND_REPORT, records, 10));
+
+        assertThat(report.getStatus()).isEqualTo(CouponImportReport.Status.FAILED);
+        assertThat(report.getErrors()).extracting(error -> error.message()).anyMatch(message -> message.contains("database unavailable"));
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um importId que já está em execução")
+    void shouldRejectImportIdAlreadyRunning() {
+        progressRegistry.register(new CouponImportJob("imp-5", CouponImportErrorMode.SKIP_AND_REPORT, 10));
+
+        assertThatThrownBy(() -> importCouponsService.importCoupons(command("imp-5", CouponImportErrorMode.SKIP_AND_REPORT, List.of(), 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Import 'imp-5' is already running.");
+        verify(batchWriter, never()).write(anyList(), anyBoolean());
+    }
+
+    private ImportCouponsCommand command(String importId, CouponImportErrorMode mode, List<CouponImportRecord> records, int batchSize) {
+        Iterator<CouponImportRecord> iterator = records.iterator();
+        CouponImportSource source = new CouponImportSource() {
+            @Override
+            public CouponImportRecord next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        return ImportCouponsCommand.builder()
+                .importId(importId)
+                .source(source)
+                .errorMode(mode)
+                .batchSize(batchSize)
+                .queueCapacity(16)
+                .validatorThreads(2)
+                .maxReportedErrors(100)
+                .build();
+    }
+
+    private CreateCouponCommand command(String code, String discountValue) {
+        return CreateCouponCommand.builder()
+                .code(code)
+                .description("Imported coupon " + code)
+                .discountValue(new BigDecimal(discountValue))
+                .expirationDate(LocalDate.now().plusDays(30))
+                .published(true)
+                .build();
+    }
+}
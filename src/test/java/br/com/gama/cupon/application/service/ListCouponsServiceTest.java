@@ -0,0 +1,93 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.query.CouponPageResponse;
+import br.com.gama.cupon.application.query.ListCouponsQuery;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListCouponsServiceTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @InjectMocks
+    private ListCouponsService listCouponsService;
+
+    @Test
+    @DisplayName("Deve buscar limit + 1 linhas e devolver o cursor da última linha entregue")
+    void shouldReturnNextCursorWhenThereAreMoreRows() {
+        List<Coupon> rows = coupons(3);
+        when(couponRepositoryPort.findPage(any(CouponSearchCriteria.class), isNull(), eq(3))).thenReturn(rows);
+
+        CouponPageResponse response = listCouponsService.listCoupons(ListCouponsQuery.builder().limit(2).build());
+
+        assertThat(response.getItems()).hasSize(2);
+        assertThat(response.getNextCursor()).isEqualTo(CouponPageCursor.after(rows.get(1)).encode());
+    }
+
+    @Test
+    @DisplayName("Deve repassar o cursor e os filtros e não devolver cursor na última página")
+    void shouldPassCursorAndFiltersAndEndOnLastPage() {
+        CouponPageCursor cursor = CouponPageCursor.after(coupons(1).get(0));
+        when(couponRepositoryPort.findPage(any(CouponSearchCriteria.class), eq(cursor), eq(51))).thenReturn(coupons(1));
+
+        CouponPageResponse response = listCouponsService.listCoupons(ListCouponsQuery.builder()
+                .published(true)
+                .minDiscount(BigDecimal.ONE)
+                .cursor(cursor.encode())
+                .build());
+
+        assertThat(response.getItems()).hasSize(1);
+        assertThat(response.getNextCursor()).isNull();
+        verify(couponRepositoryPort).findPage(eq(new CouponSearchCriteria(true, null, null, BigDecimal.ONE, null)), eq(cursor), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora da faixa e intervalos invertidos")
+    void shouldRejectInvalidQueries() {
+        assertThatThrownBy(() -> listCouponsService.listCoupons(ListCouponsQuery.builder().limit(501).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> listCouponsService.listCoupons(ListCouponsQuery.builder()
+                .expiresFrom(LocalDate.now().plusDays(2)).expiresTo(LocalDate.now()).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(couponRepositoryPort);
+    }
+
+    private List<Coupon> coupons(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        return IntStream.range(0, count)
+                .mapToObj(i -> Coupon.builder()
+                        .code(String.format("LIST%02d", i))
+                        .description("Cupom " + i)
+                        .discountValue(BigDecimal.TEN)
+                        .expirationDate(LocalDate.now().plusDays(10))
+                        .createdAt(now.minusMinutes(i))
+                        .build())
+                .toList();
+    }
+}
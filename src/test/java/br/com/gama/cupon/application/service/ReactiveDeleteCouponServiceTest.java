@@ -0,0 +1,78 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import br.com.gama.cupon.domain.port.out.ReactiveCouponRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDeleteCouponServiceTest {
+
+    @Mock
+    private ReactiveCouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
+    @InjectMocks
+    private ReactiveDeleteCouponService deleteCouponService;
+
+    private UUID couponId;
+
+    @BeforeEach
+    void setUp() {
+        couponId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve marcar o cupom como deletado sem consultar o motivo")
+    void shouldMarkExistingCouponAsDeleted() {
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(Mono.just(true));
+
+        deleteCouponService.deleteCoupon(couponId).block();
+
+        verify(couponRepositoryPort, never()).existsByIdIncludingDeleted(any(UUID.class));
+        verify(activeCouponIndexPort).evict(couponId);
+    }
+
+    @Test
+    @DisplayName("Deve emitir CouponNotFoundException se o cupom não existir")
+    void shouldSignalNotFoundWhenCouponDoesNotExist() {
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(Mono.just(false));
+        when(couponRepositoryPort.existsByIdIncludingDeleted(couponId)).thenReturn(Mono.just(false));
+
+        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(couponId).block())
+                .isInstanceOf(CouponNotFoundException.class)
+                .hasMessage("Coupon with ID " + couponId + " not found.");
+        verify(activeCouponIndexPort, never()).evict(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve emitir CouponAlreadyDeletedException se o cupom já estiver deletado")
+    void shouldSignalAlreadyDeletedWhenCouponIsDeleted() {
+        when(couponRepositoryPort.softDeleteById(eq(couponId), any(LocalDateTime.class))).thenReturn(Mono.just(false));
+        when(couponRepositoryPort.existsByIdIncludingDeleted(couponId)).thenReturn(Mono.just(true));
+
+        assertThatThrownBy(() -> deleteCouponService.deleteCoupon(couponId).block())
+                .isInstanceOf(CouponAlreadyDeletedException.class)
+                .hasMessage("Coupon with ID " + couponId + " is already deleted.");
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.query.CouponRedemptionResponse;
+import br.com.gama.cupon.domain.exception.CouponNotFoundException;
+import br.com.gama.cupon.domain.exception.CouponNotRedeemableException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.CouponQuotaPort;
+import br.com.gama.cupon.domain.port.out.CouponRedemptionCounterPort;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedeemCouponServiceTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private CouponRedemptionCounterPort couponRedemptionCounterPort;
+
+    @Mock
+    private CouponQuotaPort couponQuotaPort;
+
+    @InjectMocks
+    private RedeemCouponService redeemCouponService;
+
+    @Test
+    @DisplayName("Deve contar o resgate de um cupom publicado e válido, sem gravar no banco")
+    void shouldCountRedemptionOfValidCoupon() {
+        Coupon coupon = coupon("REDEEM", LocalDate.now().plusDays(5), true);
+        when(couponRepositoryPort.findByCode("REDEEM")).thenReturn(Optional.of(coupon));
+
+        CouponRedemptionResponse response = redeemCouponService.redeemCoupon("RE-DEEM");
+
+        assertThat(response.getCouponId()).isEqualTo(coupon.getId());
+        assertThat(response.getCode()).isEqualTo("REDEEM");
+        assertThat(response.getDiscountValue()).isEqualByComparingTo("10.00");
+        assertThat(response.getRedeemedAt()).isNotNull();
+        assertThat(response.getRemainingUses()).isNull();
+        verify(couponRedemptionCounterPort).increment(coupon.getId());
+        verify(couponRepositoryPort, never()).save(any(Coupon.class));
+        verifyNoInteractions(couponQuotaPort); // cupom ilimitado não passa pela cota
+    }
+
+    @Test
+    @DisplayName("Deve reservar a cota de um cupom com limite de usos antes de contar o resgate")
+    void shouldReserveQuotaOfLimitedCoupon() {
+        Coupon coupon = limitedCoupon("LIMIT1", 100);
+        when(couponRepositoryPort.findByCode("LIMIT1")).thenReturn(Optional.of(coupon));
+        when(couponQuotaPort.tryReserve(coupon.getId(), 100)).thenReturn(OptionalLong.of(41));
+
+        CouponRedemptionResponse response = redeemCouponService.redeemCoupon("LIMIT1");
+
+        assertThat(response.getRemainingUses()).isEqualTo(41L);
+        InOrder inOrder = inOrder(couponQuotaPort, couponRedemptionCounterPort);
+        inOrder.verify(couponQuotaPort).tryReserve(coupon.getId(), 100);
+        inOrder.verify(couponRedemptionCounterPort).increment(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o resgate quando a cota do cupom acabou, sem contá-lo")
+    void shouldRejectCouponWithExhaustedQuota() {
+        Coupon coupon = limitedCoupon("LIMIT1", 100);
+        when(couponRepositoryPort.findByCode("LIMIT1")).thenReturn(Optional.of(coupon));
+        when(couponQuotaPort.tryReserve(coupon.getId(), 100)).thenReturn(OptionalLong.empty());
+
+        assertThatThrownBy(() -> redeemCouponService.redeemCoupon("LIMIT1"))
+                .isInstanceOf(CouponNotRedeemableException.class)
+                .hasMessage("Coupon LIMIT1 has reached its maximum number of uses.");
+
+        verify(couponRedemptionCounterPort, never()).increment(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o resgate de um cupom expirado")
+    void shouldRejectExpiredCoupon() {
+        when(couponRepositoryPort.findByCode("OLD001")).thenReturn(Optional.of(coupon("OLD001", LocalDate.now().minusDays(1), true)));
+
+        assertThatThrownBy(() -> redeemCouponService.redeemCoupon("OLD001"))
+                .isInstanceOf(CouponNotRedeemableException.class)
+                .hasMessage("Coupon OLD001 has expired or was deleted.");
+
+        verify(couponRedemptionCounterPort, never()).increment(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o resgate de um cupom não publicado")
+    void shouldRejectUnpublishedCoupon() {
+        when(couponRepositoryPort.findByCode("DRAFT1")).thenReturn(Optional.of(coupon("DRAFT1", LocalDate.now().plusDays(5), false)));
+
+        assertThatThrownBy(() -> redeemCouponService.redeemCoupon("DRAFT1"))
+                .isInstanceOf(CouponNotRedeemableException.class)
+                .hasMessage("Coupon DRAFT1 is not published.");
+
+        verify(couponRedemptionCounterPort, never()).increment(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar CouponNotFoundException se não houver cupom ativo com o código")
+    void shouldThrowCouponNotFoundExceptionForUnknownCode() {
+        when(couponRepositoryPort.findByCode("NOPE01")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> redeemCouponService.redeemCoupon("NOPE01"))
+                .isInstanceOf(CouponNotFoundException.class)
+                .hasMessage("Coupon with code NOPE01 not found.");
+
+        verify(couponRedemptionCounterPort, never()).increment(any(UUID.class));
+    }
+
+    private static Coupon limitedCoupon(String code, int maxUses) {
+        return Coupon.restore()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Cupom " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(5))
+                .published(true)
+                .maxUses(maxUses)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static Coupon coupon(String code, LocalDate expirationDate, boolean published) {
+        return Coupon.restore()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Cupom " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(expirationDate)
+                .published(published)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
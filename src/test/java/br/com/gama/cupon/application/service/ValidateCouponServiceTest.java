@@ -0,0 +1,68 @@
+package br.com.gama.cupon.application.service;
+
+import br.com.gama.cupon.application.query.CouponValidationResponse;
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.port.out.ActiveCouponIndexPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ValidateCouponServiceTest {
+
+    @Mock
+    private ActiveCouponIndexPort activeCouponIndexPort;
+
+    @InjectMocks
+    private ValidateCouponService validateCouponService;
+
+    @Test
+    @DisplayName("Deve retornar válido para cupom presente no índice e não expirado")
+    void shouldReturnValidForIndexedCoupon() {
+        UUID id = UUID.randomUUID();
+        ActiveCoupon activeCoupon = new ActiveCoupon(id, "VALID1", new BigDecimal("10.00"), LocalDate.now().plusDays(5));
+        when(activeCouponIndexPort.findByCode("VALID1")).thenReturn(Optional.of(activeCoupon));
+
+        CouponValidationResponse response = validateCouponService.validateCoupon("VALID1");
+
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getCouponId()).isEqualTo(id);
+        assertThat(response.getDiscountValue()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Deve sanitizar o código antes de consultar o índice")
+    void shouldSanitizeCodeBeforeLookup() {
+        when(activeCouponIndexPort.findByCode("ABCXXX")).thenReturn(Optional.empty());
+
+        CouponValidationResponse response = validateCouponService.validateCoupon("A-B#C");
+
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo("ABCXXX");
+        verify(activeCouponIndexPort).findByCode("ABCXXX");
+    }
+
+    @Test
+    @DisplayName("Deve retornar inválido para cupom expirado mesmo que ainda esteja no índice")
+    void shouldReturnInvalidForExpiredCoupon() {
+        ActiveCoupon expired = new ActiveCoupon(UUID.randomUUID(), "OLD001", BigDecimal.TEN, LocalDate.now().minusDays(1));
+        when(activeCouponIndexPort.findByCode("OLD001")).thenReturn(Optional.of(expired));
+
+        CouponValidationResponse response = validateCouponService.validateCoupon("OLD001");
+
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCouponId()).isNull();
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.CuponApplication;
+import br.com.gama.cupon.domain.model.CouponCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga de criação + remoção de cupons pela API, com a aplicação em threads de plataforma e depois
+ * com o profile {@code virtual-threads}. Cada modo sobe a aplicação em um H2 em memória próprio, aquece
+ * e então mede requisições/s e latências (p50/p99/máx) de POST e DELETE separadamente.
+ * <p>
+ * Argumentos: {@code [clientes concorrentes=400] [pares create/delete por modo=20000]}.
+ * O pool de conexões é o mesmo nos dois modos, para que a diferença medida seja só o modelo de threads.
+ */
+public class CouponApiLoadRunner {
+
+    private static final int WARM_UP_OPERATIONS = 2_000;
+    private static final String POOL_SIZE = "32";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicLong CODE_SEQUENCE = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        List<String> lines = new ArrayList<>();
+        for (String profile : new String[]{"default", "virtual-threads"}) {
+            try (ConfigurableApplicationContext context = start(profile)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/coupons";
+                run(baseUrl, concurrency, WARM_UP_OPERATIONS);
+                Result result = run(baseUrl, concurrency, operations);
+                lines.add(result.format(profile));
+            }
+        }
+
+        System.out.printf("%n%d clientes concorrentes, %d pares create/delete por modo%n", concurrency, operations);
+        System.out.printf("%-16s %-7s %10s %9s %9s %9s %7s%n", "modo", "op", "req/s", "p50 ms", "p99 ms", "max ms", "falhas");
+        lines.forEach(System.out::print);
+    }
+
+    private static ConfigurableApplicationContext start(String profile) {
+        return new SpringApplicationBuilder(CuponApplication.class)
+                .profiles(profile)
+                // Como argumentos de linha de comando: .properties() só define defaults, que o application.yaml sobrescreve
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + profile + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--coupon.index.snapshot.enabled=false", // O banco é novo a cada execução
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+    }
+
+    private static Result run(String baseUrl, int concurrency, int operations) throws Exception {
+        long[] createNanos = new long[operations];
+        long[] deleteNanos = new long[operations];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        // Clientes em virtual threads: o gerador de carga não deve ser o gargalo em nenhum dos modos
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(clients)
+                     .build()) {
+            long start = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(clients.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < operations) {
+                        createAndDelete(http, baseUrl, i, createNanos, deleteNanos, errors);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            return new Result(System.nanoTime() - start, createNanos, deleteNanos, errors.get());
+        }
+    }
+
+    private static void createAndDelete(HttpClient http, String baseUrl, int i, long[] createNanos, long[] deleteNanos,
+                                        AtomicInteger errors) throws Exception {
+        String body = MAPPER.createObjectNode()
+                .put("code", CouponCode.unpack(CODE_SEQUENCE.getAndIncrement()))
+                .put("description", "Load test coupon")
+                .put("discountValue", "10.00")
+                .put("expirationDate", LocalDate.now().plusDays(30).toString())
+                .put("published", true)
+                .toString();
+        HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<String> created = http.send(create, HttpResponse.BodyHandlers.ofString());
+        createNanos[i] = System.nanoTime() - start;
+        if (created.statusCode() != 201) {
+            errors.incrementAndGet();
+            return;
+        }
+
+        String id = MAPPER.readTree(created.body()).get("id").asText();
+        HttpRequest delete = HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+        start = System.nanoTime();
+        HttpResponse<Void> deleted = http.send(delete, HttpResponse.BodyHandlers.discarding());
+        deleteNanos[i] = System.nanoTime() - start;
+        if (deleted.statusCode() != 204) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private record Result(long elapsedNanos, long[] createNanos, long[] deleteNanos, int errors) {
+
+        String format(String profile) {
+            return line(profile, "create", createNanos) + line(profile, "delete", deleteNanos);
+        }
+
+        private String line(String profile, String operation, long[] latencies) {
+            // Operações que falharam antes de medir ficam com 0 e são descartadas; falhas somam create e delete
+            long[] sorted = Arrays.stream(latencies).filter(nanos -> nanos > 0).sorted().toArray();
+            double seconds = elapsedNanos / 1e9;
+            return String.format("%-16s %-7s %10.0f %9.2f %9.2f %9.2f %7d%n", profile, operation,
+                    sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0), errors);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
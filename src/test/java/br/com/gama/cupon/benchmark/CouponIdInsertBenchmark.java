@@ -0,0 +1,94 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.domain.port.out.IdGeneratorPort;
+import br.com.gama.cupon.infrastructure.adapter.out.id.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserções em lote no H2 com chave primária UUID aleatória (v4) x ordenada por tempo (v7).
+ * A tabela cresce ao longo da medição: com v4 cada lote escreve em páginas espalhadas da árvore B,
+ * com v7 sempre no fim dela. Resultado em inserções por segundo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CouponIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    // Tabela pré-carregada antes da medição, para que o índice já não caiba em poucas páginas
+    @Param({"100000", "1000000"})
+    private int preloadedRows;
+
+    @Param({"random", "timeOrdered"})
+    private String idStrategy;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private IdGeneratorPort idGenerator;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = "random".equals(idStrategy) ? UUID::randomUUID : new TimeOrderedUuidGenerator();
+        // Banco em arquivo temporário, como o do profile padrão, para que as páginas passem pelo cache do H2
+        String url = "jdbc:h2:file:" + System.getProperty("java.io.tmpdir") + "/coupon-id-bench-" + idStrategy
+                + ";DB_CLOSE_ON_EXIT=FALSE";
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS coupons");
+            statement.execute("CREATE TABLE coupons (id UUID PRIMARY KEY, code_value VARCHAR(6) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO coupons (id, code_value, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)");
+        for (int i = 0; i < preloadedRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idGenerator.nextId());
+            insert.setString(2, Long.toString(sequence++ % 2_176_782_336L, 36));
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
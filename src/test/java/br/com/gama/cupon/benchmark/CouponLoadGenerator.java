@@ -0,0 +1,319 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.CuponApplication;
+import br.com.gama.cupon.domain.model.CouponCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto: as requisições partem a uma taxa constante, independentemente de as
+ * anteriores já terem respondido, como acontece com usuários reais. A latência de cada requisição é medida a partir
+ * do instante em que ela deveria ter partido, então atrasos do próprio gerador ou filas no servidor aparecem
+ * nos percentis em vez de sumirem (coordinated omission).
+ * <p>
+ * Sobe a aplicação com H2 em memória ou em arquivo, semeia {@code seed} cupons pela importação CSV, aquece
+ * e mede uma mistura de create / delete / lookup (validação por código). O resultado, com percentis do
+ * HdrHistogram e vazão por operação, vai para um JSON que pode ser comparado entre commits.
+ * <p>
+ * Argumentos {@code chave=valor}, todos opcionais:
+ * {@code rate=500} (req/s), {@code duration=30} e {@code warmup=10} (segundos), {@code seed=100000},
+ * {@code mix=create:20,delete:10,lookup:70}, {@code db=mem|file}, {@code label=local}
+ * e {@code out=target/load-report.json}.
+ */
+public class CouponLoadGenerator {
+
+    private static final int SEED_CHUNK = 50_000;
+    private static final long RUN_CODE_OFFSET = 1L << 32; // Códigos criados durante a carga não colidem com os semeados
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    enum Operation { CREATE, DELETE, LOOKUP }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int rate = Integer.parseInt(options.get("rate"));
+        int duration = Integer.parseInt(options.get("duration"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+        int seed = Integer.parseInt(options.get("seed"));
+        Map<Operation, Integer> mix = parseMix(options.get("mix"));
+
+        try (ConfigurableApplicationContext context = start(options.get("db"));
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(clients)
+                     .build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/coupons";
+            CouponLoadGenerator generator = new CouponLoadGenerator(http, baseUrl, seed, mix);
+
+            long seedStart = System.nanoTime();
+            generator.seed(seed);
+            System.out.printf("%d cupons semeados em %.1fs%n", seed, (System.nanoTime() - seedStart) / 1e9);
+
+            generator.run(clients, rate, Duration.ofSeconds(warmup));
+            generator.resetStats();
+            long elapsedNanos = generator.run(clients, rate, Duration.ofSeconds(duration));
+
+            ObjectNode report = generator.report(options, elapsedNanos);
+            Path out = Path.of(options.get("out"));
+            Files.createDirectories(out.toAbsolutePath().getParent());
+            MAPPER.writeValue(out.toFile(), report);
+            System.out.println(MAPPER.writeValueAsString(report.get("operations")));
+            System.out.println("Relatório gravado em " + out.toAbsolutePath());
+        }
+    }
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final int seeded;
+    private final Operation[] schedule;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong codeSequence = new AtomicLong(RUN_CODE_OFFSET);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final String expirationDate = LocalDate.now().plusYears(1).toString();
+
+    CouponLoadGenerator(HttpClient http, String baseUrl, int seeded, Map<Operation, Integer> mix) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.seeded = seeded;
+        this.schedule = schedule(mix);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String db) {
+        String url = switch (db) {
+            case "mem" -> "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+            case "file" -> "jdbc:h2:file:./target/loaddb/coupondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+            default -> throw new IllegalArgumentException("db must be mem or file: " + db);
+        };
+        return new SpringApplicationBuilder(CuponApplication.class)
+                // Como argumentos de linha de comando: .properties() só define defaults, que o application.yaml sobrescreve
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--coupon.index.snapshot.enabled=false", // O banco é novo a cada execução
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+    }
+
+    // Semeia pela importação CSV, em blocos, com os códigos 0..seed-1 da forma compactada
+    void seed(int count) throws IOException, InterruptedException {
+        for (int from = 0; from < count; from += SEED_CHUNK) {
+            int to = Math.min(count, from + SEED_CHUNK);
+            StringBuilder csv = new StringBuilder((to - from) * 64).append("code,description,discountValue,expirationDate,published\n");
+            for (int i = from; i < to; i++) {
+                csv.append(CouponCode.unpack(i)).append(",Seeded coupon ").append(i).append(',')
+                        .append(5 + i % 50).append(".00,").append(expirationDate).append(',').append(i % 4 != 0).append('\n');
+            }
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/import"))
+                            .header("Content-Type", "text/csv")
+                            .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+            }
+        }
+    }
+
+    // Dispara uma requisição a cada 1/rate segundos, cada uma na sua virtual thread
+    long run(ExecutorService clients, int rate, Duration duration) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.getSeconds() * rate;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * periodNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[(int) (i % schedule.length)];
+            inFlight.incrementAndGet();
+            clients.execute(() -> execute(operation, intendedStart));
+        }
+        awaitInFlight();
+        return System.nanoTime() - start;
+    }
+
+    private void execute(Operation operation, long intendedStart) {
+        Operation measured = operation;
+        try {
+            int status = switch (operation) {
+                case CREATE -> create();
+                case DELETE -> {
+                    String id = createdIds.poll();
+                    if (id == null) {
+                        // Nada criado para remover ainda: a requisição vira um create, e é medida como tal
+                        measured = Operation.CREATE;
+                        yield create();
+                    }
+                    yield send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE()) == 204 ? 204 : -1;
+                }
+                case LOOKUP -> {
+                    String code = CouponCode.unpack(ThreadLocalRandom.current().nextLong(Math.max(1, seeded)));
+                    yield send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + code + "/validation")).GET()) == 200 ? 200 : -1;
+                }
+            };
+            if (status < 0) {
+                errors.get(measured).increment();
+            }
+        } catch (Exception e) {
+            errors.get(measured).increment();
+        } finally {
+            recorders.get(measured).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart));
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private int create() throws IOException, InterruptedException {
+        String body = MAPPER.createObjectNode()
+                .put("code", CouponCode.unpack(codeSequence.getAndIncrement()))
+                .put("description", "Load test coupon")
+                .put("discountValue", "10.00")
+                .put("expirationDate", expirationDate)
+                .put("published", true)
+                .toString();
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return -1;
+        }
+        createdIds.add(MAPPER.readTree(response.body()).get("id").asText());
+        return 201;
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    // Espera as requisições em voo terminarem, sem fechar o executor (ele é reusado na medição)
+    private void awaitInFlight() {
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    void resetStats() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    ObjectNode report(Map<String, String> options, long elapsedNanos) {
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("label", options.get("label"));
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.set("config", MAPPER.valueToTree(options));
+        report.put("elapsedSeconds", elapsedNanos / 1e9);
+
+        ObjectNode operations = report.putObject("operations");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            ObjectNode node = operations.putObject(operation.name().toLowerCase());
+            node.put("count", histogram.getTotalCount());
+            node.put("errors", errors.get(operation).sum());
+            node.put("throughputPerSecond", histogram.getTotalCount() / (elapsedNanos / 1e9));
+            node.put("meanMs", histogram.getMean() / 1000);
+            node.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            node.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+            node.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            node.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+            node.put("maxMs", histogram.getMaxValue() / 1000.0);
+        }
+        return report;
+    }
+
+    // Intercala as operações na proporção da mistura (ex.: 20/10/70 -> uma sequência de 100 posições)
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("mix must have at least one positive weight");
+        }
+        Operation[] schedule = new Operation[total];
+        Map<Operation, Integer> assigned = new EnumMap<>(Operation.class);
+        for (int slot = 0; slot < total; slot++) {
+            Operation next = null;
+            double mostBehind = Double.NEGATIVE_INFINITY;
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                double behind = (double) entry.getValue() * (slot + 1) / total - assigned.getOrDefault(entry.getKey(), 0);
+                if (entry.getValue() > 0 && behind > mostBehind) {
+                    mostBehind = behind;
+                    next = entry.getKey();
+                }
+            }
+            schedule[slot] = next;
+            assigned.merge(next, 1, Integer::sum);
+        }
+        return schedule;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("rate", "500");
+        options.put("duration", "30");
+        options.put("warmup", "10");
+        options.put("seed", "100000");
+        options.put("mix", "create:20,delete:10,lookup:70");
+        options.put("db", "mem");
+        options.put("label", "local");
+        options.put("out", "target/load-report.json");
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0 || !options.containsKey(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("Unknown argument: " + arg + "; expected one of " + options.keySet());
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.application.command.CreateCouponCommand;
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.domain.model.DiscountValue;
+import br.com.gama.cupon.domain.model.ExpirationDate;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição de cada etapa de construção e mapeamento de um cupom:
+ * value objects, builder do domínio e as cópias domínio -> entidade JPA -> domínio -> resposta -> DTO.
+ * {@link #createRequestPath()} soma as etapas de uma criação, de ponta a ponta sem I/O.
+ * <p>
+ * Para vazão e alocação por operação ({@code gc.alloc.rate.norm}), execute o {@code main} desta classe,
+ * que liga o {@link GCProfiler} e grava o resultado em JSON para comparar entre versões.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CouponMappingBenchmark {
+
+    // Código já canônico, curto (preenchido com X) e com caracteres a remover
+    @Param({"PROMO1", "ab1", "pro-mo_10%"})
+    private String rawCode;
+
+    private CreateCouponCommand command;
+    private Coupon coupon;
+    private CouponJpaEntity entity;
+    private CouponResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        command = CreateCouponCommand.builder()
+                .code(rawCode)
+                .description("Benchmark coupon")
+                .discountValue(new BigDecimal("10.50"))
+                .expirationDate(LocalDate.now().plusDays(30))
+                .published(true)
+                .build();
+        coupon = newCoupon(command);
+        entity = CouponJpaEntity.fromDomain(coupon);
+        response = CouponResponse.fromDomain(coupon);
+    }
+
+    @Benchmark
+    public CouponCode couponCode() {
+        return new CouponCode(rawCode);
+    }
+
+    @Benchmark
+    public CouponCode internedCouponCode() {
+        return CouponCode.of(rawCode);
+    }
+
+    @Benchmark
+    public DiscountValue discountValue() {
+        return new DiscountValue(command.getDiscountValue());
+    }
+
+    @Benchmark
+    public ExpirationDate expirationDate() {
+        return new ExpirationDate(command.getExpirationDate());
+    }
+
+    @Benchmark
+    public Coupon couponBuilder() {
+        return newCoupon(command);
+    }
+
+    @Benchmark
+    public CouponJpaEntity entityFromDomain() {
+        return CouponJpaEntity.newFromDomain(coupon);
+    }
+
+    @Benchmark
+    public Coupon entityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public CouponResponse responseFromDomain() {
+        return CouponResponse.fromDomain(coupon);
+    }
+
+    @Benchmark
+    public CouponResponseDTO dtoFromResponse() {
+        return CouponResponseDTO.fromApplicationResponse(response);
+    }
+
+    // Caminho de uma criação: DTO de entrada -> comando -> domínio -> entidade -> domínio -> resposta -> DTO
+    @Benchmark
+    public CouponResponseDTO createRequestPath() {
+        CouponRequestDTO request = new CouponRequestDTO();
+        request.setCode(rawCode);
+        request.setDescription(command.getDescription());
+        request.setDiscountValue(command.getDiscountValue());
+        request.setExpirationDate(command.getExpirationDate());
+        request.setPublished(true);
+
+        Coupon created = newCoupon(request.toCreateCommand());
+        Coupon saved = CouponJpaEntity.newFromDomain(created).toDomain();
+        return CouponResponseDTO.fromApplicationResponse(CouponResponse.fromDomain(saved));
+    }
+
+    private static Coupon newCoupon(CreateCouponCommand command) {
+        return Coupon.builder()
+                .id(new UUID(0x0190_0000_0000_7000L, 0x8000_0000_0000_0001L))
+                .code(command.getCode())
+                .description(command.getDescription())
+                .discountValue(command.getDiscountValue())
+                .expirationDate(command.getExpirationDate())
+                .published(command.isPublished())
+                .deleted(false)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+    }
+
+    // Vazão + alocação por operação; resultado em target/jmh-coupon-mapping.json
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CouponMappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-coupon-mapping.json")
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.application.port.in.ValidateCouponUseCase;
+import br.com.gama.cupon.application.query.CouponValidationResponse;
+import br.com.gama.cupon.infrastructure.metrics.CouponMetricsAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por chamada do {@link CouponMetricsAspect} sobre um use case que não faz nada: chamada direta,
+ * chamada pelo proxy com o aspecto e o {@link PrometheusMeterRegistry} configurado como em produção
+ * (histograma de percentis ligado). A diferença entre os dois é o que a instrumentação soma a cada use case
+ * e a cada método do repositório de uma requisição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CouponMetricsOverheadBenchmark {
+
+    private static final CouponValidationResponse RESPONSE = CouponValidationResponse.builder().code("BENCH1").valid(false).build();
+
+    private ValidateCouponUseCase direct;
+    private ValidateCouponUseCase timed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new NoOpValidateCouponService();
+
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // Equivalente a management.metrics.distribution.* do application.yaml
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(50))
+                        .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(30))
+                        .build()
+                        .merge(config);
+            }
+        });
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new NoOpValidateCouponService());
+        proxyFactory.addAspect(new CouponMetricsAspect(registry));
+        timed = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public CouponValidationResponse directCall() {
+        return direct.validateCoupon("BENCH1");
+    }
+
+    @Benchmark
+    public CouponValidationResponse timedCall() {
+        return timed.validateCoupon("BENCH1");
+    }
+
+    // Várias threads no mesmo timer: mostra a contenção nos contadores do histograma
+    @Benchmark
+    @Threads(8)
+    public CouponValidationResponse timedCallContended() {
+        return timed.validateCoupon("BENCH1");
+    }
+
+    static class NoOpValidateCouponService implements ValidateCouponUseCase {
+        @Override
+        public CouponValidationResponse validateCoupon(String code) {
+            return RESPONSE;
+        }
+    }
+}
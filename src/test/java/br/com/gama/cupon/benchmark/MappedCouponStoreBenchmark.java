@@ -0,0 +1,132 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponRepositoryAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponStoreProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Lookup no log mapeado em memória (profile mmap) por id e por código, com acessos aleatórios sobre N cupons
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedCouponStoreBenchmark {
+
+    private static final int LOOKUP_MASK = (1 << 16) - 1;
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private MappedCouponRepositoryAdapter store;
+    private UUID[] idLookups;
+    private String[] codeLookups;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("coupon-store-benchmark");
+        MappedCouponStoreProperties properties = new MappedCouponStoreProperties();
+        properties.setPath(directory.resolve("coupons.log"));
+        properties.setCapacity(DataSize.ofBytes(size * 128L)); // ~90 bytes por registro PUT
+        store = new MappedCouponRepositoryAdapter(properties);
+
+        String[] codes = uniqueCodes(size);
+        UUID[] ids = new UUID[size];
+        List<Coupon> chunk = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < size; i++) {
+            ids[i] = UUID.randomUUID();
+            chunk.add(Coupon.restore()
+                    .id(ids[i])
+                    .code(codes[i])
+                    .description("Benchmark coupon " + i)
+                    .discountValue(new BigDecimal("10.50"))
+                    .expirationDate(LocalDate.now().plusDays(30))
+                    .published(true)
+                    .deleted(false)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            if (chunk.size() == INSERT_CHUNK) {
+                store.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        store.insertAll(chunk);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        idLookups = new UUID[LOOKUP_MASK + 1];
+        codeLookups = new String[LOOKUP_MASK + 1];
+        for (int i = 0; i <= LOOKUP_MASK; i++) {
+            int index = random.nextInt(size);
+            idLookups[i] = ids[index];
+            // Cópia nova: em produção o código chega da requisição
+            codeLookups[i] = new String(codes[index].toCharArray());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(directory.resolve("coupons.log"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<Coupon> findById() {
+        return store.findById(idLookups[cursor++ & LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public Optional<Coupon> findByCode() {
+        return store.findByCode(codeLookups[cursor++ & LOOKUP_MASK]);
+    }
+
+    // Sem materializar o Coupon: só o índice em memória e as flags do registro
+    @Benchmark
+    public boolean existsById() {
+        return store.existsByIdIncludingDeleted(idLookups[cursor++ & LOOKUP_MASK]);
+    }
+
+    // O log rejeita código repetido entre cupons ativos, então os sorteios que colidem são refeitos
+    private static String[] uniqueCodes(int count) {
+        SplittableRandom random = new SplittableRandom(42L);
+        Set<String> codes = new LinkedHashSet<>(count * 4 / 3 + 1);
+        while (codes.size() < count) {
+            codes.add(CouponCode.unpack(random.nextLong(CouponCode.PACKED_CODE_SPACE)));
+        }
+        return codes.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.gama.cupon.benchmark;
+
+import br.com.gama.cupon.domain.model.CouponCode;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.PackedCodeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Lookup por código: HashMap<String, UUID> x PackedCodeIndex. Footprint: execute o main desta classe.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PackedCodeIndexBenchmark {
+
+    private static final int LOOKUP_MASK = (1 << 16) - 1;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Map<String, UUID> hashMap;
+    private PackedCodeIndex packedIndex;
+    private String[] lookups;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] codes = randomCodes(size, 42L);
+        hashMap = buildHashMap(codes);
+        packedIndex = buildPackedIndex(codes);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        lookups = new String[LOOKUP_MASK + 1];
+        for (int i = 0; i < lookups.length; i++) {
+            // Cópia nova: em produção o código chega da requisição, sem hash em cache
+            lookups[i] = new String(codes[random.nextInt(codes.length)].toCharArray());
+        }
+    }
+
+    @Benchmark
+    public UUID hashMapLookup() {
+        return hashMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public UUID packedIndexLookup() {
+        return packedIndex.get(CouponCode.pack(nextLookup()));
+    }
+
+    private String nextLookup() {
+        return lookups[cursor++ & LOOKUP_MASK];
+    }
+
+    static String[] randomCodes(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] codes = new String[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = CouponCode.unpack(random.nextLong(CouponCode.PACKED_CODE_SPACE));
+        }
+        return codes;
+    }
+
+    static Map<String, UUID> buildHashMap(String[] codes) {
+        Map<String, UUID> map = new HashMap<>();
+        for (String code : codes) {
+            map.put(code, UUID.randomUUID());
+        }
+        return map;
+    }
+
+    static PackedCodeIndex buildPackedIndex(String[] codes) {
+        PackedCodeIndex index = new PackedCodeIndex();
+        for (String code : codes) {
+            index.put(CouponCode.pack(code), UUID.randomUUID());
+        }
+        return index;
+    }
+
+    // Footprint aproximado (heap usado após GC) de cada estrutura com 1M de códigos
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long baseline = usedHeapAfterGc();
+        Map<String, UUID> map = buildHashMap(randomCodes(count, 42L));
+        long hashMapBytes = usedHeapAfterGc() - baseline;
+
+        baseline = usedHeapAfterGc();
+        PackedCodeIndex index = buildPackedIndex(randomCodes(count, 42L));
+        long packedBytes = usedHeapAfterGc() - baseline;
+
+        System.out.printf("HashMap<String, UUID>: %,d bytes (%.1f bytes/entry, %d entries)%n",
+                hashMapBytes, (double) hashMapBytes / map.size(), map.size());
+        System.out.printf("PackedCodeIndex:       %,d bytes (%.1f bytes/entry, %d entries)%n",
+                packedBytes, (double) packedBytes / index.size(), index.size());
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
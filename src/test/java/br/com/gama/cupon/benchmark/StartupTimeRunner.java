@@ -0,0 +1,131 @@
+package br.com.gama.cupon.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o tempo de subida da aplicação até o primeiro {@code POST /api/v1/coupons} respondido com 201, contado
+ * a partir do início do processo da JVM. Compara o jar original ({@code java -jar}, como a imagem fazia antes)
+ * com o layout gerado pelo profile {@code fast-startup}: só com as classes do Spring AOT e com AOT + CDS.
+ * <p>
+ * Argumentos: {@code <jar original> <diretório do fast-startup> [subidas por modo=5]}. Cada subida é um processo
+ * novo, com H2 em memória, porta livre e snapshot do índice em diretório temporário; a primeira de cada modo
+ * é descartada para tirar o efeito de page cache dos jars.
+ */
+public class StartupTimeRunner {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Path fatJar = Path.of(args[0]).toAbsolutePath();
+        Path layout = Path.of(args[1]).toAbsolutePath();
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jar", fatJar.getParent(), List.of("-jar", fatJar.toString())));
+        modes.add(new Mode("aot", layout, List.of("-Dspring.aot.enabled=true", "-jar", "app.jar")));
+        if (Files.exists(layout.resolve("app.jsa"))) {
+            modes.add(new Mode("aot+cds", layout, List.of("-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-jar", "app.jar")));
+        } else {
+            System.out.println("app.jsa não encontrado em " + layout + ": modo aot+cds ignorado (treino pulado?)");
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(500)).build()) {
+            for (Mode mode : modes) {
+                timeToFirstCreate(http, mode);
+                long[] millis = new long[runs];
+                for (int i = 0; i < runs; i++) {
+                    millis[i] = timeToFirstCreate(http, mode);
+                }
+                Arrays.sort(millis);
+                lines.add(String.format("%-10s %6d %8d %8d %8d%n", mode.name(), runs,
+                        millis[0], millis[runs / 2], millis[runs - 1]));
+            }
+        }
+
+        System.out.printf("%nTempo até o primeiro POST /api/v1/coupons com 201 (ms, desde o início do processo)%n");
+        System.out.printf("%-10s %6s %8s %8s %8s%n", "modo", "subidas", "min", "mediana", "max");
+        lines.forEach(System.out::print);
+    }
+
+    private static long timeToFirstCreate(HttpClient http, Mode mode) throws Exception {
+        int port = freePort();
+        Path work = Files.createTempDirectory("startup-");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.h2.console.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--coupon.index.snapshot.path=" + work.resolve("active-coupons.snapshot"),
+                "--logging.level.root=WARN"));
+        HttpRequest create = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/coupons"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(5))
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.createObjectNode()
+                        .put("code", "BOOT01")
+                        .put("description", "Startup probe coupon")
+                        .put("discountValue", "10.00")
+                        .put("expirationDate", LocalDate.now().plusDays(30).toString())
+                        .put("published", true)
+                        .toString()))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(mode.workingDirectory().toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(work.resolve("stderr.log").toFile())
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue()
+                            + " in mode " + mode.name() + "; see " + work.resolve("stderr.log"));
+                }
+                try {
+                    if (http.send(create, HttpResponse.BodyHandlers.discarding()).statusCode() == 201) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // Porta ainda fechada: o Tomcat não subiu
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("No successful coupon creation within " + STARTUP_TIMEOUT + " in mode " + mode.name());
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, Path workingDirectory, List<String> jvmArgs) {
+    }
+}
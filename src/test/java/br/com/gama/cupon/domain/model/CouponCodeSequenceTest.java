@@ -0,0 +1,165 @@
+package br.com.gama.cupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponCodeSequenceTest {
+
+    private static final long KEY = 0x5DEECE66DL;
+
+    @Test
+    @DisplayName("A permutação não deve repetir códigos no primeiro milhão de índices e deve ficar no espaço de códigos")
+    void permutationShouldBeInjectiveOverTheFirstMillionIndexes() {
+        CouponCodePermutation permutation = new CouponCodePermutation(KEY);
+        Set<Long> seen = new HashSet<>(2_000_000);
+        for (long index = 0; index < 1_000_000; index++) {
+            long packed = permutation.permute(index);
+            assertThat(packed).isBetween(0L, CouponCode.PACKED_CODE_SPACE - 1);
+            assertThat(seen.add(packed)).as("index %d", index).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("A permutação deve ser determinística por chave e diferente entre chaves")
+    void permutationShouldBeDeterministicPerKey() {
+        CouponCodePermutation first = new CouponCodePermutation(KEY);
+        CouponCodePermutation same = new CouponCodePermutation(KEY);
+        CouponCodePermutation other = new CouponCodePermutation(KEY + 1);
+
+        int differences = 0;
+        for (long index = 0; index < 1_000; index++) {
+            assertThat(first.permute(index)).isEqualTo(same.permute(index));
+            if (first.permute(index) != other.permute(index)) {
+                differences++;
+            }
+        }
+        assertThat(differences).isGreaterThan(990);
+    }
+
+    @Test
+    @DisplayName("Índices consecutivos não devem gerar códigos consecutivos")
+    void permutationShouldNotBeSequential() {
+        CouponCodePermutation permutation = new CouponCodePermutation(KEY);
+        int adjacent = 0;
+        for (long index = 0; index < 10_000; index++) {
+            if (Math.abs(permutation.permute(index + 1) - permutation.permute(index)) == 1) {
+                adjacent++;
+            }
+        }
+        assertThat(adjacent).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("A permutação deve rejeitar índices fora do espaço de códigos")
+    void permutationShouldRejectOutOfRangeIndexes() {
+        CouponCodePermutation permutation = new CouponCodePermutation(KEY);
+        assertThatThrownBy(() -> permutation.permute(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> permutation.permute(CouponCode.PACKED_CODE_SPACE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Os nós devem receber faixas disjuntas que cobrem todo o espaço de códigos")
+    void nodeRangesShouldBeDisjointAndCoverTheCodeSpace() {
+        CouponCodePermutation permutation = new CouponCodePermutation(KEY);
+        long expectedStart = 0;
+        for (int node = 0; node < 3; node++) {
+            CouponCodeSequence sequence = new CouponCodeSequence(permutation, node, 3);
+            assertThat(sequence.getStart()).isEqualTo(expectedStart);
+            assertThat(sequence.getEnd()).isGreaterThan(sequence.getStart());
+            expectedStart = sequence.getEnd();
+        }
+        assertThat(expectedStart).isEqualTo(CouponCode.PACKED_CODE_SPACE);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um nó fora de 0..nodeCount-1")
+    void shouldRejectInvalidNode() {
+        CouponCodePermutation permutation = new CouponCodePermutation(KEY);
+        assertThatThrownBy(() -> new CouponCodeSequence(permutation, 2, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CouponCodeSequence(permutation, -1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CouponCodeSequence(permutation, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Reservas concorrentes não devem se sobrepor e devem gerar códigos válidos e únicos")
+    void concurrentReservationsShouldNotOverlap() throws Exception {
+        CouponCodeSequence sequence = new CouponCodeSequence(new CouponCodePermutation(KEY), 1, 4);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        BitSet reserved = new BitSet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<List<CouponCodeSequence.Reservation>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<CouponCodeSequence.Reservation> reservations = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        CouponCodeSequence.Reservation reservation = sequence.reserve(50);
+                        for (long index = reservation.from(); index < reservation.to(); index++) {
+                            codes.add(sequence.codeAt(index));
+                        }
+                        reservations.add(reservation);
+                    }
+                    return reservations;
+                }));
+            }
+            for (Future<List<CouponCodeSequence.Reservation>> future : futures) {
+                for (CouponCodeSequence.Reservation reservation : future.get()) {
+                    int from = (int) (reservation.from() - sequence.getStart());
+                    int to = (int) (reservation.to() - sequence.getStart());
+                    assertThat(reserved.get(from, to).isEmpty()).isTrue();
+                    reserved.set(from, to);
+                }
+            }
+        }
+
+        assertThat(reserved.cardinality()).isEqualTo(8 * 100 * 50);
+        assertThat(reserved.nextClearBit(0)).isEqualTo(8 * 100 * 50);
+        assertThat(codes).hasSize(8 * 100 * 50).allSatisfy(code -> assertThat(new CouponCode(code).getValue()).isEqualTo(code));
+        assertThat(sequence.position()).isEqualTo(sequence.getStart() + 8 * 100 * 50);
+    }
+
+    @Test
+    @DisplayName("Deve devolver reservas parciais e depois vazias quando a faixa do nó se esgota")
+    void shouldReturnEmptyReservationWhenExhausted() {
+        CouponCodeSequence sequence = new CouponCodeSequence(new CouponCodePermutation(KEY), 0, 1);
+        // Avança até perto do fim sem gerar os códigos intermediários
+        while (sequence.position() < CouponCode.PACKED_CODE_SPACE - 3) {
+            sequence.reserve((int) Math.min(Integer.MAX_VALUE, CouponCode.PACKED_CODE_SPACE - 3 - sequence.position()));
+        }
+
+        CouponCodeSequence.Reservation partial = sequence.reserve(10);
+        assertThat(partial.size()).isEqualTo(3);
+        assertThat(sequence.codeAt(partial.to() - 1)).hasSize(6);
+        assertThat(sequence.reserve(10).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve retomar da posição persistida sem recuar nem sair da faixa do nó")
+    void shouldResumeFromPersistedPosition() {
+        CouponCodeSequence sequence = new CouponCodeSequence(new CouponCodePermutation(KEY), 1, 4);
+
+        sequence.resumeFrom(sequence.getStart() + 500);
+        assertThat(sequence.position()).isEqualTo(sequence.getStart() + 500);
+        assertThat(sequence.reserve(10).from()).isEqualTo(sequence.getStart() + 500);
+
+        sequence.resumeFrom(sequence.getStart());
+        assertThat(sequence.position()).isEqualTo(sequence.getStart() + 510);
+
+        sequence.resumeFrom(Long.MAX_VALUE);
+        assertThat(sequence.reserve(10).isEmpty()).isTrue();
+        assertThat(sequence.getName()).isEqualTo("node-1-of-4");
+    }
+}
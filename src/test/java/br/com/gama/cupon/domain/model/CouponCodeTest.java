@@ -7,6 +7,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -64,4 +66,83 @@ class CouponCodeTest {
         CouponCode couponCode = new CouponCode(input);
         assertThat(couponCode.getValue()).isEqualTo("ABCXXX"); // Preenchido para 6
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"000000", "ABCDEF", "zzzzzz", "a1B2c3"})
+    @DisplayName("Deve compactar o código em um long e restaurá-lo sem perdas")
+    void shouldPackAndUnpackCode(String code) {
+        CouponCode couponCode = new CouponCode(code);
+
+        long packed = couponCode.toPackedValue();
+
+        assertThat(packed).isBetween(0L, CouponCode.PACKED_CODE_SPACE - 1);
+        assertThat(CouponCode.fromPackedValue(packed)).isEqualTo(couponCode);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar compactação de código não canônico")
+    void shouldRejectPackingNonCanonicalCode() {
+        assertThat(CouponCode.isPackable("AB-DEF")).isFalse();
+        assertThat(CouponCode.isPackable("ABCDE")).isFalse();
+        assertThatThrownBy(() -> CouponCode.pack("AB-DEF"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve canonicalizar exatamente como a implementação anterior baseada em regex")
+    void shouldMatchLegacyRegexCanonicalization() {
+        Random random = new Random(20260601L);
+        String alphabet = "ABCxyz019 -_$%#.\téçÉ中😀";
+
+        for (int i = 0; i < 100_000; i++) {
+            int length = random.nextInt(12);
+            StringBuilder input = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String code = input.toString();
+            String expected = legacySanitize(code);
+
+            assertThat(new CouponCode(code).getValue()).as("input '%s'", code).isEqualTo(expected);
+            assertThat(CouponCode.of(code).getValue()).as("input '%s'", code).isEqualTo(expected);
+            assertThat(CouponCode.canonicalPack(code)).as("input '%s'", code).isEqualTo(CouponCode.pack(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância para códigos com a mesma forma canônica")
+    void shouldReturnInternedInstanceForSameCanonicalCode() {
+        CouponCode first = CouponCode.of("intern");
+        CouponCode second = CouponCode.of("in-ter-n!");
+
+        assertThat(second).isSameAs(first);
+        assertThat(CouponCode.fromPackedValue(first.toPackedValue())).isSameAs(first);
+        assertThat(new CouponCode("intern")).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Deve devolver o próprio texto quando o código já é canônico")
+    void shouldNotCopyAlreadyCanonicalCode() {
+        String canonical = new String("AB12cd".toCharArray());
+
+        assertThat(CouponCode.canonicalize(canonical)).isSameAs(canonical);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valor compactado fora do intervalo")
+    void shouldRejectOutOfRangePackedValue() {
+        assertThatThrownBy(() -> CouponCode.fromPackedValue(CouponCode.PACKED_CODE_SPACE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Implementação original (regex + String.format), mantida apenas como referência de equivalência
+    private static String legacySanitize(String code) {
+        String alphanumericOnly = code.replaceAll("[^a-zA-Z0-9]", "");
+        if (alphanumericOnly.length() > 6) {
+            return alphanumericOnly.substring(0, 6);
+        } else if (alphanumericOnly.length() < 6) {
+            return String.format("%-" + 6 + "s", alphanumericOnly).replace(' ', 'X');
+        }
+        return alphanumericOnly;
+    }
 }
@@ -0,0 +1,32 @@
+package br.com.gama.cupon.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponPageCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o cursor sem perda de precisão")
+    void shouldRoundTripCursor() {
+        CouponPageCursor cursor = new CouponPageCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(CouponPageCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor malformado")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> CouponPageCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor 'not-a-cursor'.");
+    }
+}
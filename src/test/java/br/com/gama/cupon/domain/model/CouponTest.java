@@ -81,6 +81,35 @@ class CouponTest {
                 .hasMessageContaining("cannot be in the past");
     }
 
+    @Test
+    @DisplayName("Deve lançar exceção se o limite de usos for menor que 1, e aceitar cupom sem limite")
+    void shouldValidateMaxUses() {
+        assertThatThrownBy(() -> Coupon.builder().code("ABCDEF").description("Desc").discountValue(BigDecimal.TEN).expirationDate(LocalDate.now().plusDays(1)).maxUses(0).build())
+                .isInstanceOf(InvalidCouponException.class)
+                .hasMessage("Coupon max uses must be at least 1.");
+
+        Coupon unlimited = Coupon.builder().code("ABCDEF").description("Desc").discountValue(BigDecimal.TEN).expirationDate(LocalDate.now().plusDays(1)).build();
+        assertThat(unlimited.hasUsageLimit()).isFalse();
+        assertThat(unlimited.getMaxUses()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve reidratar um cupom persistido mesmo que já esteja expirado")
+    void shouldRestoreExpiredCoupon() {
+        LocalDate pastDate = LocalDate.now().minusDays(10);
+        Coupon coupon = Coupon.restore()
+                .id(UUID.randomUUID())
+                .code("ABCDEF")
+                .description("Desc")
+                .discountValue(BigDecimal.TEN)
+                .expirationDate(pastDate)
+                .build();
+
+        assertThat(coupon.getExpirationDate().getValue()).isEqualTo(pastDate);
+        assertThat(coupon.isExpired()).isTrue();
+        assertThat(coupon.isValid()).isFalse();
+    }
+
     @Test
     @DisplayName("Deve marcar o cupom como deletado (soft delete)")
     void shouldMarkCouponAsDeleted() {
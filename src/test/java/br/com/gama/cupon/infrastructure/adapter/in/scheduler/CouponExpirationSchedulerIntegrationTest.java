@@ -0,0 +1,102 @@
+package br.com.gama.cupon.infrastructure.adapter.in.scheduler;
+
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Agendamento ligado, mas com atraso inicial longo: as execuções são disparadas pelo próprio teste
+@SpringBootTest(properties = {
+        "coupon.expiration.enabled=true",
+        "coupon.expiration.initial-delay=1h",
+        "coupon.expiration.batch-size=2",
+        "coupon.expiration.pause-between-batches=0ms"
+})
+@ActiveProfiles("test")
+class CouponExpirationSchedulerIntegrationTest {
+
+    @Autowired
+    private CouponExpirationScheduler scheduler;
+
+    @Autowired
+    private SchedulerLockPort schedulerLockPort;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM scheduler_locks");
+    }
+
+    @Test
+    @DisplayName("Deve expirar, em lotes, todos os cupons vencidos e manter os válidos")
+    void shouldExpireAllExpiredCouponsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            save("OLD00" + i, LocalDate.now().minusDays(i + 1));
+        }
+        save("VALID1", LocalDate.now().plusDays(1));
+        double expiredBefore = meterRegistry.counter("coupon.expiration.expired").count();
+
+        scheduler.expireCoupons();
+
+        // Expirados não são deletados: continuam na tabela, só sem deter o código
+        assertThat(jpaCouponRepository.findAllByDeletedFalse()).hasSize(6)
+                .filteredOn(coupon -> coupon.getActiveCodeValue() != null)
+                .extracting(CouponJpaEntity::getCodeValue)
+                .containsExactly("VALID1");
+        assertThat(meterRegistry.counter("coupon.expiration.expired").count() - expiredBefore).isEqualTo(5);
+        assertThat(schedulerLockPort.tryAcquire(CouponExpirationScheduler.LOCK_NAME, "other-node", Duration.ofMinutes(1)))
+                .as("o lock deve ser liberado ao fim da execução")
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve executar enquanto outro nó detém o lock")
+    void shouldSkipWhileAnotherNodeHoldsTheLock() {
+        save("OLD001", LocalDate.now().minusDays(1));
+        assertThat(schedulerLockPort.tryAcquire(CouponExpirationScheduler.LOCK_NAME, "other-node", Duration.ofMinutes(1))).isTrue();
+        double skippedBefore = meterRegistry.counter("coupon.expiration.runs", "outcome", "skipped").count();
+
+        scheduler.expireCoupons();
+
+        assertThat(jpaCouponRepository.findAllByDeletedFalse()).hasSize(1);
+        assertThat(meterRegistry.counter("coupon.expiration.runs", "outcome", "skipped").count() - skippedBefore).isEqualTo(1);
+    }
+
+    private void save(String code, LocalDate expirationDate) {
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .codeValue(code)
+                .description("Expiration " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(expirationDate)
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+}
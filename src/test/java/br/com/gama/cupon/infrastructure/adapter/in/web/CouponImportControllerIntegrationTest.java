@@ -0,0 +1,132 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class CouponImportControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/import - Deve importar NDJSON e reportar linhas inválidas")
+    void shouldImportNdjson() {
+        String expiration = LocalDate.now().plusDays(30).toString();
+        String body = """
+                {"code":"NDJ001","description":"Primeiro","discountValue":10.00,"expirationDate":"%1$s","published":true}
+                {"code":"NDJ002","description":"Segundo","discountValue":5.00,"expirationDate":"%1$s"}
+                {"code":"NDJ003",
+                {"code":"NDJ004","description":"Desconto baixo","discountValue":0.10,"expirationDate":"%1$s"}
+                """.formatted(expiration);
+
+        webTestClient.post().uri("/api/v1/coupons/import?importId=ndjson-test")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.importId").isEqualTo("ndjson-test")
+                .jsonPath("$.status").isEqualTo("COMPLETED")
+                .jsonPath("$.read").isEqualTo(4)
+                .jsonPath("$.created").isEqualTo(2)
+                .jsonPath("$.rejected").isEqualTo(2);
+
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("NDJ001")).isPresent();
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("NDJ002")).isPresent();
+
+        webTestClient.get().uri("/api/v1/coupons/import/ndjson-test")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/import - Deve importar CSV e parar no primeiro erro com STOP_ON_ERROR")
+    void shouldStopCsvImportOnFirstError() {
+        String expiration = LocalDate.now().plusDays(30).toString();
+        String body = "code,description,discountValue,expirationDate\n"
+                + "CSV001,Primeiro,abc," + expiration + "\n";
+
+        webTestClient.post().uri("/api/v1/coupons/import?mode=STOP_ON_ERROR")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("STOPPED")
+                .jsonPath("$.created").isEqualTo(0)
+                .jsonPath("$.errors[0].line").isEqualTo(2);
+
+        assertThat(jpaCouponRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/import - Deve respeitar o limite de usos dos cupons importados em NDJSON e CSV")
+    void shouldEnforceMaxUsesOfImportedCoupons() {
+        String expiration = LocalDate.now().plusDays(30).toString();
+        String ndjson = """
+                {"code":"NDJLIM","description":"Limitado","discountValue":10.00,"expirationDate":"%s","published":true,"maxUses":1}
+                """.formatted(expiration);
+        String csv = "code,description,discountValue,expirationDate,published,maxUses\n"
+                + "CSVLIM,Limitado,10.00," + expiration + ",true,1\n";
+
+        webTestClient.post().uri("/api/v1/coupons/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1);
+        webTestClient.post().uri("/api/v1/coupons/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1);
+
+        for (String code : List.of("NDJLIM", "CSVLIM")) {
+            webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", code)
+                    .exchange()
+                    .expectStatus().isAccepted()
+                    .expectBody()
+                    .jsonPath("$.remainingUses").isEqualTo(0);
+            webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", code)
+                    .exchange()
+                    .expectStatus().isEqualTo(422);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/import/{importId} - Deve retornar 404 para importação desconhecida")
+    void shouldReturnNotFoundForUnknownImport() {
+        webTestClient.get().uri("/api/v1/coupons/import/unknown")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
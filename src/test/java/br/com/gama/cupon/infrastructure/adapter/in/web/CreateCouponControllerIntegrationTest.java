@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -18,8 +19,13 @@ import org.springframework.web.context.WebApplicationContext;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -116,6 +122,24 @@ class CreateCouponControllerIntegrationTest {
                 .expectStatus().isBadRequest();
     }
 
+    @Test
+    @DisplayName("POST /api/v1/coupons - Deve retornar 400 para limite de usos menor que 1")
+    void shouldReturnBadRequestForNonPositiveMaxUses() {
+        CouponRequestDTO requestDTO = new CouponRequestDTO();
+        requestDTO.setCode("LIMIT0");
+        requestDTO.setDescription("Invalid max uses");
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(10));
+        requestDTO.setPublished(true);
+        requestDTO.setMaxUses(0);
+
+        webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     @DisplayName("POST /api/v1/coupons - Deve retornar 400 Bad Request se o código já estiver em uso por um cupom ativo")
     void shouldReturnBadRequestWhenCreatingWithExistingActiveCode() {
@@ -176,4 +200,41 @@ class CreateCouponControllerIntegrationTest {
         assertThat(couponsWithSameCode).anyMatch(CouponJpaEntity::isDeleted); // Um deletado
         assertThat(couponsWithSameCode).anyMatch(c -> !c.isDeleted()); // Um ativo
     }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons - Criações simultâneas do mesmo código: exatamente uma vence")
+    void shouldAllowExactlyOneWinnerForConcurrentCreatesOfSameCode() throws Exception {
+        int attempts = 16;
+        CouponRequestDTO requestDTO = new CouponRequestDTO();
+        requestDTO.setCode("RACE01");
+        requestDTO.setDescription("Concurrent create");
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(10));
+        requestDTO.setPublished(true);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return webTestClient.post().uri("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestDTO)
+                            .exchange()
+                            .returnResult(String.class)
+                            .getStatus();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        for (Future<HttpStatusCode> result : results) {
+            statuses.add(result.get());
+        }
+        assertThat(statuses).filteredOn(status -> status.value() == 201).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status.value() == 400).hasSize(attempts - 1);
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("RACE01")).isPresent();
+    }
 }
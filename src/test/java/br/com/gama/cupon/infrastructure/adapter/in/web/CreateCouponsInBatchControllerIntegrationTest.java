@@ -0,0 +1,136 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.BatchCouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class CreateCouponsInBatchControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .codeValue("EXIST1")
+                .description("Existing Coupon Desc")
+                .discountValue(BigDecimal.valueOf(15.00))
+                .expirationDate(LocalDate.now().plusMonths(1))
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/batch - Deve criar os válidos e reportar cada item")
+    void shouldCreateCouponsInBatchWithPerItemResults() {
+        BatchCouponRequestDTO requestDTO = new BatchCouponRequestDTO();
+        requestDTO.setCoupons(List.of(item("BATCH1"), item("BATCH2"), item("EXIST1")));
+
+        webTestClient.post().uri("/api/v1/coupons/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(3)
+                .jsonPath("$.created").isEqualTo(2)
+                .jsonPath("$.rejected").isEqualTo(1)
+                .jsonPath("$.items[0].status").isEqualTo("CREATED")
+                .jsonPath("$.items[2].status").isEqualTo("REJECTED")
+                .jsonPath("$.items[2].error").isEqualTo("Coupon code 'EXIST1' is already in use by another active coupon.");
+
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("BATCH1")).isPresent();
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("BATCH2")).isPresent();
+        assertThat(jpaCouponRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/batch - Deve respeitar o limite de usos dos cupons criados em lote")
+    void shouldEnforceMaxUsesOfBatchCoupons() {
+        CouponRequestDTO limited = item("BLIMIT");
+        limited.setMaxUses(1);
+        BatchCouponRequestDTO requestDTO = new BatchCouponRequestDTO();
+        requestDTO.setCoupons(List.of(limited));
+
+        webTestClient.post().uri("/api/v1/coupons/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1);
+
+        assertThat(jpaCouponRepository.findByCodeValueAndDeletedFalse("BLIMIT")).get()
+                .extracting(CouponJpaEntity::getMaxUses).isEqualTo(1);
+        webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "BLIMIT")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody()
+                .jsonPath("$.remainingUses").isEqualTo(0);
+        webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "BLIMIT")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/batch - Deve retornar 400 para lote vazio")
+    void shouldReturnBadRequestForEmptyBatch() {
+        BatchCouponRequestDTO requestDTO = new BatchCouponRequestDTO();
+        requestDTO.setCoupons(List.of());
+
+        webTestClient.post().uri("/api/v1/coupons/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/batch - Deve retornar 400 para lote com item nulo")
+    void shouldReturnBadRequestForNullItem() {
+        webTestClient.post().uri("/api/v1/coupons/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"coupons\": [null]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private CouponRequestDTO item(String code) {
+        CouponRequestDTO requestDTO = new CouponRequestDTO();
+        requestDTO.setCode(code);
+        requestDTO.setDescription("Batch coupon " + code);
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(30));
+        requestDTO.setPublished(true);
+        return requestDTO;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.gama.cupon.infrastructure.adapter.in.web;
 
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
 import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
 import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,12 +10,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,12 +33,19 @@ class DeleteCouponControllerIntegrationTest {
     @Autowired
     private JpaCouponRepository jpaCouponRepository;
 
+    @Autowired
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private UUID existingCouponId;
     private CouponJpaEntity existingCouponEntity;
 
     @BeforeEach
     void setUp() {
         jpaCouponRepository.deleteAll(); // Limpa o banco antes de cada teste
+        jdbcTemplate.update("DELETE FROM coupons_archive");
 
         existingCouponId = UUID.fromString("11111111-1111-1111-1111-111111111111");
         existingCouponEntity = CouponJpaEntity.builder()
@@ -104,4 +114,90 @@ class DeleteCouponControllerIntegrationTest {
         CouponJpaEntity stillDeletedCoupon = jpaCouponRepository.findByIdIgnoringDeleted(alreadyDeletedId).orElseThrow();
         assertThat(stillDeletedCoupon.isDeleted()).isTrue();
     }
+
+    @Test
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deve retornar 409 para cupom deletado que já foi arquivado")
+    void shouldReturnConflictForDeleteArchivedCoupon() {
+        UUID archivedId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+        assertThat(couponRepositoryPort.archiveAll(List.of(archivedId), LocalDateTime.now())).isEqualTo(1);
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", archivedId)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        webTestClient.get().uri("/api/v1/coupons/archived/{id}", archivedId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("DELETD")
+                .jsonPath("$.deleted").isEqualTo(true);
+
+        webTestClient.get().uri("/api/v1/coupons/archived/{id}", existingCouponId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deve deletar (204) o cupom expirado arquivado ainda ativo, e só depois responder 409")
+    void shouldDeleteArchivedExpiredCouponOnce() {
+        UUID expiredId = UUID.fromString("33333333-3333-3333-3333-333333333333");
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(expiredId)
+                .codeValue("EXPRD1")
+                .description("Long Expired Coupon")
+                .discountValue(BigDecimal.valueOf(5.00))
+                .expirationDate(LocalDate.now().minusDays(400))
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        assertThat(couponRepositoryPort.archiveAll(List.of(expiredId), LocalDateTime.now())).isEqualTo(1);
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", expiredId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/v1/coupons/archived/{id}", expiredId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(true);
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", expiredId)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deve deletar (204) o cupom expirado pela varredura, que continua listado até então")
+    void shouldDeleteCouponExpiredBySweeper() {
+        UUID expiredId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(expiredId)
+                .codeValue("EXPRD2")
+                .description("Swept Coupon")
+                .discountValue(BigDecimal.valueOf(5.00))
+                .expirationDate(LocalDate.now().minusDays(1))
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        assertThat(couponRepositoryPort.expireAllById(List.of(expiredId), LocalDateTime.now())).isEqualTo(1);
+
+        webTestClient.get().uri("/api/v1/coupons")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[?(@.code == 'EXPRD2')].deleted").isEqualTo(false);
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", expiredId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", expiredId)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
 }
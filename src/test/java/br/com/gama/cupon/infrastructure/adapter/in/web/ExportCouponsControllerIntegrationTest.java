@@ -0,0 +1,86 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class ExportCouponsControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+        jpaCouponRepository.save(entity("EXP001", "Desconto, com vírgula", false));
+        jpaCouponRepository.save(entity("EXP002", "Segundo cupom", false));
+        jpaCouponRepository.save(entity("EXP003", "Cupom deletado", true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/export - Deve exportar os cupons ativos em NDJSON, um por linha")
+    void shouldExportActiveCouponsAsNdjson() {
+        String body = webTestClient.get().uri("/api/v1/coupons/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body).contains("\"code\":\"EXP001\"", "\"code\":\"EXP002\"").doesNotContain("EXP003");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/export?format=CSV - Deve exportar CSV com cabeçalho compatível com o import")
+    void shouldExportActiveCouponsAsCsv() {
+        String body = webTestClient.get().uri("/api/v1/coupons/export?format=CSV")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines().findFirst()).hasValue("code,description,discountValue,expirationDate,published,maxUses,id,createdAt,updatedAt");
+        assertThat(body.lines()).hasSize(3);
+        assertThat(body).contains("EXP001,\"Desconto, com vírgula\",10.00,");
+    }
+
+    private CouponJpaEntity entity(String code, String description, boolean deleted) {
+        return CouponJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .codeValue(code)
+                .description(description)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusMonths(1))
+                .published(true)
+                .deleted(deleted)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
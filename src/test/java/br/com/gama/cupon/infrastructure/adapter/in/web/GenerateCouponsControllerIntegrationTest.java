@@ -0,0 +1,118 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.domain.model.CouponCodeSequence;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.GenerateCouponsRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class GenerateCouponsControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @Autowired
+    private CouponCodeSequence codeSequence;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/generate - Deve gravar a quantidade pedida com códigos distintos, em vários blocos")
+    void shouldGenerateDistinctCoupons() {
+        long firstIndex = codeSequence.position();
+
+        webTestClient.post().uri("/api/v1/coupons/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request(2_500))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.requested").isEqualTo(2_500)
+                .jsonPath("$.created").isEqualTo(2_500)
+                .jsonPath("$.skippedActive").isEqualTo(0)
+                .jsonPath("$.firstIndex").isEqualTo(firstIndex)
+                .jsonPath("$.nextIndex").isEqualTo(firstIndex + 2_500)
+                .jsonPath("$.exhausted").isEqualTo(false);
+
+        assertThat(jpaCouponRepository.count()).isEqualTo(2_500);
+        assertThat(jpaCouponRepository.findAll())
+                .extracting(CouponJpaEntity::getCodeValue)
+                .doesNotHaveDuplicates()
+                .allSatisfy(code -> assertThat(code).hasSize(6));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/generate - Deve pular um código já ativo e completar a quantidade com o próximo")
+    void shouldSkipActiveCode() {
+        String activeCode = codeSequence.codeAt(codeSequence.position() + 1);
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .codeValue(activeCode)
+                .description("Existing Coupon Desc")
+                .discountValue(BigDecimal.valueOf(15.00))
+                .expirationDate(LocalDate.now().plusMonths(1))
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        webTestClient.post().uri("/api/v1/coupons/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request(5))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(5)
+                .jsonPath("$.skippedActive").isEqualTo(1);
+
+        assertThat(jpaCouponRepository.count()).isEqualTo(6);
+        assertThat(jpaCouponRepository.findAll())
+                .extracting(CouponJpaEntity::getCodeValue)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/generate - Deve retornar 400 para quantidade inválida")
+    void shouldReturnBadRequestForInvalidCount() {
+        webTestClient.post().uri("/api/v1/coupons/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request(0))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private GenerateCouponsRequestDTO request(long count) {
+        GenerateCouponsRequestDTO requestDTO = new GenerateCouponsRequestDTO();
+        requestDTO.setCount(count);
+        requestDTO.setDescription("Generated coupon");
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(30));
+        requestDTO.setPublished(true);
+        return requestDTO;
+    }
+}
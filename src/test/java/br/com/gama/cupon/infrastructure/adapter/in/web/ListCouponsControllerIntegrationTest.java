@@ -0,0 +1,100 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class ListCouponsControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+        LocalDateTime now = LocalDateTime.now();
+        jpaCouponRepository.save(entity("LIST01", true, false, now.minusMinutes(3)));
+        jpaCouponRepository.save(entity("LIST02", false, false, now.minusMinutes(2)));
+        jpaCouponRepository.save(entity("LIST03", true, false, now.minusMinutes(1)));
+        jpaCouponRepository.save(entity("LIST04", true, true, now));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons - Deve paginar por cursor do mais recente para o mais antigo")
+    void shouldListCouponsWithCursor() {
+        JsonNode firstPage = webTestClient.get().uri("/api/v1/coupons?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(firstPage).isNotNull();
+        assertThat(firstPage.get("items")).extracting(item -> item.get("code").asText()).containsExactly("LIST03", "LIST02");
+        String cursor = firstPage.get("nextCursor").asText();
+        assertThat(cursor).isNotBlank();
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/v1/coupons").queryParam("limit", 2).queryParam("cursor", cursor).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].code").isEqualTo("LIST01")
+                .jsonPath("$.nextCursor").isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons?published=true - Deve filtrar por publicação")
+    void shouldFilterByPublished() {
+        webTestClient.get().uri("/api/v1/coupons?published=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].code").isEqualTo("LIST03")
+                .jsonPath("$.items[1].code").isEqualTo("LIST01");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons - Deve retornar 400 para cursor inválido")
+    void shouldReturnBadRequestForInvalidCursor() {
+        webTestClient.get().uri("/api/v1/coupons?cursor=invalid")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private CouponJpaEntity entity(String code, boolean published, boolean deleted, LocalDateTime createdAt) {
+        return CouponJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .codeValue(code)
+                .description("Cupom " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusMonths(1))
+                .published(published)
+                .deleted(deleted)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
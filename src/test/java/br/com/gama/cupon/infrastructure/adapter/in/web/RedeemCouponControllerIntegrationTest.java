@@ -0,0 +1,135 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.WriteBehindCouponRedemptionCounter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class RedeemCouponControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @Autowired
+    private WriteBehindCouponRedemptionCounter redemptionCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redemptionCounter.flush();
+        jpaCouponRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM coupon_redemptions");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/{code}/redemptions - Deve aceitar o resgate e gravar o total em lote")
+    void shouldAcceptRedemptionsAndFlushTotal() {
+        CouponResponse created = createCoupon("REDEEM", true);
+
+        for (int i = 0; i < 3; i++) {
+            webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "REDEEM")
+                    .exchange()
+                    .expectStatus().isAccepted()
+                    .expectBody()
+                    .jsonPath("$.couponId").isEqualTo(created.getId().toString())
+                    .jsonPath("$.code").isEqualTo("REDEEM")
+                    .jsonPath("$.discountValue").isEqualTo(10.0)
+                    .jsonPath("$.redeemedAt").isNotEmpty()
+                    .jsonPath("$.remainingUses").doesNotExist();
+        }
+        redemptionCounter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT redemption_count FROM coupon_redemptions WHERE coupon_id = ?",
+                Long.class, created.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/{code}/redemptions - Deve informar os usos restantes e retornar 422 quando o limite acabar")
+    void shouldStopRedemptionsAtMaxUses() {
+        CouponResponse created = createCoupon("LIMIT2", true, 2);
+        assertThat(created.getMaxUses()).isEqualTo(2);
+
+        for (int remaining = 1; remaining >= 0; remaining--) {
+            webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "LIMIT2")
+                    .exchange()
+                    .expectStatus().isAccepted()
+                    .expectBody()
+                    .jsonPath("$.remainingUses").isEqualTo(remaining);
+        }
+        webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "LIMIT2")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Coupon LIMIT2 has reached its maximum number of uses.");
+        redemptionCounter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT redemption_count FROM coupon_redemptions WHERE coupon_id = ?",
+                Long.class, created.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/{code}/redemptions - Deve retornar 422 para cupom não publicado")
+    void shouldRejectUnpublishedCoupon() {
+        createCoupon("DRAFT1", false);
+
+        webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "DRAFT1")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Coupon DRAFT1 is not published.");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons/{code}/redemptions - Deve retornar 404 para código sem cupom ativo")
+    void shouldReturnNotFoundForUnknownCode() {
+        webTestClient.post().uri("/api/v1/coupons/{code}/redemptions", "NOPE01")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private CouponResponse createCoupon(String code, boolean published) {
+        return createCoupon(code, published, null);
+    }
+
+    private CouponResponse createCoupon(String code, boolean published, Integer maxUses) {
+        CouponRequestDTO requestDTO = new CouponRequestDTO();
+        requestDTO.setCode(code);
+        requestDTO.setDescription("Redemption test coupon");
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(10));
+        requestDTO.setPublished(published);
+        requestDTO.setMaxUses(maxUses);
+
+        return webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CouponResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test") // Garante que application-test.yml é carregado
+class ValidateCouponControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/{code}/validation - Deve validar cupom publicado recém-criado")
+    void shouldValidatePublishedCouponAfterCreation() {
+        createCoupon("VALID7", true);
+
+        webTestClient.get().uri("/api/v1/coupons/{code}/validation", "VALID7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALID7")
+                .jsonPath("$.valid").isEqualTo(true)
+                .jsonPath("$.couponId").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/{code}/validation - Não deve validar cupom não publicado")
+    void shouldNotValidateUnpublishedCoupon() {
+        createCoupon("DRAFT1", false);
+
+        webTestClient.get().uri("/api/v1/coupons/{code}/validation", "DRAFT1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.valid").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/coupons/{code}/validation - Não deve validar cupom após o soft delete")
+    void shouldNotValidateCouponAfterDeletion() {
+        CouponResponse created = createCoupon("GONE01", true);
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/v1/coupons/{code}/validation", "GONE01")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.valid").isEqualTo(false);
+    }
+
+    private CouponResponse createCoupon(String code, boolean published) {
+        CouponRequestDTO requestDTO = new CouponRequestDTO();
+        requestDTO.setCode(code);
+        requestDTO.setDescription("Validation test coupon");
+        requestDTO.setDiscountValue(BigDecimal.valueOf(10.00));
+        requestDTO.setExpirationDate(LocalDate.now().plusDays(10));
+        requestDTO.setPublished(published);
+
+        return webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CouponResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.query.CouponResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvCouponExportWriterTest {
+
+    @Test
+    @DisplayName("Deve gerar um CSV que o import lê de volta sem perdas")
+    void shouldRoundTripThroughCsvImport() throws IOException {
+        CouponResponse coupon = CouponResponse.builder()
+                .id(UUID.randomUUID())
+                .code("CUPOM1")
+                .description("Desconto \"especial\", válido")
+                .discountValue(new BigDecimal("12.50"))
+                .expirationDate(LocalDate.of(2099, 12, 31))
+                .published(true)
+                .maxUses(5)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        CouponResponse unlimited = CouponResponse.builder()
+                .id(UUID.randomUUID())
+                .code("CUPOM2")
+                .description("Sem limite")
+                .discountValue(new BigDecimal("5.00"))
+                .expirationDate(LocalDate.of(2099, 12, 31))
+                .published(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        StringWriter output = new StringWriter();
+        CsvCouponExportWriter writer = new CsvCouponExportWriter(output);
+        writer.writeHeader();
+        writer.write(coupon);
+        writer.write(unlimited);
+
+        try (CsvCouponImportSource source = new CsvCouponImportSource(new BufferedReader(new StringReader(output.toString())))) {
+            var imported = source.next().command();
+            assertThat(imported.getCode()).isEqualTo("CUPOM1");
+            assertThat(imported.getDescription()).isEqualTo("Desconto \"especial\", válido");
+            assertThat(imported.getDiscountValue()).isEqualByComparingTo("12.50");
+            assertThat(imported.getExpirationDate()).isEqualTo(LocalDate.of(2099, 12, 31));
+            assertThat(imported.isPublished()).isTrue();
+            assertThat(imported.getMaxUses()).isEqualTo(5);
+            var importedUnlimited = source.next().command();
+            assertThat(importedUnlimited.getCode()).isEqualTo("CUPOM2");
+            assertThat(importedUnlimited.isPublished()).isFalse();
+            assertThat(importedUnlimited.getMaxUses()).isNull();
+            assertThat(source.next()).isNull();
+        }
+    }
+}
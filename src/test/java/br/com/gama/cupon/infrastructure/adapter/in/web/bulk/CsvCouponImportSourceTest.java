@@ -0,0 +1,56 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.bulk;
+
+import br.com.gama.cupon.application.command.CouponImportRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvCouponImportSourceTest {
+
+    @Test
+    @DisplayName("Deve ler registros pelo cabeçalho, em qualquer ordem de colunas e com campos entre aspas")
+    void shouldReadRecordsByHeader() throws IOException {
+        String csv = """
+                expirationDate,code,discountValue,description,published,maxUses
+                2099-12-31,CUPOM1,10.50,"Desconto, com ""aspas""\",true,25
+
+                2099-01-01,CUPOM2,abc,Sem desconto,false
+                """;
+
+        try (CsvCouponImportSource source = new CsvCouponImportSource(new BufferedReader(new StringReader(csv)))) {
+            CouponImportRecord first = source.next();
+            assertThat(first.lineNumber()).isEqualTo(2);
+            assertThat(first.command().getCode()).isEqualTo("CUPOM1");
+            assertThat(first.command().getDescription()).isEqualTo("Desconto, com \"aspas\"");
+            assertThat(first.command().getDiscountValue()).isEqualByComparingTo(new BigDecimal("10.50"));
+            assertThat(first.command().getExpirationDate()).isEqualTo(LocalDate.of(2099, 12, 31));
+            assertThat(first.command().isPublished()).isTrue();
+            assertThat(first.command().getMaxUses()).isEqualTo(25);
+
+            CouponImportRecord second = source.next();
+            assertThat(second.lineNumber()).isEqualTo(4);
+            assertThat(second.command()).isNull();
+            assertThat(second.error()).isEqualTo("Invalid discountValue 'abc'.");
+
+            assertThat(source.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o cabeçalho não tiver uma coluna obrigatória")
+    void shouldFailWhenHeaderIsMissingRequiredColumn() {
+        CsvCouponImportSource source = new CsvCouponImportSource(new BufferedReader(new StringReader("code,description\nCUPOM1,Teste\n")));
+
+        assertThatThrownBy(source::next)
+                .isInstanceOf(IOException.class)
+                .hasMessage("CSV header is missing required column 'discountvalue'.");
+    }
+}
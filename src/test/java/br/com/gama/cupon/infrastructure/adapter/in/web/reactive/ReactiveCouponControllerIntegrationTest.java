@@ -0,0 +1,143 @@
+package br.com.gama.cupon.infrastructure.adapter.in.web.reactive;
+
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponRequestDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.CouponJpaEntity;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles({"reactive", "test"}) // test por último: sobrescreve os bancos do profile reactive
+class ReactiveCouponControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    private UUID existingCouponId;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch();
+
+        existingCouponId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        jpaCouponRepository.save(CouponJpaEntity.builder()
+                .id(existingCouponId)
+                .codeValue("EXIST1")
+                .description("Existing Coupon Desc")
+                .discountValue(BigDecimal.valueOf(15.00))
+                .expirationDate(LocalDate.now().plusMonths(1))
+                .published(true)
+                .deleted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("O profile reactive deve subir o WebFlux sobre Netty")
+    void shouldRunOnNetty() {
+        assertThat(applicationContext.getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons - Deve criar um cupom pelo adapter R2DBC")
+    void shouldCreateCoupon() {
+        CouponRequestDTO request = request("REACT1");
+
+        webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.code").isEqualTo("REACT1")
+                .jsonPath("$.deleted").isEqualTo(false);
+
+        assertThat(jpaCouponRepository.findAll())
+                .extracting(CouponJpaEntity::getCodeValue)
+                .containsExactlyInAnyOrder("EXIST1", "REACT1");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons - Deve retornar 400 para código já usado por um cupom ativo")
+    void shouldRejectDuplicateActiveCode() {
+        webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("EXIST1"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Coupon code 'EXIST1' is already in use by another active coupon.");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/coupons - Deve retornar 400 para requisição inválida")
+    void shouldRejectInvalidRequest() {
+        CouponRequestDTO request = request("BADREQ");
+        request.setDescription("");
+
+        webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation Failed");
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deve fazer soft delete e retornar 409 na segunda tentativa")
+    void shouldSoftDeleteAndThenConflict() {
+        webTestClient.delete().uri("/api/v1/coupons/{id}", existingCouponId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(jpaCouponRepository.findByIdIgnoringDeleted(existingCouponId).orElseThrow().isDeleted()).isTrue();
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", existingCouponId)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deve retornar 404 para cupom inexistente")
+    void shouldReturnNotFoundForUnknownCoupon() {
+        webTestClient.delete().uri("/api/v1/coupons/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static CouponRequestDTO request(String code) {
+        CouponRequestDTO request = new CouponRequestDTO();
+        request.setCode(code);
+        request.setDescription("Reactive coupon");
+        request.setDiscountValue(new BigDecimal("10.00"));
+        request.setExpirationDate(LocalDate.now().plusDays(10));
+        request.setPublished(true);
+        return request;
+    }
+}
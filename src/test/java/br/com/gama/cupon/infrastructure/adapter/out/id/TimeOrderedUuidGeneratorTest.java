@@ -0,0 +1,85 @@
+package br.com.gama.cupon.infrastructure.adapter.out.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com o timestamp em milissegundos nos 48 bits mais altos")
+    void shouldGenerateVersion7WithTimestamp() {
+        long now = 1_760_000_000_000L;
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> now);
+
+        UUID id = generator.nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids estritamente crescentes mesmo com o relógio parado ou voltando no tempo")
+    void shouldBeMonotonicWhenClockStallsOrGoesBackwards() {
+        AtomicLong clock = new AtomicLong(1_760_000_000_000L);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+        UUID previous = generator.nextId();
+        // 10 mil ids no mesmo milissegundo estouram o contador de 12 bits mais de uma vez
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-1_000);
+            }
+            UUID next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids únicos sob criação concorrente")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    UUID previous = null;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        UUID id = generator.nextId();
+                        ids.add(id);
+                        // Cada thread também observa ids crescentes
+                        assertThat(previous == null || id.compareTo(previous) > 0).isTrue();
+                        previous = id;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+}
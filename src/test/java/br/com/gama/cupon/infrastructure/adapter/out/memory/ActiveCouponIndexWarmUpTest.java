@@ -0,0 +1,137 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveCouponIndexWarmUpTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private ObjectProvider<ActiveCouponSnapshotStore> snapshotStoreProvider;
+
+    @Mock
+    private ObjectProvider<ActiveCouponSnapshotProperties> snapshotPropertiesProvider;
+
+    private final InMemoryActiveCouponIndexAdapter index = new InMemoryActiveCouponIndexAdapter();
+    private final ActiveCouponSnapshotProperties properties = new ActiveCouponSnapshotProperties();
+    private ActiveCouponSnapshotStore store;
+    private ActiveCouponIndexWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() {
+        store = new ActiveCouponSnapshotStore(tempDir.resolve("active-coupons.snapshot"));
+        warmUp = new ActiveCouponIndexWarmUp(couponRepositoryPort, index, snapshotStoreProvider, snapshotPropertiesProvider);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o snapshot e reaplicar só o delta do banco, sem ler todos os cupons ativos")
+    void shouldLoadSnapshotAndReplayChanges() {
+        ActiveCoupon kept = new ActiveCoupon(UUID.randomUUID(), "KEPT01", new BigDecimal("10.00"), LocalDate.now().plusDays(5));
+        ActiveCoupon deletedSince = new ActiveCoupon(UUID.randomUUID(), "GONE01", new BigDecimal("10.00"), LocalDate.now().plusDays(5));
+        ActiveCoupon expired = new ActiveCoupon(UUID.randomUUID(), "OLD001", new BigDecimal("10.00"), LocalDate.now().minusDays(1));
+        // O snapshot guarda milissegundos; é esse o instante que o warm-up repassa ao banco
+        LocalDateTime changesSince = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.MILLIS);
+        store.save(new ActiveCouponSnapshot(LocalDateTime.now().minusMinutes(5), changesSince, List.of(kept, deletedSince, expired)));
+        Coupon created = coupon(UUID.randomUUID(), "NEW001", false);
+        useSnapshot();
+        doAnswer(invocation -> {
+            Consumer<Coupon> action = invocation.getArgument(1);
+            action.accept(coupon(deletedSince.id(), "GONE01", true));
+            action.accept(created);
+            return null;
+        }).when(couponRepositoryPort).forEachChangedSince(eq(changesSince), any());
+
+        warmUp.warmUp();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findByCode("KEPT01")).contains(kept);
+        assertThat(index.findByCode("NEW001")).isPresent();
+        assertThat(index.findByCode("GONE01")).isEmpty();
+        assertThat(index.findByCode("OLD001")).isEmpty();
+        assertThat(warmUp.isCompleted()).isTrue();
+        verify(couponRepositoryPort, never()).forEachActive(any());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os cupons ativos do banco quando o snapshot é mais antigo que o permitido")
+    void shouldRebuildFromDatabaseWhenSnapshotIsTooOld() {
+        store.save(new ActiveCouponSnapshot(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(2), List.of()));
+        useSnapshot();
+        streamActive(coupon(UUID.randomUUID(), "FULL01", false));
+
+        warmUp.warmUp();
+
+        assertThat(index.findByCode("FULL01")).isPresent();
+        verify(couponRepositoryPort, never()).forEachChangedSince(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os cupons ativos do banco quando o snapshot está desabilitado")
+    void shouldRebuildFromDatabaseWithoutSnapshotStore() {
+        streamActive(coupon(UUID.randomUUID(), "FULL02", false));
+
+        warmUp.warmUp();
+
+        assertThat(index.findByCode("FULL02")).isPresent();
+        assertThat(warmUp.isCompleted()).isTrue();
+    }
+
+    private void streamActive(Coupon... coupons) {
+        doAnswer(invocation -> {
+            Consumer<Coupon> action = invocation.getArgument(0);
+            List.of(coupons).forEach(action);
+            return null;
+        }).when(couponRepositoryPort).forEachActive(any());
+    }
+
+    private void useSnapshot() {
+        when(snapshotStoreProvider.getIfAvailable()).thenReturn(store);
+        when(snapshotPropertiesProvider.getObject()).thenReturn(properties);
+    }
+
+    private static Coupon coupon(UUID id, String code, boolean deleted) {
+        return Coupon.restore()
+                .id(id)
+                .code(code)
+                .description("Cupom " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(5))
+                .published(true)
+                .deleted(deleted)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
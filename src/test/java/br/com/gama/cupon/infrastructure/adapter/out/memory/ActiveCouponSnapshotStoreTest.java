@@ -0,0 +1,72 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveCouponSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve gravar e ler de volta o snapshot com todos os cupons e os instantes de referência")
+    void shouldRoundTripSnapshot() {
+        ActiveCouponSnapshotStore store = new ActiveCouponSnapshotStore(tempDir.resolve("index/active-coupons.snapshot"));
+        List<ActiveCoupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) { // mais de um buffer de escrita
+            coupons.add(new ActiveCoupon(UUID.randomUUID(), String.format("SNAP%02d", i % 100),
+                    new BigDecimal("12.34").add(BigDecimal.valueOf(i)), LocalDate.now().plusDays(i % 30)));
+        }
+        LocalDateTime writtenAt = LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000);
+
+        store.save(new ActiveCouponSnapshot(writtenAt, writtenAt.minusMinutes(5), coupons));
+
+        assertThat(store.load()).get().satisfies(snapshot -> {
+            assertThat(snapshot.writtenAt()).isEqualTo(writtenAt);
+            assertThat(snapshot.changesSince()).isEqualTo(writtenAt.minusMinutes(5));
+            assertThat(snapshot.coupons()).containsExactlyElementsOf(coupons);
+        });
+        assertThat(tempDir.resolve("index/active-coupons.snapshot.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar snapshot inexistente, truncado ou com checksum inválido")
+    void shouldIgnoreMissingOrCorruptSnapshot() throws IOException {
+        Path path = tempDir.resolve("active-coupons.snapshot");
+        ActiveCouponSnapshotStore store = new ActiveCouponSnapshotStore(path);
+        assertThat(store.load()).isEmpty();
+
+        List<ActiveCoupon> coupons = List.of(
+                new ActiveCoupon(UUID.randomUUID(), "CORR01", new BigDecimal("10.00"), LocalDate.now().plusDays(1)),
+                new ActiveCoupon(UUID.randomUUID(), "CORR02", new BigDecimal("20.00"), LocalDate.now().plusDays(2)));
+        store.save(new ActiveCouponSnapshot(LocalDateTime.now(), LocalDateTime.now(), coupons));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(40); // dentro do primeiro registro
+            int original = file.read();
+            file.seek(40);
+            file.write(~original);
+        }
+        assertThat(store.load()).isEmpty();
+
+        store.save(new ActiveCouponSnapshot(LocalDateTime.now(), LocalDateTime.now(), coupons));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(Files.size(path) - 10);
+        }
+        assertThat(store.load()).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.model.ActiveCoupon;
+import br.com.gama.cupon.domain.model.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryActiveCouponIndexAdapterTest {
+
+    private final InMemoryActiveCouponIndexAdapter index = new InMemoryActiveCouponIndexAdapter();
+
+    @Test
+    @DisplayName("Não deve perder index/evict feitos enquanto o rebuild lê o banco")
+    void shouldReplayChangesMadeDuringRebuild() {
+        Coupon kept = coupon("KEPT01", false);
+        Coupon deleted = coupon("GONE01", false);
+        Coupon created = coupon("NEW001", false);
+        index.index(deleted);
+
+        index.rebuild(load -> {
+            // Commits que acontecem durante a leitura: o que o loader entrega já não os enxerga
+            load.accept(kept);
+            index.index(created);
+            index.evict(deleted.getId());
+            load.accept(deleted);
+        });
+
+        assertThat(index.findByCode("KEPT01")).isPresent();
+        assertThat(index.findByCode("NEW001")).isPresent();
+        assertThat(index.findByCode("GONE01")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Mudanças feitas durante o restore devem prevalecer sobre o snapshot e o delta lidos antes delas")
+    void shouldReplayChangesMadeDuringRestore() {
+        Coupon fromSnapshot = coupon("SNAP01", false);
+        Coupon fromDelta = coupon("DELTA1", false);
+
+        index.restore(List.of(ActiveCoupon.fromDomain(fromSnapshot)), apply -> {
+            index.evict(fromSnapshot.getId());
+            apply.accept(fromDelta);
+            index.evict(fromDelta.getId());
+        });
+
+        assertThat(index.findByCode("SNAP01")).isEmpty();
+        assertThat(index.findByCode("DELTA1")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cupons indexados por várias threads durante um rebuild lento devem estar todos no índice ao final")
+    void shouldKeepEveryCouponIndexedConcurrentlyWithRebuild() throws Exception {
+        int threads = 8;
+        int couponsPerThread = 500;
+        List<Coupon> stale = List.of(coupon("STALE1", false));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch indexed = new CountDownLatch(threads);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads + 1)) {
+            Future<?> rebuild = executor.submit(() -> index.rebuild(load -> {
+                loading.countDown();
+                await(indexed);
+                stale.forEach(load);
+            }));
+            await(loading);
+            List<Future<List<Coupon>>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    List<Coupon> written = new ArrayList<>();
+                    for (int i = 0; i < couponsPerThread; i++) {
+                        Coupon coupon = coupon("T%dC%03d".formatted(thread, i), false);
+                        index.index(coupon);
+                        written.add(coupon);
+                    }
+                    indexed.countDown();
+                    return written;
+                }));
+            }
+            rebuild.get(10, TimeUnit.SECONDS);
+
+            for (Future<List<Coupon>> writer : writers) {
+                for (Coupon coupon : writer.get()) {
+                    assertThat(index.findByCode(coupon.getCode().getValue())).isPresent();
+                }
+            }
+        }
+        assertThat(index.findByCode("STALE1")).isPresent();
+        assertThat(index.size()).isEqualTo(threads * couponsPerThread + 1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma carga enquanto outra ainda está em andamento")
+    void shouldRejectConcurrentLoads() {
+        index.rebuild(load ->
+                assertThatThrownBy(() -> index.rebuild(nested -> { })).isInstanceOf(IllegalStateException.class));
+
+        index.rebuild(load -> load.accept(coupon("AFTER1", false)));
+
+        assertThat(index.findByCode("AFTER1")).isPresent();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Coupon coupon(String code, boolean deleted) {
+        return Coupon.restore()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Cupom " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(5))
+                .published(true)
+                .deleted(deleted)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
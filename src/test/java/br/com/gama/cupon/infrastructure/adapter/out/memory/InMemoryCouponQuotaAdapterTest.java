@@ -0,0 +1,210 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCouponQuotaAdapterTest {
+
+    private static final int TOLERANCE = 32;
+
+    private final Map<UUID, Long> persisted = new ConcurrentHashMap<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final List<WriteBehindCouponRedemptionCounter> counters = new ArrayList<>();
+
+    // Fake do banco compartilhado pelas instâncias: cada lote é gravado inteiro ou nada
+    private final CouponRedemptionRepositoryPort database = new CouponRedemptionRepositoryPort() {
+        @Override
+        public synchronized void addRedemptions(Map<UUID, Long> redemptionsByCoupon) {
+            checkAvailable();
+            redemptionsByCoupon.forEach((couponId, count) -> persisted.merge(couponId, count, Long::sum));
+        }
+
+        @Override
+        public synchronized Map<UUID, Long> findRedemptionCounts(Collection<UUID> couponIds) {
+            checkAvailable();
+            Map<UUID, Long> counts = new HashMap<>();
+            couponIds.forEach(couponId -> {
+                if (persisted.containsKey(couponId)) {
+                    counts.put(couponId, persisted.get(couponId));
+                }
+            });
+            return counts;
+        }
+
+        private void checkAvailable() {
+            if (databaseDown.get()) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        databaseDown.set(false);
+        counters.forEach(WriteBehindCouponRedemptionCounter::close);
+    }
+
+    @Test
+    @DisplayName("Não deve conceder nenhum uso além do limite com muitas threads disputando o mesmo cupom")
+    void shouldNeverGrantMoreThanMaxUsesUnderContention() throws Exception {
+        Node node = node();
+        UUID couponId = UUID.randomUUID();
+        int maxUses = 20_000;
+
+        List<Long> remainings = redeemUntilExhausted(List.of(node), couponId, maxUses, 64);
+        node.counter().flush();
+
+        assertThat(remainings).hasSize(maxUses);
+        // Cada uso concedido viu um saldo diferente: nenhuma reserva foi contada duas vezes nem perdida
+        assertThat(Set.copyOf(remainings)).isEqualTo(LongStream.range(0, maxUses).boxed().collect(Collectors.toSet()));
+        assertThat(persisted.get(couponId)).isEqualTo(maxUses);
+        assertThat(node.quotas().tryReserve(couponId, maxUses)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Duas instâncias vendendo o mesmo cupom não devem passar do limite mais a tolerância")
+    void shouldBoundOversellAcrossInstancesByTheTolerance() throws Exception {
+        List<Node> nodes = List.of(node(), node());
+        UUID couponId = UUID.randomUUID();
+        int maxUses = 5_000;
+
+        List<Long> remainings = redeemUntilExhausted(nodes, couponId, maxUses, 64);
+        nodes.forEach(node -> node.counter().flush());
+
+        assertThat(remainings.size()).isBetween(maxUses, maxUses + TOLERANCE);
+        assertThat(persisted.get(couponId)).isEqualTo(remainings.size());
+    }
+
+    @Test
+    @DisplayName("Com o banco fora, deve parar na tolerância e, depois de uma queda, a nova instância deve reler o total gravado")
+    void shouldStopAtToleranceWhileDatabaseIsDownAndResyncAfterRestart() {
+        UUID couponId = UUID.randomUUID();
+        int maxUses = 100;
+        Node first = node();
+        for (int i = 0; i < 10; i++) {
+            redeem(first, couponId, maxUses);
+        }
+        first.counter().flush();
+        assertThat(persisted.get(couponId)).isEqualTo(10L);
+
+        databaseDown.set(true);
+        for (int i = 0; i < TOLERANCE; i++) {
+            assertThat(redeem(first, couponId, maxUses)).isPresent();
+        }
+        assertThatThrownBy(() -> first.quotas().tryReserve(couponId, maxUses))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // Queda: o flush final falha e as reservas não confirmadas se perdem
+        first.counter().close();
+        counters.remove(first.counter());
+        databaseDown.set(false);
+
+        Node restarted = node();
+        long grantedAfterRestart = 0;
+        while (redeem(restarted, couponId, maxUses).isPresent()) {
+            grantedAfterRestart++;
+        }
+        restarted.counter().flush();
+
+        assertThat(grantedAfterRestart).isEqualTo(maxUses - 10);
+        // Vendidos: os 10 gravados, a tolerância perdida na queda e os da nova instância, ou seja maxUses + TOLERANCE
+        assertThat(persisted.get(couponId)).isEqualTo(maxUses);
+    }
+
+    @Test
+    @DisplayName("Deve recusar tolerância menor que 1")
+    void shouldRejectNonPositiveTolerance() {
+        CouponRedemptionProperties properties = properties();
+        properties.setOversellTolerance(0);
+        WriteBehindCouponRedemptionCounter counter = new WriteBehindCouponRedemptionCounter(database, properties, new SimpleMeterRegistry());
+        counters.add(counter);
+
+        assertThatThrownBy(() -> new InMemoryCouponQuotaAdapter(database, counter, properties, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Cada thread resgata pela instância da vez até a cota acabar; 503 (cota esperando o banco) é tentado de novo
+    private List<Long> redeemUntilExhausted(List<Node> nodes, UUID couponId, int maxUses, int threads) throws Exception {
+        List<Long> remainings = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Node node = nodes.get(t % nodes.size());
+                workers.add(executor.submit(() -> {
+                    List<Long> granted = new ArrayList<>();
+                    start.await();
+                    while (true) {
+                        try {
+                            OptionalLong remaining = redeem(node, couponId, maxUses);
+                            if (remaining.isEmpty()) {
+                                return granted;
+                            }
+                            granted.add(remaining.getAsLong());
+                        } catch (DataAccessResourceFailureException e) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<List<Long>> worker : workers) {
+                remainings.addAll(worker.get());
+            }
+        }
+        return remainings;
+    }
+
+    // O que o RedeemCouponService faz: reserva e, se conseguiu, conta o resgate
+    private static OptionalLong redeem(Node node, UUID couponId, int maxUses) {
+        OptionalLong remaining = node.quotas().tryReserve(couponId, maxUses);
+        if (remaining.isPresent()) {
+            node.counter().increment(couponId);
+        }
+        return remaining;
+    }
+
+    private Node node() {
+        CouponRedemptionProperties properties = properties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WriteBehindCouponRedemptionCounter counter = new WriteBehindCouponRedemptionCounter(database, properties, meterRegistry);
+        counters.add(counter);
+        return new Node(counter, new InMemoryCouponQuotaAdapter(database, counter, properties, meterRegistry));
+    }
+
+    private static CouponRedemptionProperties properties() {
+        CouponRedemptionProperties properties = new CouponRedemptionProperties();
+        properties.setMaxUnflushedTime(Duration.ofMillis(5));
+        properties.setMaxUnflushedCount(1_000);
+        properties.setOversellTolerance(TOLERANCE);
+        return properties;
+    }
+
+    private record Node(WriteBehindCouponRedemptionCounter counter, InMemoryCouponQuotaAdapter quotas) {
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedCodeIndexTest {
+
+    @Test
+    @DisplayName("Deve inserir, substituir e remover entradas")
+    void shouldPutReplaceAndRemove() {
+        PackedCodeIndex index = new PackedCodeIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        assertThat(index.put(42L, first)).isNull();
+        assertThat(index.get(42L)).isEqualTo(first);
+        assertThat(index.put(42L, second)).isEqualTo(first);
+        assertThat(index.size()).isEqualTo(1);
+
+        assertThat(index.remove(42L, first)).isFalse();
+        assertThat(index.remove(42L, second)).isTrue();
+        assertThat(index.get(42L)).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve se comportar como um HashMap sob operações aleatórias com colisões e redimensionamento")
+    void shouldMatchHashMapUnderRandomOperations() {
+        Random random = new Random(20240601L);
+        PackedCodeIndex index = new PackedCodeIndex();
+        Map<Long, UUID> reference = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    UUID value = UUID.randomUUID();
+                    assertThat(index.put(key, value)).isEqualTo(reference.put(key, value));
+                }
+                case 1 -> assertThat(index.remove(key)).isEqualTo(reference.remove(key));
+                default -> assertThat(index.get(key)).isEqualTo(reference.get(key));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(reference.size());
+        reference.forEach((key, value) -> assertThat(index.get(key)).isEqualTo(value));
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.gama.cupon.infrastructure.adapter.out.memory;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindCouponRedemptionCounterTest {
+
+    private final Map<UUID, Long> persisted = new ConcurrentHashMap<>();
+    private final List<Map<UUID, Long>> batches = new ArrayList<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WriteBehindCouponRedemptionCounter counter;
+
+    // Fake do banco: grava o lote inteiro ou nada, como a transação do adapter JPA
+    private final CouponRedemptionRepositoryPort repository = new CouponRedemptionRepositoryPort() {
+        @Override
+        public void addRedemptions(Map<UUID, Long> redemptionsByCoupon) {
+            if (databaseDown.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            synchronized (batches) {
+                batches.add(Map.copyOf(redemptionsByCoupon));
+            }
+            redemptionsByCoupon.forEach((couponId, count) -> persisted.merge(couponId, count, Long::sum));
+        }
+
+        @Override
+        public Map<UUID, Long> findRedemptionCounts(Collection<UUID> couponIds) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (counter != null) {
+            counter.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve perder nem duplicar resgates do mesmo cupom feitos por muitas threads ao mesmo tempo")
+    void shouldCountConcurrentRedemptionsExactly() throws Exception {
+        counter = counter(Duration.ofMillis(10), 1_000, 0);
+        UUID hot = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        int threads = 32;
+        int redemptionsPerThread = 20_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < redemptionsPerThread; i++) {
+                        counter.increment(i % 10 == 0 ? cold : hot);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        counter.flush();
+
+        long total = (long) threads * redemptionsPerThread;
+        assertThat(persisted.get(cold)).isEqualTo(total / 10);
+        assertThat(persisted.get(hot)).isEqualTo(total - total / 10);
+        assertThat(batches.size()).isGreaterThan(1); // gravado em vários lotes durante a carga, não só no final
+    }
+
+    @Test
+    @DisplayName("Deve gravar antes do intervalo quando o número de resgates pendentes atinge o limite")
+    void shouldFlushEarlyWhenMaxUnflushedCountIsReached() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        counter = new WriteBehindCouponRedemptionCounter(repository, properties(Duration.ofHours(1), 100, 1), meterRegistry);
+        counter.addFlushListener(batch -> flushed.countDown());
+        UUID couponId = UUID.randomUUID();
+
+        for (int i = 0; i < 99; i++) {
+            counter.increment(couponId);
+        }
+        assertThat(flushed.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        counter.increment(couponId);
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(persisted.get(couponId)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote que falhou e somá-lo à próxima gravação")
+    void shouldRetryFailedBatchWithTheNextOne() {
+        counter = counter(Duration.ofHours(1), 10_000, 1);
+        UUID couponId = UUID.randomUUID();
+        counter.increment(couponId);
+        counter.increment(couponId);
+        databaseDown.set(true);
+
+        counter.flush();
+
+        assertThat(persisted).isEmpty();
+        assertThat(meterRegistry.get("coupon.redemption.flush.runs").tag("outcome", "failed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("coupon.redemption.unflushed").gauge().value()).isEqualTo(2.0);
+
+        databaseDown.set(false);
+        counter.increment(couponId);
+        counter.flush();
+
+        assertThat(persisted.get(couponId)).isEqualTo(3L);
+        assertThat(meterRegistry.get("coupon.redemption.flushed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("coupon.redemption.unflushed").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve avisar os listeners só dos lotes gravados e indicar no retorno se a gravação falhou")
+    void shouldNotifyListenersOnlyOfWrittenBatches() {
+        counter = counter(Duration.ofHours(1), 10_000, 1);
+        List<Map<UUID, Long>> notified = new ArrayList<>();
+        counter.addFlushListener(notified::add);
+        UUID couponId = UUID.randomUUID();
+        counter.increment(couponId);
+        databaseDown.set(true);
+
+        assertThat(counter.flush()).isFalse();
+        assertThat(notified).isEmpty();
+
+        databaseDown.set(false);
+        counter.increment(couponId);
+
+        assertThat(counter.flush()).isTrue();
+        assertThat(notified).containsExactly(Map.of(couponId, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve gravar os resgates pendentes no shutdown")
+    void shouldFlushPendingRedemptionsOnClose() {
+        counter = counter(Duration.ofHours(1), 10_000, 0);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        counter.increment(first);
+        counter.increment(second);
+        counter.increment(second);
+
+        counter.close();
+        counter = null;
+
+        assertThat(persisted).containsExactlyInAnyOrderEntriesOf(Map.of(first, 1L, second, 2L));
+        assertThat(batches).hasSize(1);
+    }
+
+    private WriteBehindCouponRedemptionCounter counter(Duration maxUnflushedTime, int maxUnflushedCount, int stripes) {
+        return new WriteBehindCouponRedemptionCounter(repository, properties(maxUnflushedTime, maxUnflushedCount, stripes), meterRegistry);
+    }
+
+    private static CouponRedemptionProperties properties(Duration maxUnflushedTime, int maxUnflushedCount, int stripes) {
+        CouponRedemptionProperties properties = new CouponRedemptionProperties();
+        properties.setMaxUnflushedTime(maxUnflushedTime);
+        properties.setMaxUnflushedCount(maxUnflushedCount);
+        properties.setStripes(stripes);
+        return properties;
+    }
+}
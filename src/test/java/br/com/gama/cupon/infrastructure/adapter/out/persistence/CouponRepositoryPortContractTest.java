@@ -0,0 +1,417 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comportamento esperado de qualquer {@link CouponRepositoryPort}. Cada adapter estende esta classe e fornece a
+ * instância a testar; os testes específicos de um adapter ficam na sua própria subclasse.
+ */
+public abstract class CouponRepositoryPortContractTest {
+
+    protected CouponRepositoryPort couponRepositoryPort;
+
+    protected abstract CouponRepositoryPort repository();
+
+    // Torna visíveis as escritas pendentes para consultas que não passam pelo mesmo caminho (ex.: JDBC sob o Hibernate)
+    protected void flush() {
+    }
+
+    @BeforeEach
+    void setUpRepository() {
+        couponRepositoryPort = repository();
+    }
+
+    @Test
+    @DisplayName("Deve salvar um novo cupom e recuperá-lo por ID")
+    void shouldSaveAndFindCouponById() {
+        Coupon coupon = Coupon.builder()
+                .code("SAVE01")
+                .description("Test Save")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+
+        Coupon savedCoupon = couponRepositoryPort.save(coupon);
+
+        assertThat(savedCoupon).isNotNull();
+        assertThat(savedCoupon.getId()).isNotNull();
+        assertThat(savedCoupon.getCode().getValue()).isEqualTo("SAVE01");
+
+        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(savedCoupon.getId());
+        assertThat(foundCoupon).isPresent();
+        assertThat(foundCoupon.get().getCode().getValue()).isEqualTo("SAVE01");
+        assertThat(foundCoupon.get().isDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar cupom por ID se estiver deletado")
+    void shouldNotFindDeletedCouponById() {
+        Coupon coupon = Coupon.builder()
+                .code("DEL001")
+                .description("Test Deleted")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .deleted(true)
+                .build();
+        couponRepositoryPort.save(coupon);
+
+        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(coupon.getId());
+        assertThat(foundCoupon).isNotPresent();
+    }
+
+    @Test
+    @DisplayName("Deve realizar soft delete em um cupom e não recuperá-lo por findById")
+    void shouldSoftDeleteCouponAndNotFindById() {
+        Coupon coupon = Coupon.builder()
+                .code("SOFTDL")
+                .description("Test Soft Delete")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+        Coupon savedCoupon = couponRepositoryPort.save(coupon);
+
+        savedCoupon.markAsDeleted();
+        couponRepositoryPort.save(savedCoupon);
+
+        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(savedCoupon.getId());
+        assertThat(foundCoupon).isNotPresent();
+    }
+
+    @Test
+    @DisplayName("Deve realizar soft delete com UPDATE condicional e não alterar cupom já deletado")
+    void shouldSoftDeleteByIdOnlyOnce() {
+        Coupon savedCoupon = couponRepositoryPort.create(Coupon.builder()
+                .code("SOFTID")
+                .description("Test Soft Delete By Id")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build());
+
+        assertThat(couponRepositoryPort.softDeleteById(savedCoupon.getId(), LocalDateTime.now())).isTrue();
+        assertThat(couponRepositoryPort.softDeleteById(savedCoupon.getId(), LocalDateTime.now())).isFalse();
+        assertThat(couponRepositoryPort.findById(savedCoupon.getId())).isNotPresent();
+        assertThat(couponRepositoryPort.findByIdIgnoringDeleted(savedCoupon.getId()))
+                .hasValueSatisfying(coupon -> assertThat(coupon.isDeleted()).isTrue());
+        assertThat(couponRepositoryPort.existsByIdIncludingDeleted(savedCoupon.getId())).isTrue();
+        assertThat(couponRepositoryPort.existsByIdIncludingDeleted(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar cupom por código")
+    void shouldFindCouponByCode() {
+        Coupon coupon = Coupon.builder()
+                .code("CODE01")
+                .description("Test Code Search")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+        couponRepositoryPort.save(coupon);
+
+        Optional<Coupon> foundCoupon = couponRepositoryPort.findByCode("CODE01");
+        assertThat(foundCoupon).isPresent();
+        assertThat(foundCoupon.get().getDescription()).isEqualTo("Test Code Search");
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar cupom por código se estiver deletado")
+    void shouldNotFindDeletedCouponByCode() {
+        Coupon coupon = Coupon.builder()
+                .code("CODEDEL")
+                .description("Test Deleted Code")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .deleted(true)
+                .build();
+        couponRepositoryPort.save(coupon);
+
+        Optional<Coupon> foundCoupon = couponRepositoryPort.findByCode("CODEDEL");
+        assertThat(foundCoupon).isNotPresent();
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas cupons não deletados")
+    void shouldListOnlyNonDeletedCoupons() {
+        Coupon coupon1 = Coupon.builder().code("CUPOM1").description("Cupom 1").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).build();
+        Coupon coupon2 = Coupon.builder().code("CUPOM2").description("Cupom 2").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).deleted(true).build(); // Deletado
+        Coupon coupon3 = Coupon.builder().code("CUPOM3").description("Cupom 3").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).build();
+
+        couponRepositoryPort.save(coupon1);
+        couponRepositoryPort.save(coupon2);
+        couponRepositoryPort.save(coupon3);
+
+        List<Coupon> activeCoupons = couponRepositoryPort.findAll();
+
+        assertThat(activeCoupons).hasSize(2);
+        assertThat(activeCoupons).extracting(c -> c.getCode().getValue()).containsExactlyInAnyOrder("CUPOM1", "CUPOM3");
+    }
+
+    @Test
+    @DisplayName("Deve inserir cupons em lote e encontrá-los depois")
+    void shouldInsertCouponsInBatch() {
+        List<Coupon> coupons = List.of(
+                Coupon.builder().code("BATCH1").description("Lote 1").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).build(),
+                Coupon.builder().code("BATCH2").description("Lote 2").discountValue(new BigDecimal("12.50")).expirationDate(LocalDate.now().plusDays(20)).published(false).build()
+        );
+
+        couponRepositoryPort.insertAll(coupons);
+
+        assertThat(couponRepositoryPort.findByCode("BATCH1")).isPresent();
+        assertThat(couponRepositoryPort.findById(coupons.get(1).getId()))
+                .hasValueSatisfying(coupon -> assertThat(coupon.getDiscountValue().getValue()).isEqualByComparingTo("12.50"));
+    }
+
+    @Test
+    @DisplayName("Deve pular no lote só os cupons cujo código já está em uso, devolvendo esses códigos")
+    void shouldSkipCouponsWhoseCodeIsTakenOnBatchInsert() {
+        couponRepositoryPort.save(Coupon.builder().code("TAKEN1").description("Já ativo").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build());
+        flush();
+        List<Coupon> coupons = List.of(
+                Coupon.builder().code("FREE01").description("Livre 1").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build(),
+                Coupon.builder().code("TAKEN1").description("Colide").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build(),
+                Coupon.builder().code("FREE02").description("Livre 2").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build());
+
+        Set<String> takenCodes = couponRepositoryPort.insertAll(coupons);
+
+        assertThat(takenCodes).containsExactly("TAKEN1");
+        assertThat(couponRepositoryPort.findById(coupons.get(0).getId())).isPresent();
+        assertThat(couponRepositoryPort.findById(coupons.get(1).getId())).isEmpty();
+        assertThat(couponRepositoryPort.findById(coupons.get(2).getId())).isPresent();
+        assertThat(couponRepositoryPort.findByCode("TAKEN1")).hasValueSatisfying(coupon -> assertThat(coupon.getDescription()).isEqualTo("Já ativo"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os códigos em uso por cupons ativos")
+    void shouldFindOnlyActiveCodes() {
+        couponRepositoryPort.save(Coupon.builder().code("ACTIV1").description("Ativo").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build());
+        couponRepositoryPort.save(Coupon.builder().code("GONE01").description("Deletado").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).deleted(true).build());
+        flush();
+
+        Set<String> activeCodes = couponRepositoryPort.findActiveCodes(List.of("ACTIV1", "GONE01", "NONE01"));
+
+        assertThat(activeCodes).containsExactly("ACTIV1");
+    }
+
+    @Test
+    @DisplayName("Deve percorrer apenas os cupons ativos, incluindo os já expirados")
+    void shouldStreamActiveCouponsIncludingExpired() {
+        couponRepositoryPort.save(Coupon.builder().code("STRM01").description("Ativo").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).build());
+        couponRepositoryPort.save(Coupon.builder().code("STRM02").description("Deletado").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).deleted(true).build());
+        saveEntity("STRM03", LocalDate.now().minusDays(1), false); // expirado
+
+        List<String> codes = new ArrayList<>();
+        couponRepositoryPort.forEachActive(coupon -> codes.add(coupon.getCode().getValue()));
+
+        assertThat(codes).containsExactlyInAnyOrder("STRM01", "STRM03");
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor sem repetir nem pular cupons, inclusive com createdAt empatado")
+    void shouldPageThroughCouponsWithKeysetCursor() {
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            coupons.add(Coupon.builder()
+                    .code(String.format("PAGE%02d", i))
+                    .description("Página " + i)
+                    .discountValue(new BigDecimal("10.00"))
+                    .expirationDate(LocalDate.now().plusDays(10))
+                    .published(true)
+                    .createdAt(base.minusMinutes(i / 2)) // pares de cupons com o mesmo createdAt
+                    .build());
+        }
+        couponRepositoryPort.insertAll(coupons);
+
+        List<String> seen = new ArrayList<>();
+        CouponPageCursor cursor = null;
+        List<Coupon> page;
+        do {
+            page = couponRepositoryPort.findPage(CouponSearchCriteria.NONE, cursor, 3);
+            page.forEach(coupon -> seen.add(coupon.getCode().getValue()));
+            cursor = page.isEmpty() ? null : CouponPageCursor.after(page.get(page.size() - 1));
+        } while (page.size() == 3);
+
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrder("PAGE00", "PAGE01", "PAGE02", "PAGE03", "PAGE04", "PAGE05", "PAGE06");
+        assertThat(seen.subList(0, 2)).containsExactlyInAnyOrder("PAGE00", "PAGE01");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros de publicação, expiração e desconto na listagem")
+    void shouldFilterPage() {
+        couponRepositoryPort.insertAll(List.of(
+                Coupon.builder().code("FILT01").description("Publicado barato").discountValue(new BigDecimal("5.00")).expirationDate(LocalDate.now().plusDays(5)).published(true).build(),
+                Coupon.builder().code("FILT02").description("Publicado caro").discountValue(new BigDecimal("50.00")).expirationDate(LocalDate.now().plusDays(5)).published(true).build(),
+                Coupon.builder().code("FILT03").description("Rascunho caro").discountValue(new BigDecimal("50.00")).expirationDate(LocalDate.now().plusDays(5)).published(false).build(),
+                Coupon.builder().code("FILT04").description("Publicado longo").discountValue(new BigDecimal("50.00")).expirationDate(LocalDate.now().plusDays(90)).published(true).build()));
+
+        CouponSearchCriteria criteria = new CouponSearchCriteria(true, LocalDate.now(), LocalDate.now().plusDays(30), new BigDecimal("10.00"), null);
+
+        assertThat(couponRepositoryPort.findPage(criteria, null, 10))
+                .extracting(coupon -> coupon.getCode().getValue())
+                .containsExactly("FILT02");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar os cupons ativos expirados e expirá-los em lote, liberando seus códigos")
+    void shouldFindAndExpireExpiredCoupons() {
+        UUID expired1 = saveEntity("EXPD01", LocalDate.now().minusDays(3), false);
+        UUID expired2 = saveEntity("EXPD02", LocalDate.now().minusDays(1), false);
+        saveEntity("EXPD03", LocalDate.now().minusDays(2), true); // já deletado
+        saveEntity("EXPD04", LocalDate.now(), false);             // expira hoje: ainda válido
+
+        assertThat(couponRepositoryPort.findExpiredActiveIds(LocalDate.now(), 1)).containsExactly(expired1);
+        List<UUID> expiredIds = couponRepositoryPort.findExpiredActiveIds(LocalDate.now(), 10);
+        assertThat(expiredIds).containsExactly(expired1, expired2);
+
+        assertThat(couponRepositoryPort.expireAllById(expiredIds, LocalDateTime.now())).isEqualTo(2);
+        assertThat(couponRepositoryPort.expireAllById(expiredIds, LocalDateTime.now())).isZero();
+        assertThat(couponRepositoryPort.findExpiredActiveIds(LocalDate.now(), 10)).isEmpty();
+        assertThat(couponRepositoryPort.findActiveCodes(List.of("EXPD01", "EXPD02", "EXPD04"))).containsExactly("EXPD04");
+    }
+
+    @Test
+    @DisplayName("O cupom expirado pela varredura deve continuar listado e deletável, com o código livre para outro cupom")
+    void shouldKeepExpiredCouponVisibleAndDeletable() {
+        UUID expired = saveEntity("EXPD05", LocalDate.now().minusDays(1), false);
+        couponRepositoryPort.expireAllById(List.of(expired), LocalDateTime.now());
+        flush();
+
+        assertThat(couponRepositoryPort.findById(expired)).get()
+                .extracting(Coupon::isDeleted).isEqualTo(false);
+        assertThat(couponRepositoryPort.findPage(CouponSearchCriteria.NONE, null, 10))
+                .extracting(Coupon::getId).contains(expired);
+        assertThat(couponRepositoryPort.findByCode("EXPD05")).isEmpty();
+
+        UUID reused = saveEntity("EXPD05", LocalDate.now().plusDays(10), false);
+        assertThat(couponRepositoryPort.findByCode("EXPD05")).get()
+                .extracting(Coupon::getId).isEqualTo(reused);
+
+        assertThat(couponRepositoryPort.softDeleteById(expired, LocalDateTime.now())).isTrue();
+        assertThat(couponRepositoryPort.softDeleteById(expired, LocalDateTime.now())).isFalse();
+        assertThat(couponRepositoryPort.findById(reused)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve arquivar cupons deletados e os expirados há mais tempo, tirando-os da tabela principal")
+    void shouldArchiveDeletedAndLongExpiredCoupons() {
+        UUID deleted = saveEntity("ARCH01", LocalDate.now().plusDays(5), true);
+        UUID longExpired = saveEntity("ARCH02", LocalDate.now().minusDays(400), false);
+        UUID active = saveEntity("ARCH03", LocalDate.now().plusDays(5), false);
+        couponRepositoryPort.expireAllById(List.of(longExpired), LocalDateTime.now()); // já passou pela varredura
+        LocalDateTime deletedBefore = LocalDateTime.now().plusSeconds(1);
+
+        assertThat(couponRepositoryPort.findArchivableIds(deletedBefore, null, 10)).containsExactly(deleted);
+        assertThat(couponRepositoryPort.findArchivableIds(LocalDateTime.now().minusDays(1), null, 10)).isEmpty();
+        List<UUID> archivable = couponRepositoryPort.findArchivableIds(deletedBefore, LocalDate.now().minusDays(365), 10);
+        assertThat(archivable).containsExactly(deleted, longExpired);
+
+        assertThat(couponRepositoryPort.archiveAll(archivable, LocalDateTime.now())).isEqualTo(2);
+
+        assertThat(couponRepositoryPort.findAll()).extracting(Coupon::getId).containsExactly(active);
+        assertThat(couponRepositoryPort.findByIdIgnoringDeleted(deleted)).isEmpty();
+        assertThat(couponRepositoryPort.findArchivedById(deleted)).get()
+                .satisfies(coupon -> {
+                    assertThat(coupon.getCode().getValue()).isEqualTo("ARCH01");
+                    assertThat(coupon.isDeleted()).isTrue();
+                });
+        assertThat(couponRepositoryPort.findArchivedById(active)).isEmpty();
+        assertThat(couponRepositoryPort.findById(longExpired)).isEmpty();
+        // O DELETE continua distinguindo cupom já removido (409) de cupom inexistente (404)
+        assertThat(couponRepositoryPort.existsByIdIncludingDeleted(deleted)).isTrue();
+        assertThat(couponRepositoryPort.existsByIdIncludingDeleted(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve deletar uma única vez o cupom expirado que foi arquivado ainda ativo")
+    void shouldSoftDeleteArchivedExpiredCouponOnlyOnce() {
+        UUID longExpired = saveEntity("ARCH04", LocalDate.now().minusDays(400), false);
+        couponRepositoryPort.archiveAll(List.of(longExpired), LocalDateTime.now());
+        assertThat(couponRepositoryPort.findArchivedById(longExpired)).get()
+                .extracting(Coupon::isDeleted).isEqualTo(false);
+
+        assertThat(couponRepositoryPort.softDeleteById(longExpired, LocalDateTime.now())).isTrue();
+        assertThat(couponRepositoryPort.softDeleteById(longExpired, LocalDateTime.now())).isFalse();
+
+        assertThat(couponRepositoryPort.findArchivedById(longExpired)).get()
+                .extracting(Coupon::isDeleted).isEqualTo(true);
+        assertThat(couponRepositoryPort.findById(longExpired)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer os cupons alterados desde um instante, inclusive os deletados e arquivados depois dele")
+    void shouldStreamCouponsChangedSince() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        Coupon unchanged = restored("CHNG01", since.minusDays(1));
+        Coupon changed = restored("CHNG02", LocalDateTime.now());
+        Coupon deletedLater = restored("CHNG03", since.minusDays(1));
+        Coupon archivedLater = restored("CHNG04", since.minusDays(1));
+        couponRepositoryPort.insertAll(List.of(unchanged, changed, deletedLater, archivedLater));
+        couponRepositoryPort.softDeleteById(deletedLater.getId(), LocalDateTime.now());
+        couponRepositoryPort.softDeleteById(archivedLater.getId(), LocalDateTime.now());
+        couponRepositoryPort.archiveAll(List.of(archivedLater.getId()), LocalDateTime.now());
+        flush();
+
+        List<Coupon> changes = new ArrayList<>();
+        couponRepositoryPort.forEachChangedSince(since, changes::add);
+
+        assertThat(changes).extracting(Coupon::getId)
+                .contains(changed.getId(), deletedLater.getId(), archivedLater.getId())
+                .doesNotContain(unchanged.getId());
+        assertThat(changes).filteredOn(coupon -> !coupon.getId().equals(changed.getId()))
+                .allSatisfy(coupon -> assertThat(coupon.isDeleted()).isTrue());
+    }
+
+    // Cupom já persistido (pode estar expirado ou deletado), gravado como um cupom novo
+    private UUID saveEntity(String code, LocalDate expirationDate, boolean deleted) {
+        UUID id = UUID.randomUUID();
+        couponRepositoryPort.create(Coupon.restore()
+                .id(id)
+                .code(code)
+                .description("Expiração " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(expirationDate)
+                .published(true)
+                .deleted(deleted)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        return id;
+    }
+
+    private static Coupon restored(String code, LocalDateTime updatedAt) {
+        return Coupon.restore()
+                .id(UUID.randomUUID())
+                .code(code)
+                .description("Alteração " + code)
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .deleted(false)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.cache;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCouponRepositoryAdapterTest {
+
+    @Mock
+    private CouponRepositoryPort delegate;
+
+    private CachingCouponRepositoryAdapter cachingAdapter;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        CouponCacheProperties properties = new CouponCacheProperties();
+        properties.setPolicy(CouponCachePolicy.LRU);
+        properties.setMaximumSize(1);
+        properties.setNegativeTtl(Duration.ofMinutes(1));
+        cachingAdapter = new CachingCouponRepositoryAdapter(delegate, properties);
+
+        coupon = Coupon.builder()
+                .id(UUID.randomUUID())
+                .code("CACHE1")
+                .description("Cached coupon")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório apenas uma vez para o mesmo id")
+    void shouldServeRepeatedLookupsByIdFromCache() {
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenReturn(Optional.of(coupon));
+
+        assertThat(cachingAdapter.findByIdIgnoringDeleted(coupon.getId())).isPresent();
+        assertThat(cachingAdapter.findByIdIgnoringDeleted(coupon.getId())).isPresent();
+
+        verify(delegate, times(1)).findByIdIgnoringDeleted(coupon.getId());
+        assertThat(cachingAdapter.idCacheStats().hits()).isEqualTo(1);
+        assertThat(cachingAdapter.idCacheStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve expor a instância armazenada em cache para mutação")
+    void shouldReturnDefensiveCopies() {
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenReturn(Optional.of(coupon));
+        cachingAdapter.findByIdIgnoringDeleted(coupon.getId());
+
+        cachingAdapter.findByIdIgnoringDeleted(coupon.getId()).orElseThrow().markAsDeleted();
+
+        assertThat(cachingAdapter.findByIdIgnoringDeleted(coupon.getId()).orElseThrow().isDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter em cache buscas negativas por código")
+    void shouldCacheNegativeCodeLookups() {
+        when(delegate.findByCode("NONE01")).thenReturn(Optional.empty());
+
+        assertThat(cachingAdapter.findByCode("NONE01")).isEmpty();
+        assertThat(cachingAdapter.findByCode("NONE01")).isEmpty();
+
+        verify(delegate, times(1)).findByCode("NONE01");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar id e código ao salvar")
+    void shouldInvalidateBothKeysOnSave() {
+        when(delegate.findByCode("CACHE1")).thenReturn(Optional.empty());
+        when(delegate.save(any(Coupon.class))).thenReturn(coupon);
+        cachingAdapter.findByCode("CACHE1");
+
+        cachingAdapter.save(coupon);
+        when(delegate.findByCode("CACHE1")).thenReturn(Optional.of(coupon));
+
+        assertThat(cachingAdapter.findByCode("CACHE1")).isPresent();
+        verify(delegate, times(2)).findByCode("CACHE1");
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache a leitura que correu junto com um soft delete")
+    void shouldDiscardLoadRacingWithSoftDelete() {
+        Coupon deleted = Coupon.restore()
+                .id(coupon.getId())
+                .code("CACHE1")
+                .description("Cached coupon")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .deleted(true)
+                .build();
+        // A leitura vê o cupom ativo, mas o soft delete commita e invalida antes de ela gravar no cache
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenAnswer(invocation -> {
+            cachingAdapter.softDeleteById(coupon.getId(), LocalDateTime.now());
+            return Optional.of(coupon);
+        }).thenReturn(Optional.of(deleted));
+
+        assertThat(cachingAdapter.findById(coupon.getId())).isPresent();
+
+        assertThat(cachingAdapter.findById(coupon.getId())).isEmpty();
+        verify(delegate, times(2)).findByIdIgnoringDeleted(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("Deve manter em cache a leitura que correu junto com a invalidação de outro cupom")
+    void shouldKeepLoadRacingWithInvalidationOfAnotherKey() {
+        // Muda só o bit mais baixo do hash: o outro id cai garantidamente em outra faixa de geração
+        UUID otherId = new UUID(coupon.getId().getMostSignificantBits(), coupon.getId().getLeastSignificantBits() ^ 1);
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenAnswer(invocation -> {
+            cachingAdapter.softDeleteById(otherId, LocalDateTime.now());
+            return Optional.of(coupon);
+        });
+
+        assertThat(cachingAdapter.findById(coupon.getId())).isPresent();
+        assertThat(cachingAdapter.findById(coupon.getId())).isPresent();
+
+        verify(delegate, times(1)).findByIdIgnoringDeleted(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache o cupom lido por código enquanto ele era deletado")
+    void shouldDiscardCodeLoadRacingWithSoftDelete() {
+        when(delegate.findByCode("CACHE1")).thenAnswer(invocation -> {
+            cachingAdapter.softDeleteById(coupon.getId(), LocalDateTime.now());
+            return Optional.of(coupon);
+        });
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenReturn(Optional.empty());
+
+        assertThat(cachingAdapter.findByCode("CACHE1")).isPresent();
+
+        assertThat(cachingAdapter.findByIdIgnoringDeleted(coupon.getId())).isEmpty();
+        verify(delegate, times(1)).findByIdIgnoringDeleted(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar evictions ao exceder o tamanho máximo")
+    void shouldCountEvictionsWhenFull() {
+        Coupon other = Coupon.builder()
+                .id(UUID.randomUUID())
+                .code("CACHE2")
+                .description("Other coupon")
+                .discountValue(new BigDecimal("5.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .build();
+        when(delegate.findByIdIgnoringDeleted(coupon.getId())).thenReturn(Optional.of(coupon));
+        when(delegate.findByIdIgnoringDeleted(other.getId())).thenReturn(Optional.of(other));
+
+        cachingAdapter.findByIdIgnoringDeleted(coupon.getId());
+        cachingAdapter.findByIdIgnoringDeleted(other.getId());
+
+        assertThat(cachingAdapter.idCacheStats().evictions()).isEqualTo(1);
+        assertThat(cachingAdapter.idCacheStats().size()).isEqualTo(1);
+    }
+}
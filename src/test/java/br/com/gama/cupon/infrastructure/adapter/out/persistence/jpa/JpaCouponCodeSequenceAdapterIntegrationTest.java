@@ -0,0 +1,66 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.model.CouponCodeSequence;
+import br.com.gama.cupon.domain.port.out.CouponCodeSequencePort;
+import br.com.gama.cupon.infrastructure.config.CouponCodeGeneratorConfig;
+import br.com.gama.cupon.infrastructure.config.CouponCodeGeneratorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaCouponCodeSequenceAdapter.class)
+@ActiveProfiles("test")
+class JpaCouponCodeSequenceAdapterIntegrationTest {
+
+    @Autowired
+    private CouponCodeSequencePort couponCodeSequencePort;
+
+    @Test
+    @DisplayName("A posição deve ser criada no primeiro avanço e nunca recuar")
+    void shouldCreateThenOnlyAdvancePosition() {
+        assertThat(couponCodeSequencePort.findPosition("node-0-of-2")).isEmpty();
+
+        couponCodeSequencePort.advance("node-0-of-2", 2000);
+        couponCodeSequencePort.advance("node-0-of-2", 1000); // bloco anterior confirmado depois
+
+        assertThat(couponCodeSequencePort.findPosition("node-0-of-2")).hasValue(2000);
+        assertThat(couponCodeSequencePort.findPosition("node-1-of-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Após um restart, a sequência do nó deve continuar depois do último bloco gravado")
+    void shouldResumeSequenceAfterRestart() {
+        CouponCodeGeneratorProperties properties = new CouponCodeGeneratorProperties();
+        properties.setKey(42L);
+        properties.setNodeIndex(1);
+        properties.setNodeCount(3);
+        CouponCodeGeneratorConfig config = new CouponCodeGeneratorConfig();
+
+        CouponCodeSequence beforeRestart = config.couponCodeSequence(properties, couponCodeSequencePort);
+        Set<String> codesBeforeRestart = new HashSet<>();
+        for (int chunk = 0; chunk < 3; chunk++) {
+            CouponCodeSequence.Reservation reservation = beforeRestart.reserve(100);
+            for (long index = reservation.from(); index < reservation.to(); index++) {
+                codesBeforeRestart.add(beforeRestart.codeAt(index));
+            }
+            couponCodeSequencePort.advance(beforeRestart.getName(), reservation.to());
+        }
+
+        CouponCodeSequence afterRestart = config.couponCodeSequence(properties, couponCodeSequencePort);
+        CouponCodeSequence.Reservation reservation = afterRestart.reserve(100);
+
+        assertThat(reservation.from()).isEqualTo(beforeRestart.getStart() + 300);
+        for (long index = reservation.from(); index < reservation.to(); index++) {
+            assertThat(codesBeforeRestart).doesNotContain(afterRestart.codeAt(index));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.port.out.CouponRedemptionRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaCouponRedemptionAdapter.class, CouponBatchProperties.class})
+@ActiveProfiles("test")
+class JpaCouponRedemptionAdapterIntegrationTest {
+
+    @Autowired
+    private CouponRedemptionRepositoryPort couponRedemptionRepositoryPort;
+
+    @Autowired
+    private CouponBatchProperties couponBatchProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve criar a linha do cupom no primeiro lote e somar os lotes seguintes ao total")
+    void shouldCreateThenAccumulateRedemptionCounts() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        couponRedemptionRepositoryPort.addRedemptions(Map.of(first, 3L));
+        couponRedemptionRepositoryPort.addRedemptions(Map.of(first, 2L, second, 7L));
+
+        assertThat(redemptionsOf(first)).isEqualTo(5L);
+        assertThat(redemptionsOf(second)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar lotes maiores que o chunk do JDBC")
+    void shouldWriteBatchesLargerThanTheJdbcChunk() {
+        couponBatchProperties.setChunkSize(10);
+        Map<UUID, Long> batch = new HashMap<>();
+        for (int i = 1; i <= 25; i++) {
+            batch.put(UUID.randomUUID(), (long) i);
+        }
+
+        couponRedemptionRepositoryPort.addRedemptions(batch);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupon_redemptions", Long.class)).isEqualTo(25L);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(redemption_count) FROM coupon_redemptions", Long.class)).isEqualTo(325L);
+    }
+
+    @Test
+    @DisplayName("Deve ler os totais gravados só dos cupons pedidos, omitindo os que não têm resgates")
+    void shouldFindRedemptionCountsOfRequestedCoupons() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        couponRedemptionRepositoryPort.addRedemptions(Map.of(first, 3L, second, 7L, other, 1L));
+
+        assertThat(couponRedemptionRepositoryPort.findRedemptionCounts(List.of(first, second, UUID.randomUUID())))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(first, 3L, second, 7L));
+        assertThat(couponRedemptionRepositoryPort.findRedemptionCounts(List.of())).isEmpty();
+    }
+
+    private long redemptionsOf(UUID couponId) {
+        return jdbcTemplate.queryForObject("SELECT redemption_count FROM coupon_redemptions WHERE coupon_id = ?", Long.class, couponId);
+    }
+}
@@ -2,7 +2,10 @@ package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
 
 import br.com.gama.cupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.model.CouponPageCursor;
+import br.com.gama.cupon.domain.model.CouponSearchCriteria;
 import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.CouponRepositoryPortContractTest;
 import br.com.gama.cupon.infrastructure.config.AuditConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,123 +13,49 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest // Configura um banco de dados em memória (H2 por padrão)
-@Import({JpaCouponRepositoryAdapter.class, AuditConfig.class}) // Importa o Adapter e a configuração de auditoria
+@Import({JpaCouponRepositoryAdapter.class, CouponBatchProperties.class, AuditConfig.class}) // Importa o Adapter e a configuração de auditoria
 @ActiveProfiles("test") // Ativa o perfil de teste, para carregar application-test.yml se existir
-class JpaCouponRepositoryAdapterIntegrationTest {
+class JpaCouponRepositoryAdapterIntegrationTest extends CouponRepositoryPortContractTest {
 
     @Autowired
-    private CouponRepositoryPort couponRepositoryPort;
+    private JpaCouponRepositoryAdapter jpaCouponRepositoryAdapter;
 
     @Autowired
     private JpaCouponRepository jpaCouponRepository;
 
-    @BeforeEach
-    void setUp() {
-        jpaCouponRepository.deleteAllInBatch(); // Garante um estado limpo antes de cada teste
-    }
-
-    @Test
-    @DisplayName("Deve salvar um novo cupom e recuperá-lo por ID")
-    void shouldSaveAndFindCouponById() {
-        Coupon coupon = Coupon.builder()
-                .code("SAVE01")
-                .description("Test Save")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(true)
-                .build();
-
-        Coupon savedCoupon = couponRepositoryPort.save(coupon);
-
-        assertThat(savedCoupon).isNotNull();
-        assertThat(savedCoupon.getId()).isNotNull();
-        assertThat(savedCoupon.getCode().getValue()).isEqualTo("SAVE01");
-
-        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(savedCoupon.getId());
-        assertThat(foundCoupon).isPresent();
-        assertThat(foundCoupon.get().getCode().getValue()).isEqualTo("SAVE01");
-        assertThat(foundCoupon.get().isDeleted()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Não deve encontrar cupom por ID se estiver deletado")
-    void shouldNotFindDeletedCouponById() {
-        Coupon coupon = Coupon.builder()
-                .code("DEL001")
-                .description("Test Deleted")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(true)
-                .deleted(true)
-                .build();
-        couponRepositoryPort.save(coupon);
-
-        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(coupon.getId());
-        assertThat(foundCoupon).isNotPresent();
-    }
-
-    @Test
-    @DisplayName("Deve realizar soft delete em um cupom e não recuperá-lo por findById")
-    void shouldSoftDeleteCouponAndNotFindById() {
-        Coupon coupon = Coupon.builder()
-                .code("SOFTDL")
-                .description("Test Soft Delete")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(true)
-                .build();
-        Coupon savedCoupon = couponRepositoryPort.save(coupon);
-
-        savedCoupon.markAsDeleted();
-        couponRepositoryPort.save(savedCoupon);
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
-        Optional<Coupon> foundCoupon = couponRepositoryPort.findById(savedCoupon.getId());
-        assertThat(foundCoupon).isNotPresent();
+    @Override
+    protected CouponRepositoryPort repository() {
+        return jpaCouponRepositoryAdapter;
     }
 
-    @Test
-    @DisplayName("Deve encontrar cupom por código")
-    void shouldFindCouponByCode() {
-        Coupon coupon = Coupon.builder()
-                .code("CODE01")
-                .description("Test Code Search")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(true)
-                .build();
-        couponRepositoryPort.save(coupon);
-
-        Optional<Coupon> foundCoupon = couponRepositoryPort.findByCode("CODE01");
-        assertThat(foundCoupon).isPresent();
-        assertThat(foundCoupon.get().getDescription()).isEqualTo("Test Code Search");
+    // As consultas JDBC puro não disparam o flush automático do Hibernate
+    @Override
+    protected void flush() {
+        jpaCouponRepository.flush();
     }
 
-    @Test
-    @DisplayName("Não deve encontrar cupom por código se estiver deletado")
-    void shouldNotFindDeletedCouponByCode() {
-        Coupon coupon = Coupon.builder()
-                .code("CODEDEL")
-                .description("Test Deleted Code")
-                .discountValue(new BigDecimal("10.00"))
-                .expirationDate(LocalDate.now().plusDays(10))
-                .published(true)
-                .deleted(true)
-                .build();
-        couponRepositoryPort.save(coupon);
-
-        Optional<Coupon> foundCoupon = couponRepositoryPort.findByCode("CODEDEL");
-        assertThat(foundCoupon).isNotPresent();
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAllInBatch(); // Garante um estado limpo antes de cada teste
     }
 
     @Test
@@ -155,19 +84,59 @@ class JpaCouponRepositoryAdapterIntegrationTest {
     }
 
     @Test
-    @DisplayName("Deve listar apenas cupons não deletados")
-    void shouldListOnlyNonDeletedCoupons() {
-        Coupon coupon1 = Coupon.builder().code("CUPOM1").description("Cupom 1").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).build();
-        Coupon coupon2 = Coupon.builder().code("CUPOM2").description("Cupom 2").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).deleted(true).build(); // Deletado
-        Coupon coupon3 = Coupon.builder().code("CUPOM3").description("Cupom 3").discountValue(new BigDecimal("10.00")).expirationDate(LocalDate.now().plusDays(10)).published(true).build();
+    @DisplayName("Deve gravar e ler o limite de usos, inclusive depois de arquivar o cupom")
+    void shouldRoundTripMaxUsesThroughArchive() {
+        Coupon coupon = couponRepositoryPort.create(Coupon.builder()
+                .code("LIMIT1")
+                .description("Limited")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .maxUses(50)
+                .build());
+        flush();
+
+        assertThat(couponRepositoryPort.findById(coupon.getId())).get()
+                .extracting(Coupon::getMaxUses).isEqualTo(50);
+
+        couponRepositoryPort.softDeleteById(coupon.getId(), LocalDateTime.now());
+        couponRepositoryPort.archiveAll(List.of(coupon.getId()), LocalDateTime.now());
 
-        couponRepositoryPort.save(coupon1);
-        couponRepositoryPort.save(coupon2);
-        couponRepositoryPort.save(coupon3);
+        assertThat(couponRepositoryPort.findArchivedById(coupon.getId())).get()
+                .extracting(Coupon::getMaxUses).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("A página de cupons deve ler só as linhas da página pelo índice, sem ordenar todos os ativos")
+    void shouldReadOnlyOnePageOfRowsThroughTheIndex() {
+        List<Coupon> coupons = IntStream.range(0, 2_000)
+                .mapToObj(i -> Coupon.builder()
+                        .code("P%05d".formatted(i))
+                        .description("Page " + i)
+                        .discountValue(new BigDecimal("10.00"))
+                        .expirationDate(LocalDate.now().plusDays(10))
+                        .published(i % 2 == 0)
+                        .createdAt(LocalDateTime.now().minusSeconds(i))
+                        .build())
+                .toList();
+        couponRepositoryPort.insertAll(coupons);
+        Coupon last = couponRepositoryPort.findPage(CouponSearchCriteria.NONE, null, 50).getLast();
+
+        assertPageReadThroughIndex(JpaCouponRepositoryAdapter.pageQuery(CouponSearchCriteria.NONE, null, 50),
+                "IX_COUPONS_DELETED_CREATED_ID");
+        assertPageReadThroughIndex(JpaCouponRepositoryAdapter.pageQuery(CouponSearchCriteria.NONE, CouponPageCursor.after(last), 50),
+                "IX_COUPONS_DELETED_CREATED_ID");
+        assertPageReadThroughIndex(JpaCouponRepositoryAdapter.pageQuery(new CouponSearchCriteria(true, null, null, null, null), null, 50),
+                "IX_COUPONS_DELETED_PUBLISHED_CREATED_ID");
+    }
 
-        List<Coupon> activeCoupons = ((JpaCouponRepositoryAdapter) couponRepositoryPort).findAll(); // Chamada específica do adapter
+    // EXPLAIN ANALYZE do H2: índice usado, ordem vinda do índice ("index sorted") e linhas lidas (scanCount)
+    private void assertPageReadThroughIndex(JpaCouponRepositoryAdapter.PageQuery query, String indexName) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + query.sql(), String.class, query.args());
+        Matcher scanCount = Pattern.compile("scanCount: (\\d+)").matcher(plan);
 
-        assertThat(activeCoupons).hasSize(2);
-        assertThat(activeCoupons).extracting(c -> c.getCode().getValue()).containsExactlyInAnyOrder("CUPOM1", "CUPOM3");
+        assertThat(plan).contains("PUBLIC." + indexName + ":").contains("/* index sorted */");
+        assertThat(scanCount.find()).isTrue();
+        assertThat(Integer.parseInt(scanCount.group(1))).isLessThanOrEqualTo(51);
     }
 }
@@ -0,0 +1,91 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.infrastructure.config.AuditConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // Habilita a contagem de statements
+@Import({JpaCouponRepositoryAdapter.class, CouponBatchProperties.class, AuditConfig.class})
+@ActiveProfiles("test")
+class JpaCouponRepositoryAdapterStatementCountTest {
+
+    @Autowired
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Criar um cupom deve custar um único INSERT, sem SELECT prévio por id")
+    void createShouldIssueSingleInsert() {
+        couponRepositoryPort.create(newCoupon("ONEINS"));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Salvar um cupom com id atribuído passa pelo merge (SELECT + INSERT)")
+    void saveShouldStillMergeExistingPath() {
+        couponRepositoryPort.save(newCoupon("MERGE1"));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Soft delete deve custar um único UPDATE condicional")
+    void softDeleteShouldIssueSingleUpdate() {
+        Coupon coupon = couponRepositoryPort.create(newCoupon("DELONE"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        boolean deleted = couponRepositoryPort.softDeleteById(coupon.getId(), LocalDateTime.now());
+
+        assertThat(deleted).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(couponRepositoryPort.softDeleteById(coupon.getId(), LocalDateTime.now())).isFalse();
+    }
+
+    private Coupon newCoupon(String code) {
+        return Coupon.builder()
+                .code(code)
+                .description("Contagem de statements")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+    }
+}
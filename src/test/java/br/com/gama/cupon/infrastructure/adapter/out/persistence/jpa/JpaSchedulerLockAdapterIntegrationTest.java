@@ -0,0 +1,61 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa;
+
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaSchedulerLockAdapter.class)
+@ActiveProfiles("test")
+class JpaSchedulerLockAdapterIntegrationTest {
+
+    private static final Duration LOCK_FOR = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockPort schedulerLockPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Só um nó deve obter o lock até que ele seja liberado")
+    void shouldGrantLockToASingleOwnerUntilReleased() {
+        assertThat(schedulerLockPort.tryAcquire("job", "node-a", LOCK_FOR)).isTrue();
+        assertThat(schedulerLockPort.tryAcquire("job", "node-b", LOCK_FOR)).isFalse();
+        assertThat(schedulerLockPort.tryAcquire("other-job", "node-b", LOCK_FOR)).isTrue();
+
+        schedulerLockPort.release("job", "node-a");
+
+        assertThat(schedulerLockPort.tryAcquire("job", "node-b", LOCK_FOR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Um nó não deve liberar o lock de outro")
+    void shouldNotReleaseLockHeldByAnotherOwner() {
+        assertThat(schedulerLockPort.tryAcquire("job", "node-a", LOCK_FOR)).isTrue();
+
+        schedulerLockPort.release("job", "node-b");
+
+        assertThat(schedulerLockPort.tryAcquire("job", "node-b", LOCK_FOR)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Um lock vencido (nó que caiu sem liberar) deve poder ser adquirido por outro nó")
+    void shouldTakeOverExpiredLock() {
+        assertThat(schedulerLockPort.tryAcquire("job", "node-a", LOCK_FOR)).isTrue();
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = ? WHERE name = 'job'", LocalDateTime.now().minusSeconds(1));
+
+        assertThat(schedulerLockPort.tryAcquire("job", "node-b", LOCK_FOR)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT locked_by FROM scheduler_locks WHERE name = 'job'", String.class)).isEqualTo("node-b");
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap;
+
+import br.com.gama.cupon.domain.exception.InvalidCouponException;
+import br.com.gama.cupon.domain.model.Coupon;
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.CouponRepositoryPortContractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCouponRepositoryAdapterTest extends CouponRepositoryPortContractTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedCouponRepositoryAdapter adapter;
+
+    @Override
+    protected CouponRepositoryPort repository() {
+        adapter = open(DataSize.ofMegabytes(1));
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ID repetido e código em uso por cupom ativo, liberando o código após o delete")
+    void shouldRejectDuplicateIdAndActiveCode() {
+        Coupon coupon = adapter.create(newCoupon("UNIQ01"));
+
+        assertThatThrownBy(() -> adapter.create(coupon))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> adapter.create(newCoupon("UNIQ01")))
+                .isInstanceOf(InvalidCouponException.class)
+                .hasMessage("Coupon code 'UNIQ01' is already in use by another active coupon.");
+
+        adapter.softDeleteById(coupon.getId(), LocalDateTime.now());
+
+        assertThat(adapter.create(newCoupon("UNIQ01")).getCode().getValue()).isEqualTo("UNIQ01");
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o estado ao reabrir o log: ativos, deletados e arquivados")
+    void shouldReplayLogOnReopen() {
+        Coupon active = adapter.create(newCoupon("KEEP01"));
+        Coupon deleted = adapter.create(newCoupon("KEEP02"));
+        Coupon archived = adapter.create(newCoupon("KEEP03"));
+        adapter.softDeleteById(deleted.getId(), LocalDateTime.now());
+        adapter.softDeleteById(archived.getId(), LocalDateTime.now());
+        adapter.archiveAll(List.of(archived.getId()), LocalDateTime.now());
+        long garbage = adapter.garbageBytes();
+
+        reopen(DataSize.ofMegabytes(1));
+
+        assertThat(adapter.findById(active.getId())).get()
+                .satisfies(coupon -> {
+                    assertThat(coupon.getCode().getValue()).isEqualTo("KEEP01");
+                    assertThat(coupon.getDescription()).isEqualTo("Cupom KEEP01 — ação");
+                    assertThat(coupon.getDiscountValue().getValue()).isEqualByComparingTo("12.34");
+                    assertThat(coupon.getCreatedAt()).isEqualTo(active.getCreatedAt());
+                });
+        assertThat(adapter.findByIdIgnoringDeleted(deleted.getId()))
+                .hasValueSatisfying(coupon -> assertThat(coupon.isDeleted()).isTrue());
+        assertThat(adapter.findByIdIgnoringDeleted(archived.getId())).isEmpty();
+        assertThat(adapter.findArchivedById(archived.getId())).isPresent();
+        assertThat(adapter.findActiveCodes(List.of("KEEP01", "KEEP02", "KEEP03"))).containsExactly("KEEP01");
+        assertThat(adapter.garbageBytes()).isEqualTo(garbage);
+    }
+
+    @Test
+    @DisplayName("Deve compactar o log mantendo o estado atual e descartando os registros substituídos")
+    void shouldCompactKeepingCurrentState() throws IOException {
+        Coupon coupon = adapter.create(newCoupon("COMP01"));
+        Coupon deleted = adapter.create(newCoupon("COMP02"));
+        for (int i = 0; i < 10; i++) {
+            adapter.save(coupon);
+        }
+        adapter.softDeleteById(deleted.getId(), LocalDateTime.now());
+        assertThat(adapter.garbageBytes()).isPositive();
+
+        adapter.compact();
+
+        assertThat(adapter.garbageBytes()).isZero();
+        assertThat(adapter.findById(coupon.getId())).isPresent();
+        assertThat(adapter.findByIdIgnoringDeleted(deleted.getId()))
+                .hasValueSatisfying(found -> assertThat(found.isDeleted()).isTrue());
+        assertThat(Files.exists(tempDir.resolve("coupons.log.compacting"))).isFalse();
+
+        reopen(DataSize.ofMegabytes(1));
+
+        assertThat(adapter.findAll()).extracting(Coupon::getId).containsExactly(coupon.getId());
+        assertThat(adapter.existsByIdIncludingDeleted(deleted.getId())).isTrue();
+        assertThat(adapter.garbageBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar um registro incompleto no fim do log e continuar gravando depois dele")
+    void shouldDiscardCorruptTail() throws IOException {
+        Coupon first = adapter.create(newCoupon("TAIL01"));
+        Coupon second = adapter.create(newCoupon("TAIL02"));
+        adapter.close();
+
+        // Simula uma escrita interrompida: altera um byte da descrição do segundo registro, invalidando o checksum
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("coupons.log"), StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 0);
+            int secondOffset = length.flip().getInt();
+            channel.write(ByteBuffer.wrap(new byte[]{'#'}), secondOffset + MappedCouponLog.HEADER_SIZE);
+        }
+        adapter = open(DataSize.ofMegabytes(1));
+
+        assertThat(adapter.findById(first.getId())).isPresent();
+        assertThat(adapter.findById(second.getId())).isEmpty();
+        Coupon third = adapter.create(newCoupon("TAIL02"));
+
+        reopen(DataSize.ofMegabytes(1));
+
+        assertThat(adapter.findAll()).extracting(Coupon::getId).containsExactlyInAnyOrder(first.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("Deve compactar quando o log enche e falhar só quando os dados vivos não cabem mais")
+    void shouldCompactWhenFullAndFailWhenLiveDataDoesNotFit() throws IOException {
+        // Um arquivo existente é mapeado pelo tamanho que já tem: a capacidade menor exige um log novo
+        adapter.close();
+        Files.delete(tempDir.resolve("coupons.log"));
+        adapter = open(DataSize.ofBytes(1024));
+        Coupon coupon = adapter.create(newCoupon("FULL00"));
+        for (int i = 0; i < 50; i++) {
+            adapter.save(coupon); // cada save substitui o anterior: o espaço volta na compactação
+        }
+        assertThat(adapter.findById(coupon.getId())).isPresent();
+
+        assertThatThrownBy(() -> {
+            for (int i = 1; i < 50; i++) {
+                adapter.create(newCoupon(String.format("FULL%02d", i)));
+            }
+        })
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("is full");
+        assertThat(adapter.findById(coupon.getId())).isPresent();
+    }
+
+    private MappedCouponRepositoryAdapter open(DataSize capacity) {
+        MappedCouponStoreProperties properties = new MappedCouponStoreProperties();
+        properties.setPath(tempDir.resolve("coupons.log"));
+        properties.setCapacity(capacity);
+        return new MappedCouponRepositoryAdapter(properties);
+    }
+
+    private void reopen(DataSize capacity) {
+        adapter.close();
+        adapter = open(capacity);
+    }
+
+    @Test
+    @DisplayName("Deve recusar cupom com limite de usos, que o registro do log não guarda")
+    void shouldRejectCouponWithMaxUses() {
+        Coupon limited = Coupon.builder()
+                .code("LIMIT1")
+                .description("Limited")
+                .discountValue(new BigDecimal("10.00"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .maxUses(10)
+                .build();
+
+        assertThatThrownBy(() -> adapter.create(limited))
+                .isInstanceOf(InvalidCouponException.class)
+                .hasMessage("Coupons with max uses are not supported by the mmap coupon store.");
+    }
+
+    private static Coupon newCoupon(String code) {
+        return Coupon.builder()
+                .code(code)
+                .description("Cupom " + code + " — ação")
+                .discountValue(new BigDecimal("12.34"))
+                .expirationDate(LocalDate.now().plusDays(10))
+                .published(true)
+                .build();
+    }
+}
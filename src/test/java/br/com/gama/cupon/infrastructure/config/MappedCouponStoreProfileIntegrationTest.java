@@ -0,0 +1,95 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.domain.port.out.CouponRepositoryPort;
+import br.com.gama.cupon.domain.port.out.SchedulerLockPort;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.memory.InProcessSchedulerLockAdapter;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.mmap.MappedCouponRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "mmap"})
+class MappedCouponStoreProfileIntegrationTest {
+
+    @TempDir
+    static Path storeDir;
+
+    @DynamicPropertySource
+    static void storeProperties(DynamicPropertyRegistry registry) {
+        registry.add("coupon.store.mmap.path", () -> storeDir.resolve("coupons.log").toString());
+        registry.add("coupon.store.mmap.capacity", () -> "4MB");
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Autowired
+    private SchedulerLockPort schedulerLockPort;
+
+    @Test
+    @DisplayName("O profile mmap deve usar o log mapeado em memória, sem DataSource nem JPA")
+    void shouldUseMappedStoreWithoutDatabase() {
+        assertThat(couponRepositoryPort).isInstanceOf(MappedCouponRepositoryAdapter.class);
+        assertThat(schedulerLockPort).isInstanceOf(InProcessSchedulerLockAdapter.class);
+        assertThat(applicationContext.getBeanNamesForType(DataSource.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve criar, listar e remover um cupom com o profile mmap ativo")
+    void shouldCreateListAndDeleteCoupon() {
+        CouponResponseDTO created = webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "code", "MMAP01",
+                        "description", "Mapped coupon",
+                        "discountValue", "10.00",
+                        "expirationDate", LocalDate.now().plusDays(10).toString(),
+                        "published", true))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CouponResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(created).isNotNull();
+        webTestClient.get().uri("/api/v1/coupons")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].code").isEqualTo("MMAP01");
+
+        webTestClient.delete().uri("/api/v1/coupons/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri("/api/v1/coupons/{id}", created.getId())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+}
@@ -12,7 +12,8 @@ import org.springframework.context.ApplicationContext;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-@SpringBootTest
+// Sem o profile test: desliga o snapshot para o contexto não gravar arquivo no diretório do projeto
+@SpringBootTest(properties = "coupon.index.snapshot.enabled=false")
 class OpenApiConfigTest {
 
     @Autowired
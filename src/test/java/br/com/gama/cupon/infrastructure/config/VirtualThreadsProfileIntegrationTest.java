@@ -0,0 +1,95 @@
+package br.com.gama.cupon.infrastructure.config;
+
+import br.com.gama.cupon.infrastructure.adapter.in.web.bulk.CouponImportProperties;
+import br.com.gama.cupon.infrastructure.adapter.in.web.dto.CouponResponseDTO;
+import br.com.gama.cupon.infrastructure.adapter.out.persistence.jpa.JpaCouponRepository;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadsProfileIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private CouponImportProperties importProperties;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        jpaCouponRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("O profile virtual-threads deve atender requisições do Tomcat e importações em virtual threads")
+    void shouldUseVirtualThreadsForTomcatAndImports() {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+        assertThat(importProperties.isVirtualThreads()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve criar e remover um cupom com o profile virtual-threads ativo")
+    void shouldCreateAndDeleteCoupon() {
+        CouponResponseDTO created = webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "code", "VTHRD1",
+                        "description", "Virtual thread coupon",
+                        "discountValue", "10.00",
+                        "expirationDate", LocalDate.now().plusDays(10).toString(),
+                        "published", true))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CouponResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(created).isNotNull();
+        webTestClient.delete().uri("/api/v1/coupons/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("Deve importar um CSV com os estágios do pipeline em virtual threads")
+    void shouldImportCsvOnVirtualThreads() {
+        String expiration = LocalDate.now().plusDays(10).toString();
+        String csv = "code,description,discountValue,expirationDate,published\n"
+                + "VTIMP1,First,10.00," + expiration + ",true\n"
+                + "VTIMP2,Second,5.00," + expiration + ",false\n";
+
+        webTestClient.post().uri("/api/v1/coupons/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("COMPLETED")
+                .jsonPath("$.created").isEqualTo(2);
+    }
+}
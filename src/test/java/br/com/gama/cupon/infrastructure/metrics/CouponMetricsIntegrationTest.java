@@ -0,0 +1,60 @@
+package br.com.gama.cupon.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability // Sem isso os testes usam um registry simples e o endpoint Prometheus não é exposto
+@ActiveProfiles("test")
+class CouponMetricsIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Deve expor latência por use case e por método do repositório, exceções, pool e Hibernate")
+    void shouldExposeCouponMetricsInPrometheusFormat() {
+        webTestClient.post().uri("/api/v1/coupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "code", "METRC1",
+                        "description", "Metrics coupon",
+                        "discountValue", "10.00",
+                        "expirationDate", LocalDate.now().plusDays(10).toString(),
+                        "published", true))
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.delete().uri("/api/v1/coupons/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+
+        String scrape = webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(scrape)
+                .contains("coupon_usecase_seconds_bucket{class=\"CreateCouponService\",exception=\"none\",method=\"createCoupon\"")
+                .contains("coupon_usecase_seconds_count{class=\"DeleteCouponService\",exception=\"CouponNotFoundException\",method=\"deleteCoupon\"}")
+                .contains("coupon_repository_seconds_bucket{class=\"JpaCouponRepositoryAdapter\",exception=\"none\",method=\"create\"")
+                .contains("coupon_exceptions_total{exception=\"CouponNotFoundException\"}")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total");
+    }
+}